@@ -0,0 +1,123 @@
+package org.ideaccum.libs.commons.message;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * ベンチマークで利用するメッセージリソースを生成するクラスです。<br>
+ * <p>
+ * メッセージコードは"MSG"に6桁の連番を付与した形式で、メッセージレベルは連番ごとに順に割り当てられます。<br>
+ * メッセージ内容は2つのバインドスロットを持つASCII文字列となります。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+final class BenchmarkResources {
+
+	/** メッセージレベルサフィックス */
+	private static final char[] SUFFIXES = { 'E', 'W', 'I', 'D', 'T', 'H' };
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	private BenchmarkResources() {
+		super();
+	}
+
+	/**
+	 * 連番に該当するメッセージコードを取得します。<br>
+	 * @param index 連番
+	 * @return メッセージコード
+	 */
+	static String code(int index) {
+		return String.format("MSG%06d", index);
+	}
+
+	/**
+	 * 連番に該当する定義メッセージコードを取得します。<br>
+	 * @param index 連番
+	 * @return 定義メッセージコード
+	 */
+	static String defineCode(int index) {
+		return code(index) + "-" + SUFFIXES[index % SUFFIXES.length];
+	}
+
+	/**
+	 * 連番に該当する定義メッセージ内容を取得します。<br>
+	 * @param index 連番
+	 * @return 定義メッセージ内容
+	 */
+	static String define(int index) {
+		return "Message " + index + " for {0} was processed in {1} ms";
+	}
+
+	/**
+	 * 指定件数のメッセージを定義したメッセージリソースを一時ディレクトリに生成します。<br>
+	 * @param directory 出力先ディレクトリ
+	 * @param entries メッセージ件数
+	 * @param format リソース形式("properties"、"xml"又は、"mbin")
+	 * @return メッセージリソースパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	static String write(File directory, int entries, String format) throws IOException {
+		if ("mbin".equals(format)) {
+			String source = write(directory, entries, "properties");
+			String path = new File(directory, "messages-" + entries + MessagesCompiler.EXTENSION).getAbsolutePath();
+			MessagesCompiler.compile(path, Arrays.asList(source));
+			return path;
+		}
+		File file = new File(directory, "messages-" + entries + "." + format);
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.ISO_8859_1);
+		try {
+			if ("xml".equals(format)) {
+				writer.write("<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?>\n<messages>\n");
+				for (int i = 0; i <= entries - 1; i++) {
+					writer.write("<message code=\"" + defineCode(i) + "\" value=\"" + define(i) + "\"/>\n");
+				}
+				writer.write("</messages>\n");
+			} else {
+				for (int i = 0; i <= entries - 1; i++) {
+					writer.write(defineCode(i) + "=" + define(i) + "\n");
+				}
+			}
+		} finally {
+			writer.close();
+		}
+		return file.getAbsolutePath();
+	}
+
+	/**
+	 * 一時ディレクトリを生成します。<br>
+	 * @return 一時ディレクトリ
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	static File createDirectory() throws IOException {
+		File directory = File.createTempFile("messages-benchmark", "");
+		if (!directory.delete() || !directory.mkdir()) {
+			throw new IOException("Failed to create directory (" + directory + ")");
+		}
+		return directory;
+	}
+
+	/**
+	 * 一時ディレクトリを削除します。<br>
+	 * @param directory 一時ディレクトリ
+	 */
+	static void deleteDirectory(File directory) {
+		File[] files = directory.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+		directory.delete();
+	}
+}
@@ -0,0 +1,103 @@
+package org.ideaccum.libs.commons.message;
+
+import java.util.concurrent.TimeUnit;
+
+import org.ideaccum.libs.commons.util.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * メッセージ内容編集のベンチマークです。<br>
+ * <p>
+ * バインドスロット数(0、1、5、20)ごとに、メッセージ内容の取得と編集バッファへの追記を計測します。<br>
+ * 比較のため、テンプレート導入前のバインドスロットごとの文字列置換による編集も計測します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageRenderBenchmark {
+
+	/** バインドスロット数 */
+	@Param({ "0", "1", "5", "20" })
+	public int binds;
+
+	/** 定義メッセージ内容 */
+	private String define;
+
+	/** メッセージ */
+	private Message message;
+
+	/** バインドオブジェクト */
+	private Object[] values;
+
+	/** 編集バッファ */
+	private StringBuilder buffer;
+
+	/**
+	 * メッセージ及び、バインドオブジェクトを準備します。<br>
+	 */
+	@Setup
+	public void setup() {
+		StringBuilder builder = new StringBuilder("Processing");
+		values = new Object[binds];
+		for (int i = 0; i <= binds - 1; i++) {
+			builder.append(" item{").append(i).append("}");
+			values[i] = i % 2 == 0 ? "value" + i : Integer.valueOf(i * 1000);
+		}
+		builder.append(" completed.");
+		define = builder.toString();
+		message = new Message("MSG0001-I", define);
+		buffer = new StringBuilder(256);
+	}
+
+	/**
+	 * メッセージ内容を取得します。<br>
+	 * @return メッセージ内容
+	 */
+	@Benchmark
+	public String getMessage() {
+		return message.getMessage(values);
+	}
+
+	/**
+	 * 再利用する編集バッファにメッセージ内容を追記します。<br>
+	 * @return 編集バッファ
+	 */
+	@Benchmark
+	public StringBuilder appendMessage() {
+		buffer.setLength(0);
+		return message.appendMessage(buffer, values);
+	}
+
+	/**
+	 * テンプレート導入前と同様にバインドスロットごとの文字列置換でメッセージ内容を編集します。<br>
+	 * @return メッセージ内容
+	 */
+	@Benchmark
+	public String replace() {
+		String result = define;
+		for (int i = 0; i <= values.length - 1; i++) {
+			String value = values[i] == null ? "" : values[i].toString();
+			result = StringUtil.replace(result, "{" + i + "}", value);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,87 @@
+package org.ideaccum.libs.commons.message;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * メッセージリソース読み込みのベンチマークです。<br>
+ * <p>
+ * メッセージ件数(1,000件、100,000件)及び、リソース形式(プロパティ、XML、メッセージバンドル)ごとに、新規のメッセージ定義情報への読み込みを計測します。<br>
+ * プールを利用する場合(pooled)は読み込みごとに新規のメッセージプールを利用するため、以前の読み込みで共有化されたメッセージは再利用されません。<br>
+ * プールへの集約ではメッセージテンプレートの共有のためにメッセージ内容が解決されるため、メッセージバンドルの遅延解決の効果は集約しない場合(plain)で計測して下さい。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessagesLoadBenchmark {
+
+	/** メッセージ件数 */
+	@Param({ "1000", "100000" })
+	public int entries;
+
+	/** リソース形式 */
+	@Param({ "properties", "xml", "mbin" })
+	public String format;
+
+	/** メッセージプールの利用有無(plain:利用しない、pooled:利用する) */
+	@Param({ "plain", "pooled" })
+	public String pool;
+
+	/** 一時ディレクトリ */
+	private File directory;
+
+	/** メッセージリソースパス */
+	private String path;
+
+	/**
+	 * メッセージリソースを生成します。<br>
+	 * @throws Exception 生成に失敗した場合にスローされます
+	 */
+	@Setup
+	public void setup() throws Exception {
+		directory = BenchmarkResources.createDirectory();
+		path = BenchmarkResources.write(directory, entries, format);
+	}
+
+	/**
+	 * 一時ディレクトリを削除します。<br>
+	 */
+	@TearDown
+	public void tearDown() {
+		BenchmarkResources.deleteDirectory(directory);
+	}
+
+	/**
+	 * 新規のメッセージ定義情報にメッセージリソースを読み込みます。<br>
+	 * @return メッセージ定義情報
+	 */
+	@Benchmark
+	public Messages load() {
+		if ("pooled".equals(pool)) {
+			return Messages.create(false, MessagePool.create()).load(path);
+		}
+		return Messages.create(false).load(path);
+	}
+}
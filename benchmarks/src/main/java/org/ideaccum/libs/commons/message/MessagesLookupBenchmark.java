@@ -0,0 +1,147 @@
+package org.ideaccum.libs.commons.message;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * メッセージ取得のベンチマークです。<br>
+ * <p>
+ * 存在するメッセージコード及び、存在しないメッセージコードでの取得を、メッセージ定義情報の保持形態ごとに計測します。<br>
+ * </p>
+ * <pre>
+ * local         : 個別のメッセージ定義情報に読み込まれたメッセージを取得
+ * inheritGlobal : 個別のメッセージ定義情報に存在せず、グローバルメッセージ定義情報から継承したメッセージを取得
+ * layered       : 親階層のメッセージ定義情報から継承したメッセージを取得
+ * </pre>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessagesLookupBenchmark {
+
+	/** メッセージ件数 */
+	private static final int ENTRIES = 1000;
+
+	/** 存在するメッセージのメッセージキー */
+	private static final MessageKey HIT_KEY = MessageKey.of(BenchmarkResources.code(ENTRIES / 2));
+
+	/** 存在しないメッセージのメッセージキー */
+	private static final MessageKey MISS_KEY = MessageKey.of(BenchmarkResources.code(ENTRIES * 10));
+
+	/** メッセージ定義情報の保持形態 */
+	@Param({ "local", "inheritGlobal", "layered" })
+	public String scope;
+
+	/** 存在するメッセージコード */
+	private String hitCode;
+
+	/** 存在する定義メッセージコード */
+	private String hitDefineCode;
+
+	/** 存在しないメッセージコード */
+	private String missCode;
+
+	/** 一時ディレクトリ */
+	private File directory;
+
+	/** メッセージ定義情報 */
+	private Messages messages;
+
+	/**
+	 * メッセージ定義情報を準備します。<br>
+	 * @throws Exception 準備に失敗した場合にスローされます
+	 */
+	@Setup
+	public void setup() throws Exception {
+		directory = BenchmarkResources.createDirectory();
+		String path = BenchmarkResources.write(directory, ENTRIES, "properties");
+		if ("inheritGlobal".equals(scope)) {
+			Messages.global().load(path);
+			messages = Messages.create(true);
+		} else if ("layered".equals(scope)) {
+			Messages parent = Messages.create(false);
+			parent.load(path);
+			messages = Messages.create(parent);
+		} else {
+			messages = Messages.create(false);
+			messages.load(path);
+		}
+		hitCode = BenchmarkResources.code(ENTRIES / 2);
+		hitDefineCode = BenchmarkResources.defineCode(ENTRIES / 2);
+		missCode = BenchmarkResources.code(ENTRIES * 10);
+	}
+
+	/**
+	 * 一時ディレクトリを削除します。<br>
+	 */
+	@TearDown
+	public void tearDown() {
+		BenchmarkResources.deleteDirectory(directory);
+	}
+
+	/**
+	 * 存在するメッセージコードでメッセージを取得します。<br>
+	 * @return メッセージ
+	 */
+	@Benchmark
+	public Message hit() {
+		return messages.get(hitCode);
+	}
+
+	/**
+	 * 存在する定義メッセージコード(レベルサフィックス付き)でメッセージを取得します。<br>
+	 * @return メッセージ
+	 */
+	@Benchmark
+	public Message hitDefineCode() {
+		return messages.get(hitDefineCode);
+	}
+
+	/**
+	 * 存在しないメッセージコードでメッセージを取得します。<br>
+	 * @return メッセージ(null)
+	 */
+	@Benchmark
+	public Message miss() {
+		return messages.get(missCode);
+	}
+
+	/**
+	 * 存在するメッセージのメッセージキーでメッセージを取得します。<br>
+	 * @return メッセージ
+	 */
+	@Benchmark
+	public Message hitKey() {
+		return messages.get(HIT_KEY);
+	}
+
+	/**
+	 * 存在しないメッセージのメッセージキーでメッセージを取得します。<br>
+	 * @return メッセージ(null)
+	 */
+	@Benchmark
+	public Message missKey() {
+		return messages.get(MISS_KEY);
+	}
+}
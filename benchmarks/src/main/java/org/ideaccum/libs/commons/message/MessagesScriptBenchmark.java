@@ -0,0 +1,144 @@
+package org.ideaccum.libs.commons.message;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * メッセージ操作用スクリプト生成のベンチマークです。<br>
+ * <p>
+ * メッセージ件数(1,000件、100,000件)ごとに、スクリプト内容の生成及び、キャッシュされたスクリプト内容の出力(出力ストリーム、文字出力ストリーム)を計測します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessagesScriptBenchmark {
+
+	/** 出力内容を破棄する出力ストリーム */
+	private static final OutputStream DISCARD = new OutputStream() {
+		@Override
+		public void write(int b) {
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+		}
+	};
+
+	/** 出力内容を破棄する文字出力ストリーム */
+	private static final PrintWriter DISCARD_WRITER = new PrintWriter(new Writer() {
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	});
+
+	/** メッセージ件数 */
+	@Param({ "1000", "100000" })
+	public int entries;
+
+	/** 一時ディレクトリ */
+	private File directory;
+
+	/** メッセージ定義情報 */
+	private Messages messages;
+
+	/** スクリプトライブラリ */
+	private String library;
+
+	/** 出力対象メッセージ */
+	private List<Message> values;
+
+	/**
+	 * メッセージ定義情報を準備します。<br>
+	 * @throws Exception 準備に失敗した場合にスローされます
+	 */
+	@Setup
+	public void setup() throws Exception {
+		directory = BenchmarkResources.createDirectory();
+		messages = Messages.create(false, MessagePool.create());
+		messages.load(BenchmarkResources.write(directory, entries, "properties"));
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		Messages.writeScriptLibrary(stream, false);
+		library = new String(stream.toByteArray(), StandardCharsets.UTF_8);
+		values = new ArrayList<>(entries);
+		for (MessageLevel level : MessageLevel.values()) {
+			values.addAll(messages.values(level));
+		}
+	}
+
+	/**
+	 * 一時ディレクトリを削除します。<br>
+	 */
+	@TearDown
+	public void tearDown() {
+		BenchmarkResources.deleteDirectory(directory);
+	}
+
+	/**
+	 * スクリプト内容を生成します(キャッシュは利用しません)。<br>
+	 * @return スクリプト内容
+	 * @throws Exception 生成に失敗した場合にスローされます
+	 */
+	@Benchmark
+	public MessagesExport script() throws Exception {
+		return MessagesExport.script(library, values);
+	}
+
+	/**
+	 * キャッシュされたスクリプト内容を出力します。<br>
+	 * @return メッセージ定義情報
+	 * @throws Exception 出力に失敗した場合にスローされます
+	 */
+	@Benchmark
+	public Messages writeScript() throws Exception {
+		messages.writeScript(DISCARD, false);
+		return messages;
+	}
+
+	/**
+	 * キャッシュされたスクリプト内容を文字出力ストリームに出力します。<br>
+	 * @return メッセージ定義情報
+	 * @throws Exception 出力に失敗した場合にスローされます
+	 */
+	@Benchmark
+	public Messages writeScriptWriter() throws Exception {
+		messages.writeScript(DISCARD_WRITER);
+		return messages;
+	}
+}
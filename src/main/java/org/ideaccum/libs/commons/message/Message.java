@@ -1,9 +1,15 @@
 package org.ideaccum.libs.commons.message;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.CharBuffer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.ideaccum.libs.commons.message.exception.IllegalMessageCodeException;
-import org.ideaccum.libs.commons.util.Loop;
 import org.ideaccum.libs.commons.util.StringUtil;
 
 /**
@@ -16,18 +22,39 @@ import org.ideaccum.libs.commons.util.StringUtil;
  *<!--
  * 更新日      更新者           更新内容
  * 2018/06/14  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         メッセージ定義内容を事前解析したテンプレートによるバインド処理に変更
+ * 2026/10/17  Kitagawa         事前コンパイルされたメッセージバンドルからの遅延解決に対応
+ * 2026/10/17  Kitagawa         出力先を指定したメッセージ内容の出力({@link #appendMessage(StringBuilder, Object...)})を追加
+ * 2026/10/17  Kitagawa         プール({@link MessagePool})によるメッセージコード及び、メッセージテンプレートの共有に対応
+ * 2026/10/17  Kitagawa         利用状況の計測({@link MessagesMetrics})に対応
+ * 2026/10/17  Kitagawa         存在しないメッセージコードに対する代替メッセージの生成を追加
+ * 2026/10/17  Kitagawa         名前付きバインドスロットへのバインド({@link #getMessage(Map)})を追加
+ * 2026/10/17  Kitagawa         等価比較及び、ハッシュコード算出でメッセージバンドルのエントリを解決しないよう変更
+ * 2026/10/17  Kitagawa         存在しないメッセージコードに対する代替メッセージをキャッシュするよう変更
  *-->
  */
 public final class Message implements Serializable {
 
+	/** 代替メッセージキャッシュ上限 */
+	private static final int PLACEHOLDER_CACHE_LIMIT = 1024;
+
+	/** 代替メッセージキャッシュ */
+	private static final ConcurrentMap<String, Message> PLACEHOLDERS = new ConcurrentHashMap<>();
+
 	/** メッセージコード */
 	private String code;
 
 	/** メッセージレベル */
 	private MessageLevel level;
 
-	/** メッセージ内容 */
-	private String message;
+	/** メッセージテンプレート(メッセージ内容を保持) */
+	private volatile MessageTemplate template;
+
+	/** 遅延解決元メッセージバンドル */
+	private transient volatile MessageBundle bundle;
+
+	/** 遅延解決元メッセージバンドルエントリインデックス */
+	private transient int entry;
 
 	/**
 	 * コンストラクタ<br>
@@ -42,7 +69,109 @@ public final class Message implements Serializable {
 		String buffer = defineCode.trim();
 		this.code = buffer.substring(0, buffer.lastIndexOf('-'));
 		this.level = MessageLevel.levelOf(defineCode);
-		this.message = defineMessage;
+		this.template = MessageTemplate.compile(defineMessage);
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * 事前コンパイルされたメッセージバンドルのエントリとして生成し、メッセージ内容は初回利用時に解決します。<br>
+	 * @param code レベルサフィックスを持たないメッセージコード
+	 * @param level メッセージレベル
+	 * @param bundle 遅延解決元メッセージバンドル
+	 * @param entry 遅延解決元メッセージバンドルエントリインデックス
+	 */
+	Message(String code, MessageLevel level, MessageBundle bundle, int entry) {
+		super();
+		this.code = code;
+		this.level = level;
+		this.entry = entry;
+		this.bundle = bundle;
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * @param code レベルサフィックスを持たないメッセージコード
+	 * @param level メッセージレベル
+	 * @param template メッセージテンプレート
+	 */
+	private Message(String code, MessageLevel level, MessageTemplate template) {
+		super();
+		this.code = code;
+		this.level = level;
+		this.template = template;
+	}
+
+	/**
+	 * 存在しないメッセージコードに対する代替メッセージを取得します。<br>
+	 * 代替メッセージはメッセージコードを"???"で囲んだ内容を持ち、メッセージレベルは{@link MessageLevel#UNKOWN}となります。<br>
+	 * 代替メッセージはメッセージコードごとにキャッシュされ、キャッシュ上限件数を超えたメッセージコードに対してのみ都度生成されます。<br>
+	 * @param code メッセージコード
+	 * @return 代替メッセージ
+	 */
+	static Message placeholder(String code) {
+		Message placeholder = code == null ? null : PLACEHOLDERS.get(code);
+		if (placeholder == null) {
+			String define = "???" + code + "???";
+			placeholder = new Message(code, MessageLevel.UNKOWN, MessageTemplate.of(define, new String[] { define }, new int[0]));
+			if (code != null && PLACEHOLDERS.size() < PLACEHOLDER_CACHE_LIMIT) {
+				Message cached = PLACEHOLDERS.putIfAbsent(code, placeholder);
+				placeholder = cached == null ? placeholder : cached;
+			}
+		}
+		return placeholder;
+	}
+
+	/**
+	 * メッセージテンプレートを取得します。<br>
+	 * メッセージバンドルからの遅延解決対象の場合は初回呼び出し時に解決します。<br>
+	 * @return メッセージテンプレート
+	 */
+	MessageTemplate getTemplate() {
+		MessageTemplate template = this.template;
+		if (template == null) {
+			MessageBundle bundle = this.bundle;
+			if (bundle == null) {
+				// 他スレッドで解決済み(テンプレート設定後にバンドル参照が解放される)
+				return this.template;
+			}
+			template = bundle.readTemplate(entry);
+			this.template = template;
+			this.bundle = null;
+		}
+		return template;
+	}
+
+	/**
+	 * メッセージコード及び、メッセージテンプレートを同一内容の共有インスタンスに差し替えます。<br>
+	 * {@link Messages}に公開される前のメッセージに対してのみ利用します。<br>
+	 * @param code 同一内容の共有メッセージコード
+	 * @param template 同一内容の共有メッセージテンプレート
+	 */
+	void share(String code, MessageTemplate template) {
+		this.code = code;
+		this.template = template;
+		this.bundle = null;
+	}
+
+	/**
+	 * 計測が有効な場合にメッセージ内容の編集を計数します。<br>
+	 */
+	private void rendered() {
+		MessagesMetrics metrics = MessagesMetrics.active();
+		if (metrics != null) {
+			metrics.render(code);
+		}
+	}
+
+	/**
+	 * シリアライズ処理を行います。<br>
+	 * 遅延解決対象のメッセージ内容はシリアライズ前に解決します。<br>
+	 * @param stream 出力ストリーム
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private void writeObject(ObjectOutputStream stream) throws IOException {
+		getTemplate();
+		stream.defaultWriteObject();
 	}
 
 	/**
@@ -57,7 +186,7 @@ public final class Message implements Serializable {
 		builder.append(" - ");
 		builder.append(code);
 		builder.append(" | ");
-		builder.append(message);
+		builder.append(getDefine());
 		return builder.toString();
 	}
 
@@ -72,7 +201,7 @@ public final class Message implements Serializable {
 		int result = 1;
 		result = prime * result + ((code == null) ? 0 : code.hashCode());
 		result = prime * result + ((level == null) ? 0 : level.hashCode());
-		result = prime * result + ((message == null) ? 0 : message.hashCode());
+		// メッセージバンドルのエントリを解決しないよう、メッセージ内容はハッシュコードに含めない
 		return result;
 	}
 
@@ -103,16 +232,39 @@ public final class Message implements Serializable {
 		if (level != other.level) {
 			return false;
 		}
+		MessageBundle bundle = this.bundle;
+		if (bundle != null && bundle == other.bundle && entry == other.entry) {
+			// 同一メッセージバンドルの同一エントリは解決せずに等価とする
+			return true;
+		}
+		String message = peekDefine();
 		if (message == null) {
-			if (other.message != null) {
+			if (other.peekDefine() != null) {
 				return false;
 			}
-		} else if (!message.equals(other.message)) {
+		} else if (!message.equals(other.peekDefine())) {
 			return false;
 		}
 		return true;
 	}
 
+	/**
+	 * メッセージテンプレートを解決せずに定義メッセージ内容を取得します。<br>
+	 * メッセージバンドルの未解決エントリは定義メッセージ内容のみを読み込みます。<br>
+	 * @return 定義メッセージ内容
+	 */
+	private String peekDefine() {
+		MessageTemplate template = this.template;
+		if (template == null) {
+			MessageBundle bundle = this.bundle;
+			if (bundle != null) {
+				return bundle.readDefine(entry);
+			}
+			template = this.template;
+		}
+		return template.getDefine();
+	}
+
 	/**
 	 * 有効なメッセージ定義コードであるか判定します。<br>
 	 * サフィックスにメッセージレベルを保持した形式(コード+"-"+メッセージレベル文字)であるかの判定を行います。<br>
@@ -179,7 +331,7 @@ public final class Message implements Serializable {
 	 * @return 動的値バインド前の定義メッセージ文字列
 	 */
 	public String getDefine() {
-		return message;
+		return getTemplate().getDefine();
 	}
 
 	/**
@@ -188,12 +340,120 @@ public final class Message implements Serializable {
 	 * @return メッセージ内容
 	 */
 	public String getMessage(Object... binds) {
-		String buffer = message;
-		for (Loop<Object> loop : Loop.each(binds)) {
-			int index = loop.index();
-			String value = loop.value() == null ? "" : loop.value().toString();
-			buffer = StringUtil.replace(buffer, "{" + index + "}", value);
+		rendered();
+		return getTemplate().render(binds);
+	}
+
+	/**
+	 * 名前をキーとしたバインドオブジェクトをバインドしたメッセージ内容を取得します。<br>
+	 * 名前付きバインドスロット({name})はスロット名、インデックスのバインドスロット({n})はインデックスの文字列表記をキーとして値が取得されます。<br>
+	 * @param binds 名前をキーとしたバインドオブジェクト
+	 * @return メッセージ内容
+	 */
+	public String getMessage(Map<String, ?> binds) {
+		rendered();
+		return getTemplate().render(binds);
+	}
+
+	/**
+	 * メッセージ内容を文字列バッファに追加します。<br>
+	 * メッセージ内容は中間文字列を生成せずに直接追加されます。<br>
+	 * @param builder 出力先文字列バッファ
+	 * @param binds バインドオブジェクト
+	 * @return 出力先文字列バッファ
+	 */
+	public StringBuilder appendMessage(StringBuilder builder, Object... binds) {
+		rendered();
+		getTemplate().render(builder, binds);
+		return builder;
+	}
+
+	/**
+	 * 名前をキーとしたバインドオブジェクトをバインドしたメッセージ内容を文字列バッファに追加します。<br>
+	 * メッセージ内容は中間文字列を生成せずに直接追加されます。<br>
+	 * @param builder 出力先文字列バッファ
+	 * @param binds 名前をキーとしたバインドオブジェクト
+	 * @return 出力先文字列バッファ
+	 */
+	public StringBuilder appendMessage(StringBuilder builder, Map<String, ?> binds) {
+		rendered();
+		getTemplate().render(builder, null, binds == null ? Collections.<String, Object> emptyMap() : binds);
+		return builder;
+	}
+
+	/**
+	 * メッセージ内容を出力先に追加します。<br>
+	 * メッセージ内容は中間文字列を生成せずに直接追加されます(書式付きバインドスロットの値は値ごとに書式化した文字列を追加します)。<br>
+	 * @param <A> 出力先型
+	 * @param appendable 出力先
+	 * @param binds バインドオブジェクト
+	 * @return 出力先
+	 * @throws IOException 出力先への追加時に入出力例外が発生した場合にスローされます
+	 */
+	public <A extends Appendable> A appendMessage(A appendable, Object... binds) throws IOException {
+		rendered();
+		getTemplate().render(appendable, binds);
+		return appendable;
+	}
+
+	/**
+	 * メッセージ内容を文字バッファに追加します。<br>
+	 * メッセージ内容は中間文字列を生成せずに直接追加されます(書式付きバインドスロットの値は値ごとに書式化した文字列を追加します)。<br>
+	 * @param buffer 出力先文字バッファ
+	 * @param binds バインドオブジェクト
+	 * @return 出力先文字バッファ
+	 * @throws java.nio.BufferOverflowException 文字バッファの残り容量が不足している場合にスローされます
+	 */
+	public CharBuffer appendMessage(CharBuffer buffer, Object... binds) {
+		try {
+			rendered();
+			getTemplate().render(buffer, binds);
+			return buffer;
+		} catch (IOException e) {
+			// CharBufferへの追加で入出力例外は発生しない
+			throw new IllegalStateException(e);
 		}
-		return buffer;
+	}
+
+	/**
+	 * 単一の数値をバインドしたメッセージ内容を文字列バッファに追加します。<br>
+	 * 数値はインデックス0({0})のスロットのみにバインドされ、ボクシングせずに追加されます(書式付きバインドスロットの場合は書式化した文字列が生成されます)。<br>
+	 * インデックス0以外のバインドスロットはバインドされずに定義内容のまま出力されるため、複数の値をバインドする場合は{@link #appendMessage(StringBuilder, Object...)}を利用して下さい(数値はボクシングされます)。<br>
+	 * @param builder 出力先文字列バッファ
+	 * @param bind バインド数値
+	 * @return 出力先文字列バッファ
+	 */
+	public StringBuilder appendMessage(StringBuilder builder, int bind) {
+		rendered();
+		getTemplate().render(builder, (long) bind);
+		return builder;
+	}
+
+	/**
+	 * 単一の数値をバインドしたメッセージ内容を文字列バッファに追加します。<br>
+	 * 数値はインデックス0({0})のスロットのみにバインドされ、ボクシングせずに追加されます(書式付きバインドスロットの場合は書式化した文字列が生成されます)。<br>
+	 * インデックス0以外のバインドスロットはバインドされずに定義内容のまま出力されるため、複数の値をバインドする場合は{@link #appendMessage(StringBuilder, Object...)}を利用して下さい(数値はボクシングされます)。<br>
+	 * @param builder 出力先文字列バッファ
+	 * @param bind バインド数値
+	 * @return 出力先文字列バッファ
+	 */
+	public StringBuilder appendMessage(StringBuilder builder, long bind) {
+		rendered();
+		getTemplate().render(builder, bind);
+		return builder;
+	}
+
+	/**
+	 * 単一の数値をバインドしたメッセージ内容を文字列バッファに追加します。<br>
+	 * 数値はインデックス0({0})のスロットのみにバインドされ、ボクシングせずに追加されます(書式付きバインドスロットの場合は書式化した文字列が生成されます)。<br>
+	 * インデックス0以外のバインドスロットはバインドされずに定義内容のまま出力されるため、複数の値をバインドする場合は{@link #appendMessage(StringBuilder, Object...)}を利用して下さい(数値はボクシングされます)。<br>
+	 * @param builder 出力先文字列バッファ
+	 * @param bind バインド数値
+	 * @return 出力先文字列バッファ
+	 */
+	public StringBuilder appendMessage(StringBuilder builder, double bind) {
+		rendered();
+		getTemplate().render(builder, bind);
+		return builder;
 	}
 }
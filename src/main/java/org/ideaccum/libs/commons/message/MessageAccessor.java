@@ -0,0 +1,48 @@
+package org.ideaccum.libs.commons.message;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * メッセージリソースから型付けされたメッセージアクセスクラスを生成することを指定するアノテーションです。<br>
+ * <p>
+ * アノテーションが指定された型(又は、パッケージ)と同一パッケージに、{@link #className()}のメッセージアクセスクラスがコンパイル時に生成されます({@link MessageAccessorProcessor}参照)。<br>
+ * メッセージアクセスクラスはメッセージコードごとに{@link MessageKey}定数と、バインドスロット数に応じた引数を持つメッセージ取得メソッドを提供します。<br>
+ * メッセージ取得メソッドは第一引数にメッセージ定義情報を指定することで、グローバルメッセージ定義情報以外のインスタンスから取得することもできます。<br>
+ * </p>
+ * <pre>
+ * &#64;MessageAccessor(className = "AppMessages", resources = "/META-INF/messages/app.properties")
+ * public class Application {
+ *     ...
+ *     String message = AppMessages.msg0001(user, count);
+ *     String layered = AppMessages.msg0001(tenantMessages, user, count);
+ * }
+ * </pre>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         メッセージ定義情報を指定する取得メソッドの説明を追加
+ *-->
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target({ ElementType.TYPE, ElementType.PACKAGE })
+public @interface MessageAccessor {
+
+	/**
+	 * 生成するメッセージアクセスクラスの単純クラス名を取得します。<br>
+	 * @return 単純クラス名
+	 */
+	String className();
+
+	/**
+	 * メッセージアクセスクラスの生成元となるメッセージリソースパス(クラスパス上のプロパティリソース又は、XMLリソース)を取得します。<br>
+	 * 同一のメッセージコードが複数のメッセージリソースに定義されている場合は、後に指定されたメッセージリソースの定義が優先されます。<br>
+	 * @return メッセージリソースパス
+	 */
+	String[] resources();
+}
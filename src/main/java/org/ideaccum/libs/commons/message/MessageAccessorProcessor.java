@@ -0,0 +1,414 @@
+package org.ideaccum.libs.commons.message;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import javax.xml.stream.XMLStreamException;
+
+/**
+ * {@link MessageAccessor}が指定された型に対してメッセージアクセスクラスを生成するアノテーションプロセッサです。<br>
+ * <p>
+ * 指定されたメッセージリソースをコンパイル時に読み込み、メッセージコードごとに下記を持つメッセージアクセスクラスを生成します。<br>
+ * メッセージ取得メソッドは{@link MessageKey}を利用してメッセージを取得するため、呼び出しごとのメッセージコードによる検索は行われません。<br>
+ * メッセージ取得メソッドはグローバルメッセージ定義情報から取得するメソッドと、第一引数に指定されたメッセージ定義情報(階層化されたインスタンス等)から取得するメソッドが生成されます。<br>
+ * メッセージが存在しない場合の挙動はメッセージ定義情報の設定({@link Messages#setMissingPolicy(MessageMissingPolicy)})に従い、メッセージが取得されない場合はnullを返却します。<br>
+ * </p>
+ * <pre>
+ * 定数       : メッセージコードを大文字及び"_"で表記した名前の{@link MessageKey}定数
+ * メソッド   : メッセージコードをキャメルケースで表記した名前のメッセージ取得メソッド
+ *              (引数はバインドスロットの最大インデックス+1個、名前付きバインドスロットを持つ場合は{@link java.util.Map}による名前指定)
+ * </pre>
+ * <p>
+ * メッセージリソースはクラス出力ディレクトリ、ソースパス、クラスパスの順に探索します(Mavenではprocess-resourcesフェーズでクラス出力ディレクトリに配置されたリソースが参照されます)。<br>
+ * メッセージリソースが存在しない場合、メッセージコードの形式が不正な場合、生成される名前が重複する場合はコンパイルエラーとなります。<br>
+ * プロセッサはMETA-INF/services/javax.annotation.processing.Processorで登録されているため、クラスパス上に配置することで利用されます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         存在しないメッセージの挙動をメッセージ定義情報の設定に従うよう修正し、メッセージ定義情報を指定する取得メソッドを追加
+ *-->
+ */
+public class MessageAccessorProcessor extends AbstractProcessor {
+
+	/** メッセージリソース探索場所 */
+	private static final StandardLocation[] RESOURCE_LOCATIONS = new StandardLocation[] { //
+			StandardLocation.CLASS_OUTPUT, //
+			StandardLocation.SOURCE_PATH, //
+			StandardLocation.CLASS_PATH, //
+	};
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	public MessageAccessorProcessor() {
+		super();
+	}
+
+	/**
+	 * サポートするアノテーション型を取得します。<br>
+	 * @return サポートするアノテーション型
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedAnnotationTypes()
+	 */
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		Set<String> types = new HashSet<>();
+		types.add(MessageAccessor.class.getName());
+		return types;
+	}
+
+	/**
+	 * サポートするソースバージョンを取得します。<br>
+	 * @return サポートするソースバージョン
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedSourceVersion()
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/**
+	 * アノテーションが指定された型ごとにメッセージアクセスクラスを生成します。<br>
+	 * @param annotations 処理対象アノテーション型
+	 * @param roundEnv ラウンド環境
+	 * @return 処理対象アノテーションを要求済みとする場合にtrueを返却
+	 * @see javax.annotation.processing.AbstractProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(MessageAccessor.class)) {
+			MessageAccessor accessor = element.getAnnotation(MessageAccessor.class);
+			try {
+				generate(element, accessor);
+			} catch (Throwable e) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to generate message accessor " + accessor.className() + " (" + e + ")", element);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * メッセージアクセスクラスを生成します。<br>
+	 * @param element アノテーションが指定された要素
+	 * @param accessor アノテーション内容
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 * @throws XMLStreamException XML定義形式が不正な場合にスローされます
+	 */
+	private void generate(Element element, MessageAccessor accessor) throws IOException, XMLStreamException {
+		if (!SourceVersion.isIdentifier(accessor.className()) || SourceVersion.isKeyword(accessor.className())) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Illegal message accessor class name (" + accessor.className() + ")", element);
+			return;
+		}
+		Map<String, Message> messages = new TreeMap<>();
+		for (String resource : accessor.resources()) {
+			messages.putAll(load(resource));
+		}
+
+		/*
+		 * 生成名の重複確認
+		 */
+		Set<String> names = new HashSet<>();
+		names.add(accessor.className());
+		boolean valid = true;
+		for (Message message : messages.values()) {
+			String constant = constantName(message.getCode());
+			String method = methodName(message.getCode());
+			if (!names.add(constant) || !names.add(method)) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Duplicate accessor name for message code " + message.getCode() + " (" + constant + ", " + method + ")", element);
+				valid = false;
+			}
+		}
+		if (!valid) {
+			return;
+		}
+
+		/*
+		 * メッセージアクセスクラス出力
+		 */
+		String packageName = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+		String className = packageName.isEmpty() ? accessor.className() : packageName + "." + accessor.className();
+		JavaFileObject file = processingEnv.getFiler().createSourceFile(className, element);
+		Writer writer = null;
+		try {
+			writer = file.openWriter();
+			writer.write(source(packageName, accessor, messages));
+		} finally {
+			if (writer != null) {
+				writer.close();
+			}
+		}
+	}
+
+	/**
+	 * メッセージリソースを読み込みます。<br>
+	 * @param resource メッセージリソースパス
+	 * @return 読み込まれたメッセージリソース
+	 * @throws IOException 入出力例外が発生した場合又は、メッセージリソースが存在しない場合にスローされます
+	 * @throws XMLStreamException XML定義形式が不正な場合にスローされます
+	 */
+	private Map<String, Message> load(String resource) throws IOException, XMLStreamException {
+		InputStream stream = open(resource);
+		try {
+			if (resource.endsWith(".xml")) {
+				return Messages.parseXML(stream);
+			} else {
+				Properties properties = new Properties();
+				properties.load(stream);
+				return Messages.parseProperties(properties);
+			}
+		} finally {
+			stream.close();
+		}
+	}
+
+	/**
+	 * メッセージリソースの入力ストリームを取得します。<br>
+	 * @param resource メッセージリソースパス
+	 * @return 入力ストリーム
+	 * @throws IOException メッセージリソースが存在しない場合にスローされます
+	 */
+	private InputStream open(String resource) throws IOException {
+		String relative = resource.startsWith("/") ? resource.substring(1) : resource;
+		for (StandardLocation location : RESOURCE_LOCATIONS) {
+			try {
+				FileObject file = processingEnv.getFiler().getResource(location, "", relative);
+				return file.openInputStream();
+			} catch (IOException e) {
+				// 次の探索場所から探索
+				continue;
+			} catch (IllegalArgumentException e) {
+				// 探索場所がサポートされない場合は次の探索場所から探索
+				continue;
+			}
+		}
+		throw new FileNotFoundException("Message resource not found (" + resource + ")");
+	}
+
+	/**
+	 * メッセージアクセスクラスのソースを生成します。<br>
+	 * @param packageName パッケージ名
+	 * @param accessor アノテーション内容
+	 * @param messages メッセージ
+	 * @return ソース
+	 */
+	private static String source(String packageName, MessageAccessor accessor, Map<String, Message> messages) {
+		StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		source.append("import org.ideaccum.libs.commons.message.Message;\n");
+		source.append("import org.ideaccum.libs.commons.message.MessageKey;\n");
+		source.append("import org.ideaccum.libs.commons.message.Messages;\n");
+		source.append("\n");
+		source.append("/**\n");
+		source.append(" * メッセージリソースから生成されたメッセージアクセスクラスです。<br>\n");
+		source.append(" * このクラスは{@link org.ideaccum.libs.commons.message.MessageAccessorProcessor}によって生成されます。<br>\n");
+		source.append(" * <pre>\n");
+		for (String resource : accessor.resources()) {
+			source.append(" * ").append(javadoc(resource)).append("\n");
+		}
+		source.append(" * </pre>\n");
+		source.append(" */\n");
+		source.append("public final class ").append(accessor.className()).append(" {\n");
+		for (Message message : messages.values()) {
+			source.append("\n");
+			source.append("\t/** ").append(javadoc(message.getCode())).append(" : ").append(javadoc(message.getDefine())).append(" */\n");
+			source.append("\tpublic static final MessageKey ").append(constantName(message.getCode())).append(" = MessageKey.of(").append(literal(message.getCode())).append(");\n");
+		}
+		source.append("\n");
+		source.append("\t/**\n");
+		source.append("\t * コンストラクタ<br>\n");
+		source.append("\t */\n");
+		source.append("\tprivate ").append(accessor.className()).append("() {\n");
+		source.append("\t\tsuper();\n");
+		source.append("\t}\n");
+		for (Message message : messages.values()) {
+			MessageTemplate template = message.getTemplate();
+			StringBuilder params = new StringBuilder();
+			StringBuilder parameters = new StringBuilder();
+			StringBuilder arguments = new StringBuilder();
+			if (template.getNames() != null) {
+				params.append("\t * @param binds 名前をキーとしたバインドオブジェクト\n");
+				parameters.append("java.util.Map<String, ?> binds");
+				arguments.append("binds");
+			} else {
+				int arity = 0;
+				for (int slot : template.getSlots()) {
+					arity = Math.max(arity, slot + 1);
+				}
+				for (int i = 0; i <= arity - 1; i++) {
+					params.append("\t * @param arg").append(i).append(" バインドオブジェクト({").append(i).append("})\n");
+					parameters.append(i == 0 ? "" : ", ").append("Object arg").append(i);
+					arguments.append(i == 0 ? "" : ", ").append("arg").append(i);
+				}
+			}
+			String summary = "[" + message.getLevel().getValue() + "] " + javadoc(message.getDefine());
+			String method = methodName(message.getCode());
+			source.append("\n");
+			source.append("\t/**\n");
+			source.append("\t * ").append(summary).append("<br>\n");
+			source.append("\t * グローバルメッセージ定義情報からメッセージを取得します。<br>\n");
+			source.append(params);
+			source.append("\t * @return メッセージ内容(メッセージが取得されない場合はnull)\n");
+			source.append("\t */\n");
+			source.append("\tpublic static String ").append(method).append("(").append(parameters).append(") {\n");
+			source.append("\t\treturn ").append(method).append("(Messages.global()").append(arguments.length() == 0 ? "" : ", ").append(arguments).append(");\n");
+			source.append("\t}\n");
+			source.append("\n");
+			source.append("\t/**\n");
+			source.append("\t * ").append(summary).append("<br>\n");
+			source.append("\t * 指定されたメッセージ定義情報からメッセージを取得します。<br>\n");
+			source.append("\t * @param messages メッセージ定義情報\n");
+			source.append(params);
+			source.append("\t * @return メッセージ内容(メッセージが取得されない場合はnull)\n");
+			source.append("\t */\n");
+			source.append("\tpublic static String ").append(method).append("(Messages messages").append(parameters.length() == 0 ? "" : ", ").append(parameters).append(") {\n");
+			source.append("\t\tMessage message = messages.get(").append(constantName(message.getCode())).append(");\n");
+			source.append("\t\treturn message == null ? null : message.getMessage(").append(arguments).append(");\n");
+			source.append("\t}\n");
+		}
+		source.append("}\n");
+		return source.toString();
+	}
+
+	/**
+	 * メッセージコードから定数名を生成します。<br>
+	 * 識別子として利用できない文字は"_"に置き換え、英字は大文字に変換します。<br>
+	 * @param code メッセージコード
+	 * @return 定数名
+	 */
+	static String constantName(String code) {
+		StringBuilder name = new StringBuilder(code.length() + 1);
+		for (int i = 0; i <= code.length() - 1; i++) {
+			char c = code.charAt(i);
+			name.append(Character.isLetterOrDigit(c) ? Character.toUpperCase(c) : '_');
+		}
+		return identifier(name);
+	}
+
+	/**
+	 * メッセージコードからメソッド名を生成します。<br>
+	 * 識別子として利用できない文字を区切りとしてキャメルケースに変換します(先頭の区切りは全て小文字に変換します)。<br>
+	 * @param code メッセージコード
+	 * @return メソッド名
+	 */
+	static String methodName(String code) {
+		StringBuilder name = new StringBuilder(code.length() + 1);
+		boolean first = true;
+		boolean upper = false;
+		for (int i = 0; i <= code.length() - 1; i++) {
+			char c = code.charAt(i);
+			if (!Character.isLetterOrDigit(c)) {
+				first = name.length() == 0;
+				upper = name.length() > 0;
+				continue;
+			}
+			if (first) {
+				name.append(Character.toLowerCase(c));
+			} else if (upper) {
+				name.append(Character.toUpperCase(c));
+				upper = false;
+			} else {
+				name.append(c);
+			}
+		}
+		return identifier(name);
+	}
+
+	/**
+	 * 名前を識別子として利用可能な形式に補正します。<br>
+	 * @param name 名前
+	 * @return 識別子
+	 */
+	private static String identifier(StringBuilder name) {
+		if (name.length() == 0 || !Character.isJavaIdentifierStart(name.charAt(0))) {
+			name.insert(0, '_');
+		}
+		if (SourceVersion.isKeyword(name)) {
+			name.append('_');
+		}
+		return name.toString();
+	}
+
+	/**
+	 * 文字列をJava文字列リテラルとして表記します。<br>
+	 * @param value 文字列
+	 * @return 文字列リテラル
+	 */
+	private static String literal(String value) {
+		StringBuilder literal = new StringBuilder(value.length() + 2);
+		literal.append('"');
+		for (int i = 0; i <= value.length() - 1; i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				literal.append('\\').append(c);
+			} else if (c < 0x20 || c > 0x7E) {
+				literal.append(String.format("\\u%04x", (int) c));
+			} else {
+				literal.append(c);
+			}
+		}
+		literal.append('"');
+		return literal.toString();
+	}
+
+	/**
+	 * 文字列をJavadocコメント内に出力可能な形式に変換します。<br>
+	 * @param value 文字列
+	 * @return 変換後文字列
+	 */
+	private static String javadoc(String value) {
+		if (value == null) {
+			return "";
+		}
+		StringBuilder text = new StringBuilder(value.length());
+		for (int i = 0; i <= value.length() - 1; i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '&':
+					text.append("&amp;");
+					break;
+				case '<':
+					text.append("&lt;");
+					break;
+				case '>':
+					text.append("&gt;");
+					break;
+				case '@':
+					text.append("&#64;");
+					break;
+				case '/':
+					text.append("&#47;");
+					break;
+				case '\\':
+					text.append("&#92;");
+					break;
+				case '\r':
+				case '\n':
+					text.append(' ');
+					break;
+				default:
+					text.append(c);
+					break;
+			}
+		}
+		return text.toString();
+	}
+}
@@ -0,0 +1,551 @@
+package org.ideaccum.libs.commons.message;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 事前コンパイルされたバイナリ形式のメッセージバンドルの読み書きを行うクラスです。<br>
+ * <p>
+ * バイナリ形式のメッセージバンドルは文字列テーブル、エントリごとのレベル、コード、定義内容、解析済みテンプレートを保持します。<br>
+ * 読み込み時はファイルをメモリマップしてヘッダのみを検証し、エントリは展開しません。<br>
+ * 読み込まれたメッセージバンドルはメッセージコードをキーとする変更不可能なマップとして提供され、検索はメッセージコード順に出力されたエントリ部を二分探索して行います。<br>
+ * メッセージはエントリが検索された時点で生成され、メッセージ内容とテンプレートは各メッセージの初回利用時に解決されます。<br>
+ * 形式は下記の通りです(数値はビッグエンディアン)。<br>
+ * </p>
+ * <pre>
+ * header    : magic(int) version(short) entryCount(int) stringCount(int) templateBase(int) stringBase(int)
+ * entries   : entryCount * { suffix(byte) code(int) define(int) template(int) }
+ * strings   : stringCount * { offset(int) }
+ * templates : { slotCount(int) literals(int * (slotCount + 1)) slots(int * slotCount) names(int * slotCount) formats(int * slotCount) } ...
+ * string    : { length(int) utf8(byte * length) } ...
+ * </pre>
+ * <p>
+ * テンプレートのnames及び、formatsは名前付きバインドスロット名、書式指定の文字列インデックス(存在しない場合は-1)です。<br>
+ * 形式バージョンが一致しないメッセージバンドルは読み込めないため、ライブラリの更新時は再コンパイルして下さい。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         名前付きバインドスロット及び、書式付きバインドスロットに対応(形式バージョン2)
+ * 2026/10/17  Kitagawa         形式バージョン1の読み込みを廃止
+ * 2026/10/17  Kitagawa         URL文字列によるメッセージバンドルの読み込みに対応
+ * 2026/10/17  Kitagawa         読み込み時のエントリ展開を廃止し、エントリ部の二分探索による検索に変更
+ *-->
+ */
+final class MessageBundle extends AbstractMap<String, Message> implements Serializable {
+
+	/** 識別子("IMSB") */
+	private static final int MAGIC = 0x494D5342;
+
+	/** 形式バージョン */
+	private static final short VERSION = 2;
+
+	/** ヘッダサイズ */
+	private static final int HEADER_SIZE = 4 + 2 + 4 + 4 + 4 + 4;
+
+	/** エントリサイズ */
+	private static final int ENTRY_SIZE = 1 + 4 + 4 + 4;
+
+	/** バンドルデータ */
+	private ByteBuffer buffer;
+
+	/** エントリ数 */
+	private int entryCount;
+
+	/** 文字列数 */
+	private int stringCount;
+
+	/** テンプレート領域開始位置 */
+	private int templateBase;
+
+	/** 文字列領域開始位置 */
+	private int stringBase;
+
+	/** エントリごとの生成済みメッセージ(検索されたエントリのみ) */
+	private AtomicReferenceArray<Message> messages;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param buffer バンドルデータ
+	 * @throws IOException バンドル形式が不正な場合にスローされます
+	 */
+	private MessageBundle(ByteBuffer buffer) throws IOException {
+		super();
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+			throw new IOException("Illegal message bundle format");
+		}
+		if (buffer.getShort(4) != VERSION) {
+			throw new IOException("Unsupported message bundle version (" + buffer.getShort(4) + ")");
+		}
+		this.buffer = buffer;
+		this.entryCount = buffer.getInt(6);
+		this.stringCount = buffer.getInt(10);
+		this.templateBase = buffer.getInt(14);
+		this.stringBase = buffer.getInt(18);
+		if (entryCount < 0 || stringCount < 0 || templateBase < HEADER_SIZE + (long) entryCount * ENTRY_SIZE + (long) stringCount * 4 || stringBase < templateBase || stringBase > buffer.capacity()) {
+			throw new IOException("Illegal message bundle format");
+		}
+		this.messages = new AtomicReferenceArray<>(entryCount);
+	}
+
+	/**
+	 * メッセージバンドルを読み込みます。<br>
+	 * ファイルシステム上のファイルはメモリマップして読み込み、それ以外のリソースはメモリ上に展開して読み込みます。<br>
+	 * @param filePath メッセージバンドルパス
+	 * @return 読み込まれたメッセージリソース(変更不可能なマップでメッセージは検索時に生成)
+	 * @throws IOException 入出力例外が発生した場合又は、バンドル形式が不正な場合にスローされます
+	 */
+	static Map<String, Message> read(String filePath) throws IOException {
+		return new MessageBundle(map(filePath));
+	}
+
+	/**
+	 * シリアライズ時の代替オブジェクトを提供します。<br>
+	 * メッセージバンドルデータはシリアライズできないため、全てのエントリを展開したマップとしてシリアライズします。<br>
+	 * @return 代替オブジェクト
+	 */
+	private Object writeReplace() {
+		return new HashMap<>(this);
+	}
+
+	/**
+	 * エントリ数を取得します。<br>
+	 * @return エントリ数
+	 * @see java.util.AbstractMap#size()
+	 */
+	@Override
+	public int size() {
+		return entryCount;
+	}
+
+	/**
+	 * メッセージコードのエントリが存在するか判定します。<br>
+	 * @param key メッセージコード
+	 * @return エントリが存在する場合にtrueを返却
+	 * @see java.util.AbstractMap#containsKey(java.lang.Object)
+	 */
+	@Override
+	public boolean containsKey(Object key) {
+		return key instanceof String && search((String) key, ((String) key).length()) >= 0;
+	}
+
+	/**
+	 * メッセージコードのメッセージを取得します。<br>
+	 * @param key メッセージコード
+	 * @return メッセージ(存在しない場合はnull)
+	 * @see java.util.AbstractMap#get(java.lang.Object)
+	 */
+	@Override
+	public Message get(Object key) {
+		if (!(key instanceof String)) {
+			return null;
+		}
+		int entry = search((String) key, ((String) key).length());
+		return entry < 0 ? null : message(entry);
+	}
+
+	/**
+	 * エントリのセットを取得します。<br>
+	 * 走査時は全てのエントリのメッセージを生成します。<br>
+	 * @return 変更不可能なエントリのセット
+	 * @see java.util.AbstractMap#entrySet()
+	 */
+	@Override
+	public Set<Map.Entry<String, Message>> entrySet() {
+		return new AbstractSet<Map.Entry<String, Message>>() {
+			@Override
+			public Iterator<Map.Entry<String, Message>> iterator() {
+				return new Iterator<Map.Entry<String, Message>>() {
+					/** 次のエントリインデックス */
+					private int entry;
+
+					@Override
+					public boolean hasNext() {
+						return entry < entryCount;
+					}
+
+					@Override
+					public Map.Entry<String, Message> next() {
+						if (entry >= entryCount) {
+							throw new NoSuchElementException();
+						}
+						Message message = message(entry++);
+						return new AbstractMap.SimpleImmutableEntry<>(message.getCode(), message);
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return entryCount;
+			}
+		};
+	}
+
+	/**
+	 * メッセージコード又は、レベルサフィックスを持つ定義コードでメッセージを検索します。<br>
+	 * 定義コードと同一文字列のメッセージコードが存在する場合はメッセージコードを優先します。<br>
+	 * 前後空白を持たない定義コードは文字列を生成せずにレベルサフィックスを除いた範囲で検索します。<br>
+	 * @param code メッセージコード又は、定義コード
+	 * @return メッセージ(存在しない場合はnull)
+	 */
+	Message find(String code) {
+		int entry = search(code, code.length());
+		if (entry < 0 && Message.isValidDefineCode(code)) {
+			if (code.charAt(code.length() - 2) == '-' && Character.isLetterOrDigit(code.charAt(0))) {
+				// 前後空白を持たない定義コードはレベルサフィックス("-" + サフィックス文字)を除いた範囲で検索
+				entry = search(code, code.length() - 2);
+			} else {
+				String messageCode = Message.getMessageCode(code);
+				entry = search(messageCode, messageCode.length());
+			}
+		}
+		return entry < 0 ? null : message(entry);
+	}
+
+	/**
+	 * エントリのメッセージを取得します。<br>
+	 * 初回取得時にメッセージを生成し、以降は生成済みのメッセージを提供します。<br>
+	 * @param entry エントリインデックス
+	 * @return メッセージ
+	 */
+	private Message message(int entry) {
+		Message message = messages.get(entry);
+		if (message != null) {
+			return message;
+		}
+		int position = HEADER_SIZE + entry * ENTRY_SIZE;
+		MessageLevel level = MessageLevel.levelOf((char) (buffer.get(position) & 0xFF));
+		if (level == null) {
+			throw new IllegalStateException("Illegal message bundle level suffix (" + buffer.get(position) + ")");
+		}
+		message = new Message(readString(buffer.getInt(position + 1)), level, this, entry);
+		// 同時に生成された場合は先に登録されたメッセージを共有
+		return messages.compareAndSet(entry, null, message) ? message : messages.get(entry);
+	}
+
+	/**
+	 * メッセージコード順に出力されたエントリ部を二分探索します。<br>
+	 * @param code 検索文字列
+	 * @param length 検索文字列のうちメッセージコードとして比較する長さ
+	 * @return エントリインデックス(存在しない場合は-1)
+	 */
+	private int search(String code, int length) {
+		int low = 0;
+		int high = entryCount - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int compare = compare(code, length, buffer.getInt(HEADER_SIZE + middle * ENTRY_SIZE + 1));
+			if (compare > 0) {
+				low = middle + 1;
+			} else if (compare < 0) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 検索文字列と文字列テーブル上の文字列を{@link String#compareTo(String)}と同一の順序で比較します。<br>
+	 * 文字列テーブル上のUTF-8バイト列を文字単位で復号しながら比較するため、文字列は生成しません。<br>
+	 * @param code 検索文字列
+	 * @param length 検索文字列のうち比較する長さ
+	 * @param index 文字列インデックス
+	 * @return 検索文字列が小さい場合は負数、等しい場合は0、大きい場合は正数
+	 */
+	private int compare(String code, int length, int index) {
+		if (index < 0 || index >= stringCount) {
+			throw new IllegalStateException("Illegal message bundle string index (" + index + ")");
+		}
+		int position = stringBase + buffer.getInt(HEADER_SIZE + entryCount * ENTRY_SIZE + index * 4);
+		int cursor = position + 4;
+		int end = cursor + buffer.getInt(position);
+		// 4バイト表現の文字(サロゲートペア)の未比較の下位サロゲート
+		char pending = 0;
+		for (int i = 0; i <= length - 1; i++) {
+			char c;
+			if (pending != 0) {
+				c = pending;
+				pending = 0;
+			} else if (cursor >= end) {
+				return 1;
+			} else {
+				int b = buffer.get(cursor++) & 0xFF;
+				if (b < 0x80) {
+					c = (char) b;
+				} else if (b < 0xE0) {
+					c = (char) (((b & 0x1F) << 6) | (buffer.get(cursor++) & 0x3F));
+				} else if (b < 0xF0) {
+					c = (char) (((b & 0x0F) << 12) | ((buffer.get(cursor++) & 0x3F) << 6) | (buffer.get(cursor++) & 0x3F));
+				} else {
+					int codePoint = ((b & 0x07) << 18) | ((buffer.get(cursor++) & 0x3F) << 12) | ((buffer.get(cursor++) & 0x3F) << 6) | (buffer.get(cursor++) & 0x3F);
+					c = Character.highSurrogate(codePoint);
+					pending = Character.lowSurrogate(codePoint);
+				}
+			}
+			char d = code.charAt(i);
+			if (d != c) {
+				return d - c;
+			}
+		}
+		return pending != 0 || cursor < end ? -1 : 0;
+	}
+
+	/**
+	 * メッセージバンドルデータを取得します。<br>
+	 * @param filePath メッセージバンドルパス
+	 * @return メッセージバンドルデータ
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private static ByteBuffer map(String filePath) throws IOException {
+		File file = toFile(filePath);
+		if (file != null && file.isFile()) {
+			FileChannel channel = null;
+			try {
+				channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+				return channel.map(MapMode.READ_ONLY, 0, channel.size());
+			} finally {
+				if (channel != null) {
+					channel.close();
+				}
+			}
+		}
+		InputStream stream = null;
+		try {
+			stream = Messages.openStream(filePath);
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			byte[] bytes = new byte[8192];
+			int length;
+			while ((length = stream.read(bytes)) >= 0) {
+				output.write(bytes, 0, length);
+			}
+			return ByteBuffer.wrap(output.toByteArray());
+		} finally {
+			if (stream != null) {
+				stream.close();
+			}
+		}
+	}
+
+	/**
+	 * メッセージバンドルパスに該当するファイルを取得します。<br>
+	 * @param filePath メッセージバンドルパス(URL文字列可)
+	 * @return ファイル(ファイルシステム上のURLではない場合はnull)
+	 */
+	private static File toFile(String filePath) {
+		URL url = Messages.toURL(filePath);
+		if (url == null) {
+			return new File(filePath);
+		}
+		if (!"file".equals(url.getProtocol())) {
+			return null;
+		}
+		try {
+			return new File(url.toURI());
+		} catch (URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 文字列テーブルから文字列を取得します。<br>
+	 * @param index 文字列インデックス
+	 * @return 文字列
+	 */
+	private String readString(int index) {
+		if (index < 0 || index >= stringCount) {
+			throw new IllegalStateException("Illegal message bundle string index (" + index + ")");
+		}
+		int position = stringBase + buffer.getInt(HEADER_SIZE + entryCount * ENTRY_SIZE + index * 4);
+		int length = buffer.getInt(position);
+		byte[] bytes = new byte[length];
+		ByteBuffer slice = buffer.duplicate();
+		slice.position(position + 4);
+		slice.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * エントリの定義メッセージ内容を取得します。<br>
+	 * メッセージテンプレートの解決は行いません。<br>
+	 * @param entry エントリインデックス
+	 * @return 定義メッセージ内容
+	 */
+	String readDefine(int entry) {
+		return readString(buffer.getInt(HEADER_SIZE + entry * ENTRY_SIZE + 5));
+	}
+
+	/**
+	 * エントリのメッセージテンプレートを解決します。<br>
+	 * @param entry エントリインデックス
+	 * @return メッセージテンプレート
+	 */
+	MessageTemplate readTemplate(int entry) {
+		int position = HEADER_SIZE + entry * ENTRY_SIZE;
+		String define = readString(buffer.getInt(position + 5));
+		int cursor = templateBase + buffer.getInt(position + 9);
+		int slotCount = buffer.getInt(cursor);
+		cursor += 4;
+		String[] literals = new String[slotCount + 1];
+		for (int i = 0; i <= literals.length - 1; i++) {
+			literals[i] = readString(buffer.getInt(cursor));
+			cursor += 4;
+		}
+		int[] slots = new int[slotCount];
+		for (int i = 0; i <= slots.length - 1; i++) {
+			slots[i] = buffer.getInt(cursor);
+			cursor += 4;
+		}
+		String[] names = new String[slotCount];
+		for (int i = 0; i <= names.length - 1; i++) {
+			names[i] = readOptionalString(buffer.getInt(cursor));
+			cursor += 4;
+		}
+		String[] formats = new String[slotCount];
+		for (int i = 0; i <= formats.length - 1; i++) {
+			formats[i] = readOptionalString(buffer.getInt(cursor));
+			cursor += 4;
+		}
+		return MessageTemplate.of(define, literals, slots, names, formats);
+	}
+
+	/**
+	 * 文字列インデックスに対応する文字列を取得します。<br>
+	 * @param index 文字列インデックス(-1の場合は文字列なし)
+	 * @return 文字列(文字列なしの場合はnull)
+	 */
+	private String readOptionalString(int index) {
+		return index < 0 ? null : readString(index);
+	}
+
+	/**
+	 * メッセージをバイナリ形式のメッセージバンドルとして出力します。<br>
+	 * エントリはメッセージコード順に出力され、同一の文字列は文字列テーブル上で共有されます。<br>
+	 * @param messages 出力対象メッセージ
+	 * @param stream 出力ストリーム
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	static void write(Collection<Message> messages, OutputStream stream) throws IOException {
+		Map<String, Message> sorted = new TreeMap<>();
+		for (Message message : messages) {
+			sorted.put(message.getCode(), message);
+		}
+
+		/*
+		 * 文字列テーブル及び、テンプレート領域の構築
+		 */
+		Map<String, Integer> strings = new LinkedHashMap<>();
+		List<Integer> templateOffsets = new ArrayList<>();
+		ByteArrayOutputStream templateBytes = new ByteArrayOutputStream();
+		DataOutputStream templates = new DataOutputStream(templateBytes);
+		for (Message message : sorted.values()) {
+			MessageTemplate template = message.getTemplate();
+			String[] literals = template.getLiterals();
+			int[] slots = template.getSlots();
+			String[] names = template.getNames();
+			String[] formats = template.getFormats();
+			templateOffsets.add(templates.size());
+			templates.writeInt(slots.length);
+			for (String literal : literals) {
+				templates.writeInt(stringIndex(strings, literal));
+			}
+			for (int slot : slots) {
+				templates.writeInt(slot);
+			}
+			for (int i = 0; i <= slots.length - 1; i++) {
+				templates.writeInt(names == null || names[i] == null ? -1 : stringIndex(strings, names[i]));
+			}
+			for (int i = 0; i <= slots.length - 1; i++) {
+				templates.writeInt(formats == null || formats[i] == null ? -1 : stringIndex(strings, formats[i]));
+			}
+		}
+		templates.flush();
+
+		ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+		DataOutputStream stringData = new DataOutputStream(stringBytes);
+		List<Integer> stringOffsets = new ArrayList<>();
+		// エントリ部で参照する文字列も含めるため、コードと定義内容を先に登録
+		for (Message message : sorted.values()) {
+			stringIndex(strings, message.getCode());
+			stringIndex(strings, message.getDefine());
+		}
+		for (String value : strings.keySet()) {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			stringOffsets.add(stringData.size());
+			stringData.writeInt(bytes.length);
+			stringData.write(bytes);
+		}
+		stringData.flush();
+
+		/*
+		 * バンドル出力
+		 */
+		int templateBase = HEADER_SIZE + sorted.size() * ENTRY_SIZE + strings.size() * 4;
+		int stringBase = templateBase + templateBytes.size();
+		DataOutputStream output = new DataOutputStream(stream);
+		output.writeInt(MAGIC);
+		output.writeShort(VERSION);
+		output.writeInt(sorted.size());
+		output.writeInt(strings.size());
+		output.writeInt(templateBase);
+		output.writeInt(stringBase);
+		int entry = 0;
+		for (Message message : sorted.values()) {
+			output.writeByte(message.getLevel().getSuffix());
+			output.writeInt(strings.get(message.getCode()));
+			output.writeInt(strings.get(message.getDefine() == null ? "" : message.getDefine()));
+			output.writeInt(templateOffsets.get(entry++));
+		}
+		for (Integer offset : stringOffsets) {
+			output.writeInt(offset);
+		}
+		templateBytes.writeTo(output);
+		stringBytes.writeTo(output);
+		output.flush();
+	}
+
+	/**
+	 * 文字列テーブル上の文字列インデックスを取得します。<br>
+	 * 文字列テーブルに存在しない文字列の場合は追加してインデックスを提供します。<br>
+	 * @param strings 文字列テーブル
+	 * @param value 文字列
+	 * @return 文字列インデックス
+	 */
+	private static int stringIndex(Map<String, Integer> strings, String value) {
+		String key = value == null ? "" : value;
+		Integer index = strings.get(key);
+		if (index == null) {
+			index = strings.size();
+			strings.put(key, index);
+		}
+		return index;
+	}
+}
@@ -0,0 +1,370 @@
+package org.ideaccum.libs.commons.message;
+
+import java.io.IOException;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * メッセージテンプレートの書式付きバインドスロット({0,number,#,##0}等)の書式処理を提供するクラスです。<br>
+ * <p>
+ * 書式処理インスタンスは書式指定ごとに一度だけ生成され、同一の書式指定を持つ全てのメッセージテンプレートで共有されます。<br>
+ * 数値書式はスレッドセーフでないため、スレッドごとに複製した書式を利用します。日付書式はスレッドセーフな{@link DateTimeFormatter}を利用します。<br>
+ * 書式指定は"型[,スタイル]"の形式で、下記の型をサポートします。<br>
+ * </p>
+ * <pre>
+ * number : スタイル省略時は標準数値書式、"integer"で整数書式、"percent"でパーセント書式、それ以外は{@link DecimalFormat}のパターン
+ * date   : スタイル省略時は{@link DateTimeFormatter#ISO_LOCAL_DATE}、それ以外は{@link DateTimeFormatter}のパターン
+ * time   : スタイル省略時は{@link DateTimeFormatter#ISO_LOCAL_TIME}、それ以外は{@link DateTimeFormatter}のパターン
+ * </pre>
+ * <p>
+ * メッセージ操作用スクリプト(Messages.js)では下記の書式指定のみを同様に書式化できます({@link #isScriptable()})。<br>
+ * 数値の区切り文字等はブラウザのロケールに従うため、サーバーのロケールと異なる場合があります。<br>
+ * </p>
+ * <pre>
+ * number : スタイル省略、"integer"、"percent"及び、"#"、"0"、","、"."のみで構成される3桁区切りのパターン(例:#,##0.00)
+ * date   : スタイル省略及び、y(1、2、4桁)、M、d、H、m、s(1、2桁)、S(1～3桁)と英字・引用符・括弧以外の区切り文字のみで構成されるパターン
+ * time   : dateと同様
+ * </pre>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         文字列バッファ以外の出力先への書式化を追加
+ * 2026/10/17  Kitagawa         メッセージ操作用スクリプトで書式化可能か判定する処理を追加
+ *-->
+ */
+abstract class MessageFormatter {
+
+	/** 書式化値文字列長見込み */
+	private static final int ESTIMATE_VALUE_LENGTH = 32;
+
+	/** 書式処理キャッシュ上限 */
+	private static final int CACHE_LIMIT = 1024;
+
+	/** 書式指定ごとの書式処理キャッシュ */
+	private static final ConcurrentMap<String, MessageFormatter> CACHE = new ConcurrentHashMap<>();
+
+	/** メッセージ操作用スクリプトで書式化可能な数値パターン(整数部) */
+	private static final Pattern SCRIPT_NUMBER_INTEGER = Pattern.compile("(#+,)*#*0+(,0+)*");
+
+	/** メッセージ操作用スクリプトで書式化可能な数値パターン(小数部) */
+	private static final Pattern SCRIPT_NUMBER_FRACTION = Pattern.compile("0*#*");
+
+	/** メッセージ操作用スクリプトで書式化可能な日付パターン文字 */
+	private static final String SCRIPT_DATE_FIELDS = "yMdHmsS";
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	MessageFormatter() {
+		super();
+	}
+
+	/**
+	 * 書式指定に対応する書式処理を取得します。<br>
+	 * @param spec 書式指定("型[,スタイル]"形式)
+	 * @return 書式処理(サポートされない書式指定の場合はnull)
+	 */
+	static MessageFormatter of(String spec) {
+		MessageFormatter formatter = CACHE.get(spec);
+		if (formatter != null) {
+			return formatter;
+		}
+		int separator = spec.indexOf(',');
+		String type = (separator < 0 ? spec : spec.substring(0, separator)).trim();
+		String style = separator < 0 ? null : spec.substring(separator + 1);
+		try {
+			if ("number".equals(type)) {
+				formatter = new NumberFormatter(style);
+			} else if ("date".equals(type)) {
+				formatter = new DateFormatter(style == null ? DateTimeFormatter.ISO_LOCAL_DATE : DateTimeFormatter.ofPattern(style), isScriptableDate(style));
+			} else if ("time".equals(type)) {
+				formatter = new DateFormatter(style == null ? DateTimeFormatter.ISO_LOCAL_TIME : DateTimeFormatter.ofPattern(style), isScriptableDate(style));
+			} else {
+				return null;
+			}
+		} catch (IllegalArgumentException e) {
+			// 不正なパターンは書式付きバインドスロットとして扱わない
+			return null;
+		}
+		if (CACHE.size() < CACHE_LIMIT) {
+			MessageFormatter cached = CACHE.putIfAbsent(spec, formatter);
+			if (cached != null) {
+				formatter = cached;
+			}
+		}
+		return formatter;
+	}
+
+	/**
+	 * 数値書式のスタイルがメッセージ操作用スクリプトで書式化可能か判定します。<br>
+	 * @param style スタイル
+	 * @return 書式化可能な場合にtrueを返却
+	 */
+	private static boolean isScriptableNumber(String style) {
+		if (style == null || "integer".equals(style.trim()) || "percent".equals(style.trim())) {
+			return true;
+		}
+		int point = style.indexOf('.');
+		String integer = point < 0 ? style : style.substring(0, point);
+		String fraction = point < 0 ? "" : style.substring(point + 1);
+		if (!SCRIPT_NUMBER_INTEGER.matcher(integer).matches() || !SCRIPT_NUMBER_FRACTION.matcher(fraction).matches()) {
+			return false;
+		}
+		// ブラウザの桁区切りは3桁固定
+		int separator = integer.lastIndexOf(',');
+		return separator < 0 || integer.length() - separator - 1 == 3;
+	}
+
+	/**
+	 * 日付書式のパターンがメッセージ操作用スクリプトで書式化可能か判定します。<br>
+	 * @param style スタイル
+	 * @return 書式化可能な場合にtrueを返却
+	 */
+	private static boolean isScriptableDate(String style) {
+		if (style == null) {
+			return true;
+		}
+		int cursor = 0;
+		while (cursor < style.length()) {
+			char c = style.charAt(cursor);
+			int count = 1;
+			while (cursor + count < style.length() && style.charAt(cursor + count) == c) {
+				count++;
+			}
+			if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+				int max = c == 'y' ? 4 : c == 'S' ? 3 : 2;
+				if (SCRIPT_DATE_FIELDS.indexOf(c) < 0 || count > max || (c == 'y' && count == 3)) {
+					return false;
+				}
+			} else if (c == '\'' || c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+				return false;
+			}
+			cursor += count;
+		}
+		return true;
+	}
+
+	/**
+	 * メッセージ操作用スクリプト(Messages.js)で同様に書式化可能か判定します。<br>
+	 * @return 書式化可能な場合にtrueを返却
+	 */
+	abstract boolean isScriptable();
+
+	/**
+	 * 値を書式化して文字列バッファに追加します。<br>
+	 * 書式の対象外となる型の値は文字列表現をそのまま追加します。<br>
+	 * @param builder 出力先文字列バッファ
+	 * @param value 値(nullは不可)
+	 */
+	abstract void format(StringBuilder builder, Object value);
+
+	/**
+	 * 値を書式化して出力先に追加します。<br>
+	 * 文字列バッファ以外の出力先の場合は、書式化した値のみを文字列バッファに編集して追加します。<br>
+	 * @param appendable 出力先
+	 * @param value 値(nullは不可)
+	 * @throws IOException 出力先への追加時に入出力例外が発生した場合にスローされます
+	 */
+	void format(Appendable appendable, Object value) throws IOException {
+		if (appendable instanceof StringBuilder) {
+			format((StringBuilder) appendable, value);
+			return;
+		}
+		StringBuilder builder = new StringBuilder(ESTIMATE_VALUE_LENGTH);
+		format(builder, value);
+		appendable.append(builder);
+	}
+
+	/**
+	 * 数値を書式化して文字列バッファに追加します。<br>
+	 * @param builder 出力先文字列バッファ
+	 * @param value 値
+	 */
+	void format(StringBuilder builder, long value) {
+		format(builder, Long.valueOf(value));
+	}
+
+	/**
+	 * 数値を書式化して文字列バッファに追加します。<br>
+	 * @param builder 出力先文字列バッファ
+	 * @param value 値
+	 */
+	void format(StringBuilder builder, double value) {
+		format(builder, Double.valueOf(value));
+	}
+
+	/**
+	 * 数値書式処理クラスです。<br>
+	 */
+	private static final class NumberFormatter extends MessageFormatter {
+
+		/** 複製元数値書式 */
+		private final NumberFormat prototype;
+
+		/** スレッドごとの数値書式 */
+		private final ThreadLocal<NumberFormat> formats;
+
+		/** メッセージ操作用スクリプトで書式化可能か */
+		private final boolean scriptable;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param style スタイル
+		 */
+		private NumberFormatter(String style) {
+			super();
+			Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+			if (style == null) {
+				this.prototype = NumberFormat.getInstance(locale);
+			} else if ("integer".equals(style.trim())) {
+				this.prototype = NumberFormat.getIntegerInstance(locale);
+			} else if ("percent".equals(style.trim())) {
+				this.prototype = NumberFormat.getPercentInstance(locale);
+			} else {
+				this.prototype = new DecimalFormat(style, new DecimalFormatSymbols(locale));
+			}
+			// ThreadLocalのサブクラスを生成せず、スレッド上の値からクラスローダーが参照され続けないようにする
+			this.formats = ThreadLocal.withInitial(() -> (NumberFormat) prototype.clone());
+			this.scriptable = isScriptableNumber(style);
+		}
+
+		/**
+		 * メッセージ操作用スクリプトで同様に書式化可能か判定します。<br>
+		 * @return 書式化可能な場合にtrueを返却
+		 * @see org.ideaccum.libs.commons.message.MessageFormatter#isScriptable()
+		 */
+		@Override
+		boolean isScriptable() {
+			return scriptable;
+		}
+
+		/**
+		 * 値を書式化して文字列バッファに追加します。<br>
+		 * @param builder 出力先文字列バッファ
+		 * @param value 値
+		 * @see org.ideaccum.libs.commons.message.MessageFormatter#format(java.lang.StringBuilder, java.lang.Object)
+		 */
+		@Override
+		void format(StringBuilder builder, Object value) {
+			if (value instanceof Number) {
+				builder.append(formats.get().format(value));
+			} else {
+				builder.append(value.toString());
+			}
+		}
+
+		/**
+		 * 値を書式化して出力先に追加します。<br>
+		 * 書式化した文字列を直接追加します。<br>
+		 * @param appendable 出力先
+		 * @param value 値
+		 * @throws IOException 出力先への追加時に入出力例外が発生した場合にスローされます
+		 * @see org.ideaccum.libs.commons.message.MessageFormatter#format(java.lang.Appendable, java.lang.Object)
+		 */
+		@Override
+		void format(Appendable appendable, Object value) throws IOException {
+			appendable.append(value instanceof Number ? formats.get().format(value) : value.toString());
+		}
+
+		/**
+		 * 数値を書式化して文字列バッファに追加します。<br>
+		 * @param builder 出力先文字列バッファ
+		 * @param value 値
+		 * @see org.ideaccum.libs.commons.message.MessageFormatter#format(java.lang.StringBuilder, long)
+		 */
+		@Override
+		void format(StringBuilder builder, long value) {
+			builder.append(formats.get().format(value));
+		}
+
+		/**
+		 * 数値を書式化して文字列バッファに追加します。<br>
+		 * @param builder 出力先文字列バッファ
+		 * @param value 値
+		 * @see org.ideaccum.libs.commons.message.MessageFormatter#format(java.lang.StringBuilder, double)
+		 */
+		@Override
+		void format(StringBuilder builder, double value) {
+			builder.append(formats.get().format(value));
+		}
+	}
+
+	/**
+	 * 日付書式処理クラスです。<br>
+	 */
+	private static final class DateFormatter extends MessageFormatter {
+
+		/** 日付書式 */
+		private final DateTimeFormatter formatter;
+
+		/** 日時(Instant)用日付書式(システムディフォルトタイムゾーン) */
+		private final DateTimeFormatter zoned;
+
+		/** メッセージ操作用スクリプトで書式化可能か */
+		private final boolean scriptable;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param formatter 日付書式
+		 * @param scriptable メッセージ操作用スクリプトで書式化可能な場合にtrue
+		 */
+		private DateFormatter(DateTimeFormatter formatter, boolean scriptable) {
+			super();
+			this.formatter = formatter;
+			this.zoned = formatter.withZone(ZoneId.systemDefault());
+			this.scriptable = scriptable;
+		}
+
+		/**
+		 * メッセージ操作用スクリプトで同様に書式化可能か判定します。<br>
+		 * @return 書式化可能な場合にtrueを返却
+		 * @see org.ideaccum.libs.commons.message.MessageFormatter#isScriptable()
+		 */
+		@Override
+		boolean isScriptable() {
+			return scriptable;
+		}
+
+		/**
+		 * 値を書式化して文字列バッファに追加します。<br>
+		 * {@link TemporalAccessor}、{@link Date}、{@link Calendar}を書式化の対象とし、{@link Date}及び、{@link Calendar}はシステムディフォルトタイムゾーンで書式化します。<br>
+		 * 値が書式に必要な項目を持たない場合(日付のみの値に時刻のパターンを指定した場合等)は文字列表現をそのまま追加します。<br>
+		 * @param builder 出力先文字列バッファ
+		 * @param value 値
+		 * @see org.ideaccum.libs.commons.message.MessageFormatter#format(java.lang.StringBuilder, java.lang.Object)
+		 */
+		@Override
+		void format(StringBuilder builder, Object value) {
+			int length = builder.length();
+			try {
+				if (value instanceof Instant) {
+					zoned.formatTo((Instant) value, builder);
+				} else if (value instanceof TemporalAccessor) {
+					formatter.formatTo((TemporalAccessor) value, builder);
+				} else if (value instanceof Date) {
+					zoned.formatTo(Instant.ofEpochMilli(((Date) value).getTime()), builder);
+				} else if (value instanceof Calendar) {
+					zoned.formatTo(Instant.ofEpochMilli(((Calendar) value).getTimeInMillis()), builder);
+				} else {
+					builder.append(value.toString());
+				}
+			} catch (DateTimeException e) {
+				builder.setLength(length);
+				builder.append(value.toString());
+			}
+		}
+	}
+}
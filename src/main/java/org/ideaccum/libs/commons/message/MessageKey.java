@@ -0,0 +1,157 @@
+package org.ideaccum.libs.commons.message;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * メッセージコードを事前に解決して保持するメッセージキークラスです。<br>
+ * <p>
+ * メッセージキーはアプリケーションコード上で定数(static final)フィールドとして宣言して利用することを前提とし、{@link Messages#get(MessageKey)}でメッセージを取得します。<br>
+ * 取得の都度生成して利用した場合、メッセージキーの取得にメッセージコードの検索が発生するため事前解決の効果は得られません。<br>
+ * メッセージキーはメッセージコードごとに一つのスロットインデックスを採番され、同一のメッセージコードで生成されたメッセージキーは同一のインスタンス(スロット)を共有します。<br>
+ * 解決結果は{@link Messages}インスタンスごとにスロットインデックスの位置に保持されます。<br>
+ * 解決済みの取得ではメッセージコードのハッシュ計算、定義コードの解析及び、オブジェクトの生成は行われず、複数のインスタンスから交互に取得した場合も各インスタンスの解決結果が利用されます。<br>
+ * 解決結果はインスタンス(又は、その親階層)でメッセージリソースの読み込みや再読み込みが行われた場合に破棄され、次回の取得時に再解決されます。<br>
+ * 解決結果を保持するスロット数には上限({@link #SLOT_LIMIT})があり、上限を超えるメッセージコードのメッセージキーはスロットを持たずに生成され、取得の都度解決されます。<br>
+ * 利用状況の計測({@link MessagesMetrics})では、メッセージの取得件数は再解決時のみ計数されます。<br>
+ * </p>
+ * <pre>
+ * private static final MessageKey MSG0001 = MessageKey.of("MSG0001");
+ * ...
+ * String message = Messages.global().get(MSG0001).getMessage(binds);
+ * </pre>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         解決結果をインスタンスごとのスロットに保持するよう変更
+ * 2026/10/17  Kitagawa         同一メッセージコードのメッセージキーでスロットを共有するよう変更
+ *-->
+ */
+public final class MessageKey {
+
+	/** 解決結果を保持するスロット数上限 */
+	static final int SLOT_LIMIT = 4096;
+
+	/** スロットインデックス採番 */
+	private static final AtomicInteger SLOTS = new AtomicInteger();
+
+	/** 生成済みメッセージキー(メッセージコードをキーとして保持、スロット数上限まで) */
+	private static final ConcurrentMap<String, MessageKey> KEYS = new ConcurrentHashMap<>();
+
+	/** メッセージコード */
+	private final String code;
+
+	/** スロットインデックス */
+	private final int slot;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param code メッセージコード
+	 * @param slot スロットインデックス
+	 */
+	private MessageKey(String code, int slot) {
+		super();
+		this.code = code;
+		this.slot = slot;
+	}
+
+	/**
+	 * メッセージキーを取得します。<br>
+	 * メッセージコードはレベルサフィックスを持たないコード又は、レベルサフィックスを持つ定義コード共に指定可能です。<br>
+	 * 同一のメッセージコードに対しては同一のメッセージキーを提供します(スロット数上限を超えた場合はスロットを持たないメッセージキーを生成します)。<br>
+	 * @param code メッセージコード
+	 * @return メッセージキー
+	 */
+	public static MessageKey of(String code) {
+		if (code == null) {
+			throw new NullPointerException("code");
+		}
+		MessageKey key = KEYS.get(code);
+		if (key != null) {
+			return key;
+		}
+		synchronized (KEYS) {
+			key = KEYS.get(code);
+			if (key == null) {
+				if (SLOTS.get() >= SLOT_LIMIT) {
+					return new MessageKey(code, -1);
+				}
+				key = new MessageKey(code, SLOTS.getAndIncrement());
+				KEYS.put(code, key);
+			}
+			return key;
+		}
+	}
+
+	/**
+	 * メッセージコードを取得します。<br>
+	 * @return メッセージコード
+	 */
+	public String getCode() {
+		return code;
+	}
+
+	/**
+	 * スロットインデックスを取得します。<br>
+	 * @return スロットインデックス(スロットを持たない場合は負数)
+	 */
+	int getSlot() {
+		return slot;
+	}
+
+	/**
+	 * 採番済みのスロット数を取得します。<br>
+	 * @return 採番済みのスロット数(スロット数上限を上限とする)
+	 */
+	static int slots() {
+		return Math.min(SLOTS.get(), SLOT_LIMIT);
+	}
+
+	/**
+	 * グローバルメッセージ定義情報からメッセージを取得します。<br>
+	 * @return メッセージ内容
+	 * @see org.ideaccum.libs.commons.message.Messages#get(MessageKey)
+	 */
+	public Message get() {
+		return Messages.global().get(this);
+	}
+
+	/**
+	 * オブジェクト情報を文字列として提供します。<br>
+	 * @return オブジェクト情報文字列
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return code;
+	}
+
+	/**
+	 * オブジェクトハッシュコードを取得します。<br>
+	 * @return オブジェクトハッシュコード
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return code.hashCode();
+	}
+
+	/**
+	 * オブジェクト等価比較を行います。<br>
+	 * @param object 比較対象オブジェクト
+	 * @return 等価の場合にtrueを返却
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		}
+		if (!(object instanceof MessageKey)) {
+			return false;
+		}
+		return code.equals(((MessageKey) object).code);
+	}
+}
@@ -12,6 +12,7 @@ import org.ideaccum.libs.commons.util.StringUtil;
  *<!--
  * 更新日      更新者           更新内容
  * 2018/06/13  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         サフィックス文字からのレベル判定をキャッシュしたテーブル参照に変更
  *-->
  */
 public enum MessageLevel {
@@ -39,6 +40,9 @@ public enum MessageLevel {
 
 	;
 
+	/** サフィックス文字ごとのレベル(サフィックス文字をインデックスとしたテーブル) */
+	private static final MessageLevel[] SUFFIX_LEVELS;
+
 	/** レベル名 */
 	private String name;
 
@@ -60,6 +64,20 @@ public enum MessageLevel {
 		this.suffix = suffix;
 	}
 
+	/**
+	 * クラス初期化処理<br>
+	 */
+	static {
+		int size = 0;
+		for (MessageLevel e : values()) {
+			size = Math.max(size, e.suffix + 1);
+		}
+		SUFFIX_LEVELS = new MessageLevel[size];
+		for (MessageLevel e : values()) {
+			SUFFIX_LEVELS[e.suffix] = e;
+		}
+	}
+
 	/**
 	 * レベル名を取得します。<br>
 	 * @return レベル名
@@ -101,11 +119,18 @@ public enum MessageLevel {
 			return null;
 		}
 		char suffix = buffer.charAt(buffer.length() - 1);
-		for (MessageLevel e : values()) {
-			if (e.suffix == suffix) {
-				return e;
-			}
+		return levelOf(suffix);
+	}
+
+	/**
+	 * サフィックス文字に該当するレベルを提供します。<br>
+	 * @param suffix サフィックス文字
+	 * @return メッセージレベル(該当するレベルが存在しない場合はnull)
+	 */
+	public static MessageLevel levelOf(char suffix) {
+		if (suffix >= SUFFIX_LEVELS.length) {
+			return null;
 		}
-		return null;
+		return SUFFIX_LEVELS[suffix];
 	}
 }
@@ -0,0 +1,27 @@
+package org.ideaccum.libs.commons.message;
+
+/**
+ * 管理されていないメッセージコードでメッセージを取得した場合の挙動を提供します。<br>
+ * <p>
+ * この列挙型で提供される挙動は{@link org.ideaccum.libs.commons.message.Messages#setMissingPolicy(MessageMissingPolicy)}で利用します。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+public enum MessageMissingPolicy {
+
+	/** nullを返却 */
+	NULL, //
+
+	/** メッセージコードを"???"で囲んだ内容を持つメッセージ({@link MessageLevel#UNKOWN})を返却 */
+	PLACEHOLDER, //
+
+	/** {@link org.ideaccum.libs.commons.message.exception.MessageNotFoundException}をスロー */
+	THROW, //
+
+	/** メッセージコードごとに一度だけ{@link MessageMissingReporter}に通知してnullを返却(メッセージ定義情報の更新後は再度通知) */
+	REPORT, //
+}
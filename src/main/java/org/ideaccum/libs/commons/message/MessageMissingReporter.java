@@ -0,0 +1,22 @@
+package org.ideaccum.libs.commons.message;
+
+/**
+ * 管理されていないメッセージコードでメッセージが取得されたことを通知するインタフェースです。<br>
+ * <p>
+ * 通知は{@link MessageMissingPolicy#REPORT}が設定された{@link Messages}に対して、メッセージコードごとに一度だけ行われます(メッセージ定義情報が更新された場合は再度通知されます)。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+public interface MessageMissingReporter {
+
+	/**
+	 * 管理されていないメッセージコードでメッセージが取得された場合に呼び出されます。<br>
+	 * @param messages 取得対象となったメッセージ定義情報
+	 * @param code メッセージコード
+	 */
+	void missing(Messages messages, String code);
+}
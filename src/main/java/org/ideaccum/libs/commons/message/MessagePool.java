@@ -0,0 +1,311 @@
+package org.ideaccum.libs.commons.message;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 複数の{@link Messages}インスタンス間でメッセージ定義情報を共有するためのプールを提供します。<br>
+ * <p>
+ * プールを指定して生成された{@link Messages}は、メッセージリソース読み込み時に同一内容のメッセージ(コード、レベル、メッセージ内容が等価)をプール上の単一インスタンスに集約します。<br>
+ * また、コードが異なる場合でもメッセージ内容が等価なメッセージは解析済みのメッセージテンプレートを共有します。<br>
+ * テナント等の単位で同一に近いメッセージリソースを読み込む多数のインスタンスが存在する環境で、ヒープ上の重複を削減する目的で利用します。<br>
+ * プールは弱参照で保持されるため、いずれの{@link Messages}からも参照されなくなったメッセージはガベージコレクションの対象となります。<br>
+ * 事前コンパイルされたメッセージバンドルから読み込まれたメッセージは、プール済みのメッセージが存在しない場合にのみ、プールへの登録時にメッセージ内容が解決されます。<br>
+ * プールはロックを持たないため、複数のメッセージリソースを並列に読み込む場合も読み込み処理が直列化されることはありません。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         集約処理をロックを持たない弱参照プールに変更
+ *-->
+ */
+public final class MessagePool {
+
+	/** 共有インスタンス */
+	private static final MessagePool shared = new MessagePool();
+
+	/** プール済みメッセージ */
+	private Interner<Message> messages;
+
+	/** プール済みメッセージテンプレート(メッセージ内容をキーとして保持) */
+	private Interner<MessageTemplate> templates;
+
+	/** プール済みメッセージコード */
+	private Interner<String> codes;
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	private MessagePool() {
+		super();
+		this.messages = new Interner<>();
+		this.templates = new Interner<MessageTemplate>() {
+			@Override
+			Object keyOf(MessageTemplate value) {
+				return value.getDefine();
+			}
+		};
+		this.codes = new Interner<>();
+	}
+
+	/**
+	 * クラスローダー上で単一インスタンスが保証される共有プールを取得します。<br>
+	 * @return 共有プール
+	 */
+	public static MessagePool shared() {
+		return shared;
+	}
+
+	/**
+	 * 共有プールとは別のインスタンスとしてプールを生成します。<br>
+	 * @return プール
+	 */
+	public static MessagePool create() {
+		return new MessagePool();
+	}
+
+	/**
+	 * プール済みのメッセージ数を取得します。<br>
+	 * ガベージコレクション済みのメッセージは含まれませんが、回収直後の値は概算となります。<br>
+	 * @return プール済みのメッセージ数
+	 */
+	public int size() {
+		return messages.size();
+	}
+
+	/**
+	 * プール済みの情報を全てクリアします。<br>
+	 * 既に{@link Messages}に読み込まれているメッセージは影響を受けません。<br>
+	 */
+	public void clear() {
+		messages.clear();
+		templates.clear();
+		codes.clear();
+	}
+
+	/**
+	 * 読み込まれたメッセージをプール済みのメッセージに集約します。<br>
+	 * @param loaded 読み込まれたメッセージ
+	 * @return プール済みのメッセージに置き換えたメッセージ
+	 */
+	Map<String, Message> intern(Map<String, Message> loaded) {
+		Map<String, Message> map = new HashMap<>(loaded.size() * 4 / 3 + 1);
+		for (Message message : loaded.values()) {
+			Message pooled = intern(message);
+			map.put(pooled.getCode(), pooled);
+		}
+		return map;
+	}
+
+	/**
+	 * メッセージをプール済みのメッセージに集約します。<br>
+	 * プールに存在しない場合、メッセージコード及び、メッセージテンプレートをプール済みのインスタンスに差し替えた上で登録します。<br>
+	 * メッセージテンプレートの解決はプールに存在しない場合にのみ行われます。<br>
+	 * 差し替えは公開前のメッセージに対してのみ行われる前提となります。<br>
+	 * @param message 対象メッセージ
+	 * @return プール済みのメッセージ
+	 */
+	private Message intern(Message message) {
+		Message pooled = messages.get(message);
+		if (pooled != null) {
+			return pooled;
+		}
+		message.share(codes.intern(message.getCode()), templates.intern(message.getTemplate()));
+		return messages.intern(message);
+	}
+
+	/**
+	 * 弱参照で値を保持するロックを持たない集約クラスです。<br>
+	 * 値は{@link #keyOf(Object)}の等価性で集約され、回収済みの値のエントリは以降の集約時に除去されます。<br>
+	 * @param <T> 値型
+	 */
+	private static class Interner<T> {
+
+		/** 集約済みの値 */
+		private final ConcurrentMap<Object, Entry<T>> entries = new ConcurrentHashMap<>();
+
+		/** 回収済みの値の参照キュー */
+		private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+
+		/**
+		 * 値の集約キーを取得します。<br>
+		 * @param value 値
+		 * @return 集約キー
+		 */
+		Object keyOf(T value) {
+			return value;
+		}
+
+		/**
+		 * 集約済みの値を取得します。<br>
+		 * @param value 値
+		 * @return 集約済みの値(存在しない場合はnull)
+		 */
+		T get(T value) {
+			Entry<T> entry = entries.get(new Lookup(keyOf(value)));
+			return entry == null ? null : entry.get();
+		}
+
+		/**
+		 * 値を集約済みの値に集約します。<br>
+		 * 集約済みの値が存在しない場合は指定された値を登録します。<br>
+		 * @param value 値
+		 * @return 集約済みの値
+		 */
+		T intern(T value) {
+			expunge();
+			Entry<T> entry = new Entry<>(this, value, queue);
+			while (true) {
+				Entry<T> existing = entries.putIfAbsent(entry, entry);
+				if (existing == null) {
+					return value;
+				}
+				T pooled = existing.get();
+				if (pooled != null) {
+					return pooled;
+				}
+				// 回収済みのエントリは置き換えて再登録する
+				entries.remove(existing, existing);
+			}
+		}
+
+		/**
+		 * 集約済みの値の件数を取得します。<br>
+		 * @return 集約済みの値の件数
+		 */
+		int size() {
+			expunge();
+			return entries.size();
+		}
+
+		/**
+		 * 集約済みの値を全てクリアします。<br>
+		 */
+		void clear() {
+			entries.clear();
+			expunge();
+		}
+
+		/**
+		 * 回収済みの値のエントリを除去します。<br>
+		 */
+		private void expunge() {
+			Reference<? extends T> reference;
+			while ((reference = queue.poll()) != null) {
+				entries.remove(reference, reference);
+			}
+		}
+	}
+
+	/**
+	 * 集約済みの値を弱参照で保持するエントリクラスです。<br>
+	 * 値が回収された後のエントリは自身とのみ等価となります。<br>
+	 * @param <T> 値型
+	 */
+	private static final class Entry<T> extends WeakReference<T> {
+
+		/** 集約キー(回収後の判定用に弱参照で保持) */
+		private final WeakReference<Object> key;
+
+		/** 集約キーハッシュコード */
+		private final int hash;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param interner 集約元
+		 * @param value 値
+		 * @param queue 回収済みの値の参照キュー
+		 */
+		private Entry(Interner<T> interner, T value, ReferenceQueue<T> queue) {
+			super(value, queue);
+			Object key = interner.keyOf(value);
+			this.key = new WeakReference<>(key);
+			this.hash = key.hashCode();
+		}
+
+		/**
+		 * オブジェクトハッシュコードを取得します。<br>
+		 * @return オブジェクトハッシュコード
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		/**
+		 * オブジェクト等価比較を行います。<br>
+		 * @param object 比較対象オブジェクト
+		 * @return 等価の場合にtrueを返却
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			Object key = get() == null ? null : this.key.get();
+			if (key == null) {
+				return false;
+			}
+			if (object instanceof Entry) {
+				return key.equals(((Entry<?>) object).key.get());
+			}
+			if (object instanceof Lookup) {
+				return key.equals(((Lookup) object).key);
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * 集約済みの値を検索するためのキークラスです。<br>
+	 */
+	private static final class Lookup {
+
+		/** 集約キー */
+		private final Object key;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param key 集約キー
+		 */
+		private Lookup(Object key) {
+			super();
+			this.key = key;
+		}
+
+		/**
+		 * オブジェクトハッシュコードを取得します。<br>
+		 * @return オブジェクトハッシュコード
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return key.hashCode();
+		}
+
+		/**
+		 * オブジェクト等価比較を行います。<br>
+		 * @param object 比較対象オブジェクト
+		 * @return 等価の場合にtrueを返却
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (object instanceof Entry) {
+				return object.equals(this);
+			}
+			return false;
+		}
+	}
+}
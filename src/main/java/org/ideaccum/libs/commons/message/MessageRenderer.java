@@ -0,0 +1,360 @@
+package org.ideaccum.libs.commons.message;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 単一のメッセージに対して大量のバインドオブジェクトを一括で編集するインタフェースを提供します。<br>
+ * <p>
+ * バッチ処理等で同一のメッセージコードを繰り返し編集する場合に、メッセージの取得を一度だけ行い、解決済みのテンプレートで編集を行います。<br>
+ * インスタンスは{@link Messages#renderer(String)}で取得し、取得時点のメッセージ内容で編集を行います(取得後のメッセージ定義情報の更新は反映されません)。<br>
+ * 出力先を指定した一括編集は単一の編集バッファを再利用して出力先に書き出すため、メッセージごとの中間文字列は生成されません。<br>
+ * 配列で指定された大量のバインドオブジェクトは{@link ForkJoinPool#commonPool()}上で分割して並列に編集することもできます(出力順序は指定順序のまま維持されます)。<br>
+ * 並列編集中にいずれかの分割の編集に失敗した場合は、未着手の分割を取り消し、編集中の分割も次のバインドオブジェクトの編集前に中断して、最初に発生した例外をスローします。<br>
+ * インスタンスは不変でスレッドセーフです。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         並列編集の失敗時に未完了の分割の編集を取り消すよう変更
+ *-->
+ */
+public final class MessageRenderer {
+
+	/** 並列編集時の分割単位件数 */
+	static final int PARALLEL_CHUNK_SIZE = 4096;
+
+	/** 編集バッファから出力先への書き出し閾値(文字数) */
+	private static final int FLUSH_THRESHOLD = 8192;
+
+	/** 編集バッファ初期容量 */
+	private static final int BUFFER_CAPACITY = 256;
+
+	/** 並列編集時の先行編集分割数(並列度に対する倍率) */
+	private static final int PARALLEL_WINDOW_FACTOR = 2;
+
+	/** メッセージ */
+	private final Message message;
+
+	/** メッセージテンプレート */
+	private final MessageTemplate template;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param message メッセージ
+	 */
+	MessageRenderer(Message message) {
+		super();
+		this.message = message;
+		this.template = message.getTemplate();
+	}
+
+	/**
+	 * 編集対象のメッセージを取得します。<br>
+	 * @return メッセージ
+	 */
+	public Message getMessage() {
+		return message;
+	}
+
+	/**
+	 * 編集件数を計測情報に計数します。<br>
+	 * @param count 編集件数
+	 */
+	private void rendered(long count) {
+		MessagesMetrics metrics = MessagesMetrics.active();
+		if (metrics != null && count > 0) {
+			metrics.render(message.getCode(), count);
+		}
+	}
+
+	/**
+	 * バインドオブジェクトをバインドしたメッセージ内容を取得します。<br>
+	 * @param binds バインドオブジェクト
+	 * @return メッセージ内容
+	 */
+	public String render(Object... binds) {
+		rendered(1);
+		return template.render(binds);
+	}
+
+	/**
+	 * バインドオブジェクトの組ごとにメッセージ内容を編集して出力先に書き出します。<br>
+	 * {@link java.util.stream.Stream}のバインドオブジェクトは{@link java.util.stream.Stream#iterator()}で指定して下さい。<br>
+	 * @param <A> 出力先型
+	 * @param binds バインドオブジェクトの組
+	 * @param sink 出力先
+	 * @param separator メッセージごとに出力する区切り文字列(nullの場合は区切りなし)
+	 * @return 出力先
+	 * @throws IOException 出力先への書き出し時に入出力例外が発生した場合にスローされます
+	 */
+	public <A extends Appendable> A renderAll(Iterator<? extends Object[]> binds, A sink, CharSequence separator) throws IOException {
+		StringBuilder buffer = sink instanceof StringBuilder ? (StringBuilder) sink : new StringBuilder(FLUSH_THRESHOLD + FLUSH_THRESHOLD / 4);
+		long count = 0;
+		while (binds.hasNext()) {
+			template.render(buffer, binds.next());
+			if (separator != null) {
+				buffer.append(separator);
+			}
+			count++;
+			if (buffer != sink && buffer.length() >= FLUSH_THRESHOLD) {
+				sink.append(buffer);
+				buffer.setLength(0);
+			}
+		}
+		if (buffer != sink && buffer.length() > 0) {
+			sink.append(buffer);
+		}
+		rendered(count);
+		return sink;
+	}
+
+	/**
+	 * バインドオブジェクトの組ごとにメッセージ内容を編集して出力先に書き出します。<br>
+	 * @param <A> 出力先型
+	 * @param binds バインドオブジェクトの組
+	 * @param sink 出力先
+	 * @param separator メッセージごとに出力する区切り文字列(nullの場合は区切りなし)
+	 * @return 出力先
+	 * @throws IOException 出力先への書き出し時に入出力例外が発生した場合にスローされます
+	 */
+	public <A extends Appendable> A renderAll(Iterable<? extends Object[]> binds, A sink, CharSequence separator) throws IOException {
+		return renderAll(binds.iterator(), sink, separator);
+	}
+
+	/**
+	 * バインドオブジェクトの組ごとにメッセージ内容を編集して出力先に書き出します。<br>
+	 * 並列編集を指定した場合は{@link #PARALLEL_CHUNK_SIZE}件ごとに分割して並列に編集し、指定順序で出力先に書き出します。<br>
+	 * 並列編集時に先行して編集される分割数は並列度に応じて制限されるため、全件の編集結果をメモリ上に保持することはありません。<br>
+	 * @param <A> 出力先型
+	 * @param binds バインドオブジェクトの組
+	 * @param sink 出力先
+	 * @param separator メッセージごとに出力する区切り文字列(nullの場合は区切りなし)
+	 * @param parallel 並列に編集する場合にtrue
+	 * @return 出力先
+	 * @throws IOException 出力先への書き出し時に入出力例外が発生した場合にスローされます
+	 */
+	public <A extends Appendable> A renderAll(final Object[][] binds, A sink, final CharSequence separator, boolean parallel) throws IOException {
+		if (!parallel || binds.length <= PARALLEL_CHUNK_SIZE) {
+			return renderAll(new ArrayIterator(binds), sink, separator);
+		}
+		int window = ForkJoinPool.commonPool().getParallelism() * PARALLEL_WINDOW_FACTOR;
+		Deque<ForkJoinTask<StringBuilder>> tasks = new ArrayDeque<>(window);
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		int next = 0;
+		while (next < binds.length || !tasks.isEmpty()) {
+			while (next < binds.length && tasks.size() < window) {
+				final int start = next;
+				final int end = Math.min(binds.length, start + PARALLEL_CHUNK_SIZE);
+				tasks.add(ForkJoinPool.commonPool().submit(new Callable<StringBuilder>() {
+					@Override
+					public StringBuilder call() throws Exception {
+						return render(binds, separator, start, end, failure);
+					}
+				}));
+				next = end;
+			}
+			sink.append(join(tasks.poll(), tasks, failure));
+		}
+		rendered(binds.length);
+		return sink;
+	}
+
+	/**
+	 * バインドオブジェクトの組ごとにメッセージ内容を編集します。<br>
+	 * 並列編集を指定した場合は{@link #PARALLEL_CHUNK_SIZE}件ごとに分割して並列に編集し、分割ごとに編集バッファを再利用します。<br>
+	 * @param binds バインドオブジェクトの組
+	 * @param parallel 並列に編集する場合にtrue
+	 * @return メッセージ内容(バインドオブジェクトの組と同順)
+	 */
+	public String[] renderAll(final Object[][] binds, boolean parallel) {
+		final String[] messages = new String[binds.length];
+		if (!parallel || binds.length <= PARALLEL_CHUNK_SIZE) {
+			render(binds, messages, 0, binds.length, null);
+		} else {
+			List<ForkJoinTask<Void>> tasks = new ArrayList<>(binds.length / PARALLEL_CHUNK_SIZE + 1);
+			final AtomicReference<Throwable> failure = new AtomicReference<>();
+			for (int start = 0; start <= binds.length - 1; start += PARALLEL_CHUNK_SIZE) {
+				final int from = start;
+				final int to = Math.min(binds.length, start + PARALLEL_CHUNK_SIZE);
+				tasks.add(ForkJoinPool.commonPool().submit(new Callable<Void>() {
+					@Override
+					public Void call() throws Exception {
+						render(binds, messages, from, to, failure);
+						return null;
+					}
+				}));
+			}
+			for (ForkJoinTask<Void> task : tasks) {
+				join(task, tasks, failure);
+			}
+		}
+		rendered(binds.length);
+		return messages;
+	}
+
+	/**
+	 * 指定範囲のバインドオブジェクトの組ごとにメッセージ内容を編集します。<br>
+	 * 並列編集時は他の分割の編集が失敗している場合に編集を中断し、自身の編集が失敗した場合は失敗を他の分割に通知します。<br>
+	 * @param binds バインドオブジェクトの組
+	 * @param messages 編集結果格納先
+	 * @param start 開始位置
+	 * @param end 終了位置(この位置は含まない)
+	 * @param failure 並列編集時の最初の失敗(並列編集でない場合はnull)
+	 */
+	private void render(Object[][] binds, String[] messages, int start, int end, AtomicReference<Throwable> failure) {
+		StringBuilder buffer = new StringBuilder(BUFFER_CAPACITY);
+		try {
+			for (int i = start; i <= end - 1; i++) {
+				if (failure != null && failure.get() != null) {
+					return;
+				}
+				buffer.setLength(0);
+				template.render(buffer, binds[i]);
+				messages[i] = buffer.toString();
+			}
+		} catch (RuntimeException | Error e) {
+			if (failure != null) {
+				failure.compareAndSet(null, e);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 指定範囲のバインドオブジェクトの組ごとにメッセージ内容を編集した内容を区切り文字列で連結して提供します。<br>
+	 * 他の分割の編集が失敗している場合は編集を中断し、自身の編集が失敗した場合は失敗を他の分割に通知します。<br>
+	 * @param binds バインドオブジェクトの組
+	 * @param separator メッセージごとに出力する区切り文字列(nullの場合は区切りなし)
+	 * @param start 開始位置
+	 * @param end 終了位置(この位置は含まない)
+	 * @param failure 最初の失敗
+	 * @return 編集内容(中断した場合はnull)
+	 */
+	private StringBuilder render(Object[][] binds, CharSequence separator, int start, int end, AtomicReference<Throwable> failure) {
+		StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD);
+		try {
+			for (int i = start; i <= end - 1; i++) {
+				if (failure.get() != null) {
+					return null;
+				}
+				template.render(buffer, binds[i]);
+				if (separator != null) {
+					buffer.append(separator);
+				}
+			}
+			return buffer;
+		} catch (RuntimeException | Error e) {
+			failure.compareAndSet(null, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * 並列編集タスクの完了を待機して結果を取得します。<br>
+	 * いずれかの並列編集タスクが失敗している場合は、未完了の並列編集タスクを取り消して最初に発生した例外をスローします。<br>
+	 * @param <T> 編集結果型
+	 * @param task 並列編集タスク
+	 * @param tasks 未完了の可能性がある全ての並列編集タスク
+	 * @param failure 最初の失敗
+	 * @return 編集結果
+	 */
+	private static <T> T join(ForkJoinTask<T> task, Collection<? extends ForkJoinTask<?>> tasks, AtomicReference<Throwable> failure) {
+		T result = null;
+		try {
+			result = task.get();
+		} catch (InterruptedException e) {
+			cancel(tasks);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			failure.compareAndSet(null, e.getCause());
+		} catch (CancellationException e) {
+			// 他の分割の失敗による取り消しは最初の失敗として扱わない
+		}
+		Throwable cause = failure.get();
+		if (cause == null) {
+			return result;
+		}
+		cancel(tasks);
+		while (cause.getClass() == RuntimeException.class && cause.getCause() != null) {
+			// 並列タスク上の例外はラップされるため元の例外を要因とする
+			cause = cause.getCause();
+		}
+		if (cause instanceof RuntimeException) {
+			throw (RuntimeException) cause;
+		}
+		if (cause instanceof Error) {
+			throw (Error) cause;
+		}
+		throw new IllegalStateException(cause);
+	}
+
+	/**
+	 * 未完了の並列編集タスクを取り消します。<br>
+	 * 実行中の並列編集タスクは次のバインドオブジェクトの編集前に中断します。<br>
+	 * @param tasks 並列編集タスク
+	 */
+	private static void cancel(Collection<? extends ForkJoinTask<?>> tasks) {
+		for (ForkJoinTask<?> task : tasks) {
+			task.cancel(true);
+		}
+	}
+
+	/**
+	 * 配列のバインドオブジェクトの組を順に提供するイテレータクラスです。<br>
+	 */
+	private static final class ArrayIterator implements Iterator<Object[]> {
+
+		/** バインドオブジェクトの組 */
+		private final Object[][] binds;
+
+		/** 次の位置 */
+		private int index;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param binds バインドオブジェクトの組
+		 */
+		private ArrayIterator(Object[][] binds) {
+			super();
+			this.binds = binds;
+		}
+
+		/**
+		 * 次のバインドオブジェクトの組が存在するか判定します。<br>
+		 * @return 次のバインドオブジェクトの組が存在する場合にtrueを返却
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			return index < binds.length;
+		}
+
+		/**
+		 * 次のバインドオブジェクトの組を取得します。<br>
+		 * @return バインドオブジェクトの組
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public Object[] next() {
+			if (index >= binds.length) {
+				throw new NoSuchElementException();
+			}
+			return binds[index++];
+		}
+	}
+}
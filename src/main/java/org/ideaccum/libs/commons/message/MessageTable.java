@@ -0,0 +1,394 @@
+package org.ideaccum.libs.commons.message;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Messages}が管理するメッセージ定義情報の不変スナップショットを提供します。<br>
+ * <p>
+ * このクラスのインスタンスは生成後に内容が変更されることはなく、読み込みやマージ等の更新操作は新たなインスタンスを生成して提供します。<br>
+ * {@link Messages}は更新後のインスタンスを参照の差し替えのみで公開するため、参照側は排他制御なしに一貫した内容を参照できます。<br>
+ * ロケール別のメッセージ定義情報はルートとなるインスタンスがロケールごとに保持し、ロケールのフォールバックチェーンを解決した結果はスナップショット単位でキャッシュされます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         存在しないメッセージコードの検索結果キャッシュを追加
+ * 2026/10/17  Kitagawa         メッセージレベル別インデックスを追加
+ * 2026/10/17  Kitagawa         メッセージバンドルを検索インデックスを生成せずに共有するよう変更
+ *-->
+ */
+final class MessageTable implements Serializable {
+
+	/** バージョン採番 */
+	private static final AtomicLong VERSIONS = new AtomicLong();
+
+	/** 空のメッセージ定義情報 */
+	static final MessageTable EMPTY = new MessageTable(new HashMap<String, Message>(), new HashMap<Locale, MessageTable>());
+
+	/** 出力内容キャッシュ上限 */
+	private static final int EXPORT_CACHE_LIMIT = 64;
+
+	/** 存在しないメッセージコードキャッシュ上限 */
+	private static final int MISSING_CACHE_LIMIT = 1024;
+
+	/** ロケール解決結果キャッシュ上限 */
+	private static final int RESOLVED_CACHE_LIMIT = 256;
+
+	/** ロケール候補解決コントロール */
+	private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_DEFAULT);
+
+	/** バージョン(スナップショットごとに一意) */
+	private long version;
+
+	/** メッセージデータ */
+	private Map<String, Message> messages;
+
+	/** 検索インデックス(メッセージコード及び、レベルサフィックスを持つ定義コードをキーとする、メッセージバンドルの場合はnull) */
+	private Map<String, Message> index;
+
+	/** メッセージバンドル(メッセージデータがメッセージバンドルの場合のみ) */
+	private transient MessageBundle bundle;
+
+	/** メッセージレベル別インデックス(初回参照時に生成) */
+	private transient volatile Map<MessageLevel, Map<String, Message>> levels;
+
+	/** ロケール別メッセージ定義情報 */
+	private Map<Locale, MessageTable> locales;
+
+	/** 要求ロケールごとの解決済みメッセージ定義情報キャッシュ */
+	private transient ConcurrentMap<Locale, MessageTable> resolved;
+
+	/** フォールバックチェーンごとの解決済みメッセージ定義情報キャッシュ */
+	private transient ConcurrentMap<List<Locale>, MessageTable> chains;
+
+	/** 出力内容キャッシュ */
+	private transient ConcurrentMap<Object, MessagesExport> exports;
+
+	/** 存在しないメッセージコードキャッシュ */
+	private transient Set<String> missing;
+
+	/**
+	 * コンストラクタ<br>
+	 * 指定されたマップはこのインスタンスの管理下となるため、呼び出し元で以降変更しないで下さい。<br>
+	 * メッセージバンドルが指定された場合は不変かつエントリ部の二分探索で検索できるため、検索インデックスを生成せずにそのまま保持します。<br>
+	 * @param messages メッセージデータ
+	 * @param locales ロケール別メッセージ定義情報
+	 */
+	private MessageTable(Map<String, Message> messages, Map<Locale, MessageTable> locales) {
+		super();
+		this.version = VERSIONS.incrementAndGet();
+		if (messages instanceof MessageBundle) {
+			this.bundle = (MessageBundle) messages;
+			this.messages = messages;
+		} else {
+			this.messages = Collections.unmodifiableMap(messages);
+			this.index = index(messages);
+		}
+		this.locales = Collections.unmodifiableMap(locales);
+		this.resolved = new ConcurrentHashMap<>();
+		this.chains = new ConcurrentHashMap<>();
+		this.exports = new ConcurrentHashMap<>();
+		this.missing = ConcurrentHashMap.newKeySet();
+	}
+
+	/**
+	 * メッセージデータから検索インデックスを生成します。<br>
+	 * @param messages メッセージデータ
+	 * @return 検索インデックス
+	 */
+	private static Map<String, Message> index(Map<String, Message> messages) {
+		Map<String, Message> index = new HashMap<>(messages.size() * 4);
+		for (Message message : messages.values()) {
+			index.put(Message.getDefineCode(message.getCode(), message.getLevel()), message);
+		}
+		// 定義コードと同一文字列のメッセージコードが存在する場合はメッセージコードを優先
+		index.putAll(messages);
+		return index;
+	}
+
+	/**
+	 * メッセージデータからメッセージレベル別インデックスを生成します。<br>
+	 * @param messages メッセージデータ
+	 * @return 変更不可能なメッセージレベル別インデックス(メッセージが存在しないレベルは含まない)
+	 */
+	private static Map<MessageLevel, Map<String, Message>> levels(Map<String, Message> messages) {
+		Map<MessageLevel, Map<String, Message>> levels = new EnumMap<>(MessageLevel.class);
+		for (Map.Entry<String, Message> entry : messages.entrySet()) {
+			Map<String, Message> map = levels.get(entry.getValue().getLevel());
+			if (map == null) {
+				map = new HashMap<>();
+				levels.put(entry.getValue().getLevel(), map);
+			}
+			map.put(entry.getKey(), entry.getValue());
+		}
+		for (Map.Entry<MessageLevel, Map<String, Message>> entry : levels.entrySet()) {
+			entry.setValue(Collections.unmodifiableMap(entry.getValue()));
+		}
+		return Collections.unmodifiableMap(levels);
+	}
+
+	/**
+	 * デシリアライズ処理を行います。<br>
+	 * @param stream 入力ストリーム
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 * @throws ClassNotFoundException クラスが見つからない場合にスローされます
+	 */
+	private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+		stream.defaultReadObject();
+		this.version = VERSIONS.incrementAndGet();
+		this.resolved = new ConcurrentHashMap<>();
+		this.chains = new ConcurrentHashMap<>();
+		this.exports = new ConcurrentHashMap<>();
+		this.missing = ConcurrentHashMap.newKeySet();
+		if (index == null) {
+			// メッセージバンドルは展開されたマップとしてシリアライズされるため検索インデックスを再生成
+			this.messages = Collections.unmodifiableMap(messages);
+			this.index = index(messages);
+		}
+	}
+
+	/**
+	 * オブジェクト情報を文字列として提供します。<br>
+	 * @return オブジェクト情報文字列
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return messages.toString();
+	}
+
+	/**
+	 * バージョンを取得します。<br>
+	 * @return バージョン
+	 */
+	long getVersion() {
+		return version;
+	}
+
+	/**
+	 * キャッシュされた出力内容を取得します。<br>
+	 * @param key 出力内容キー
+	 * @return 出力内容(キャッシュされていない場合はnull)
+	 */
+	MessagesExport getExport(Object key) {
+		return exports.get(key);
+	}
+
+	/**
+	 * 出力内容をキャッシュします。<br>
+	 * 既にキャッシュされている場合はキャッシュ済みの出力内容を提供します。<br>
+	 * キャッシュ件数が上限に達している場合はキャッシュせずに指定された出力内容をそのまま提供します。<br>
+	 * @param key 出力内容キー
+	 * @param export 出力内容
+	 * @return キャッシュされた出力内容
+	 */
+	MessagesExport putExport(Object key, MessagesExport export) {
+		if (exports.size() >= EXPORT_CACHE_LIMIT) {
+			MessagesExport exists = exports.get(key);
+			return exists == null ? export : exists;
+		}
+		MessagesExport exists = exports.putIfAbsent(key, export);
+		return exists == null ? export : exists;
+	}
+
+	/**
+	 * メッセージデータを取得します。<br>
+	 * @return 変更不可能なメッセージデータ
+	 */
+	Map<String, Message> getMessages() {
+		return messages;
+	}
+
+	/**
+	 * メッセージレベルのメッセージデータを取得します。<br>
+	 * メッセージレベル別インデックスから提供するため、メッセージデータ全体の走査はインデックスを生成する初回参照時のみ行われます。<br>
+	 * @param level メッセージレベル
+	 * @return 変更不可能なメッセージデータ(メッセージが存在しない場合は空のマップ)
+	 */
+	Map<String, Message> getMessages(MessageLevel level) {
+		if (level == null) {
+			return Collections.<String, Message> emptyMap();
+		}
+		Map<MessageLevel, Map<String, Message>> levels = this.levels;
+		if (levels == null) {
+			// 同時に生成された場合も内容は同一のため排他制御は行わない
+			levels = levels(messages);
+			this.levels = levels;
+		}
+		Map<String, Message> map = levels.get(level);
+		return map == null ? Collections.<String, Message> emptyMap() : map;
+	}
+
+	/**
+	 * ロケール別メッセージ定義情報を取得します。<br>
+	 * @return 変更不可能なロケール別メッセージ定義情報
+	 */
+	Map<Locale, MessageTable> getLocales() {
+		return locales;
+	}
+
+	/**
+	 * ロケールのフォールバックチェーン(例:en_US→en→ルート)を解決したメッセージ定義情報を提供します。<br>
+	 * 解決結果はこのスナップショット内でキャッシュされるため、同一ロケールの2回目以降の解決は単一の検索で提供されます。<br>
+	 * @param locale ロケール
+	 * @return ロケールのフォールバックチェーンを解決したメッセージ定義情報
+	 */
+	MessageTable resolve(Locale locale) {
+		if (locale == null || locales.isEmpty()) {
+			return this;
+		}
+		MessageTable table = resolved.get(locale);
+		if (table != null) {
+			return table;
+		}
+
+		/*
+		 * 定義が存在するロケールのみでフォールバックチェーンを構成
+		 */
+		List<Locale> chain = new ArrayList<>();
+		for (Locale candidate : CONTROL.getCandidateLocales("", locale)) {
+			if (locales.containsKey(candidate)) {
+				chain.add(candidate);
+			}
+		}
+		if (chain.isEmpty()) {
+			table = this;
+		} else {
+			table = chains.get(chain);
+			if (table == null) {
+				Map<String, Message> map = new HashMap<>(messages);
+				for (int i = chain.size() - 1; i >= 0; i--) {
+					map.putAll(locales.get(chain.get(i)).messages);
+				}
+				table = new MessageTable(map, new HashMap<Locale, MessageTable>());
+				MessageTable exists = chains.putIfAbsent(chain, table);
+				if (exists != null) {
+					table = exists;
+				}
+			}
+		}
+		if (resolved.size() < RESOLVED_CACHE_LIMIT) {
+			resolved.put(locale, table);
+		}
+		return table;
+	}
+
+	/**
+	 * メッセージコードで管理されているメッセージ内容を取得します。<br>
+	 * メッセージコード又は、管理されているレベルの定義コードはインデックスの単一検索で解決されます。<br>
+	 * それ以外の形式(異なるレベルサフィックスや前後空白を持つ定義コード)の場合のみコード解析を行い検索します。<br>
+	 * メッセージバンドルの場合はメッセージバンドルのエントリ部の二分探索で解決されます。<br>
+	 * @param code メッセージコード又は、レベルサフィックスを持つ定義コード
+	 * @return メッセージ内容(存在しない場合はnull)
+	 */
+	Message find(String code) {
+		if (code == null) {
+			return null;
+		}
+		Message message = bundle == null ? index.get(code) : bundle.find(code);
+		if (message != null) {
+			return message;
+		}
+		if (missing.contains(code)) {
+			return null;
+		}
+		if (bundle == null && Message.isValidDefineCode(code)) {
+			message = messages.get(Message.getMessageCode(code));
+			if (message != null) {
+				return message;
+			}
+		}
+		// スナップショットは不変のため、存在しないコードは差し替えまで存在しない
+		if (missing.size() < MISSING_CACHE_LIMIT) {
+			missing.add(code);
+		}
+		return null;
+	}
+
+	/**
+	 * 読み込まれたメッセージを読み込みモードに従って反映したメッセージ定義情報を提供します。<br>
+	 * @param loaded 読み込まれたメッセージ
+	 * @param mode メッセージリソース読み込み時の挙動
+	 * @return 反映後のメッセージ定義情報
+	 */
+	MessageTable load(Map<String, Message> loaded, MessagesLoadMode mode) {
+		if (mode == MessagesLoadMode.REPLACE_ALL || mode == null || messages.isEmpty()) {
+			// すべてのプロパティを置き換える場合は現状の保持情報を破棄(メッセージバンドルは複製せずに共有)
+			return new MessageTable(copy(loaded), new HashMap<>(locales));
+		}
+		Map<String, Message> map = new HashMap<>(messages);
+		if (mode == MessagesLoadMode.REPLACE_EXISTS) {
+			// 既存プロパティに対しては上書きする場合は読み込んだプロパティをプット
+			map.putAll(loaded);
+		} else if (mode == MessagesLoadMode.SKIP_EXISTS) {
+			// 既存プロパティに対しては現状維持とする場合はプロパティごとに判定しながらプット
+			for (Map.Entry<String, Message> entry : loaded.entrySet()) {
+				if (map.containsKey(entry.getKey())) {
+					continue;
+				}
+				map.put(entry.getKey(), entry.getValue());
+			}
+		}
+		return new MessageTable(map, new HashMap<>(locales));
+	}
+
+	/**
+	 * 読み込まれたメッセージを読み込みモードに従ってロケール別メッセージ定義情報に反映したメッセージ定義情報を提供します。<br>
+	 * ロケールにnull又は、{@link Locale#ROOT}が指定された場合はルートのメッセージ定義情報に反映します。<br>
+	 * @param locale ロケール
+	 * @param loaded 読み込まれたメッセージ
+	 * @param mode メッセージリソース読み込み時の挙動
+	 * @return 反映後のメッセージ定義情報
+	 */
+	MessageTable load(Locale locale, Map<String, Message> loaded, MessagesLoadMode mode) {
+		if (locale == null || Locale.ROOT.equals(locale)) {
+			return load(loaded, mode);
+		}
+		MessageTable current = locales.get(locale);
+		if (current == null) {
+			current = EMPTY;
+		}
+		Map<Locale, MessageTable> map = new HashMap<>(locales);
+		map.put(locale, current.load(loaded, mode));
+		return new MessageTable(copy(messages), map);
+	}
+
+	/**
+	 * メッセージデータを新たなインスタンスで管理するための複製を提供します。<br>
+	 * メッセージバンドルは不変のため複製せずに提供します。<br>
+	 * @param messages メッセージデータ
+	 * @return 複製されたメッセージデータ
+	 */
+	private static Map<String, Message> copy(Map<String, Message> messages) {
+		return messages instanceof MessageBundle ? messages : new HashMap<>(messages);
+	}
+
+	/**
+	 * 他のメッセージ定義情報をマージしたメッセージ定義情報を提供します。<br>
+	 * ルート及び、ロケール別のメッセージ定義情報ともにマージ元の定義で上書きします。<br>
+	 * @param other マージ元メッセージ定義情報
+	 * @return マージ後のメッセージ定義情報
+	 */
+	MessageTable merge(MessageTable other) {
+		MessageTable table = load(other.messages, MessagesLoadMode.REPLACE_EXISTS);
+		for (Map.Entry<Locale, MessageTable> entry : other.locales.entrySet()) {
+			table = table.load(entry.getKey(), entry.getValue().messages, MessagesLoadMode.REPLACE_EXISTS);
+		}
+		return table;
+	}
+}
@@ -0,0 +1,575 @@
+package org.ideaccum.libs.commons.message;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * メッセージ定義内容を解析済みのテンプレートとして管理するクラスです。<br>
+ * <p>
+ * メッセージ定義内容をリテラル文字列とバインドスロット({n})に事前分解して保持し、バインド処理を単一走査で行います。<br>
+ * バインドスロットにはインデックスの他に名前({name})を指定でき、名前付きバインドスロットは{@link Map}によるバインドで値が設定されます。<br>
+ * また、バインドスロットには書式({0,number,#,##0}、{1,date,yyyy-MM-dd}等、{@link MessageFormatter}参照)を指定でき、書式処理はテンプレート生成時に解決されたものが共有されます。<br>
+ * このクラスは{@link Message}の生成時に内部的に生成され、利用者が直接利用することはありません。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         名前付きバインドスロット及び、書式付きバインドスロットに対応
+ * 2026/10/17  Kitagawa         名前付き又は、書式付きバインドスロットを持つテンプレートを文字列バッファを介さずに出力先へ追加するよう変更
+ * 2026/10/17  Kitagawa         メッセージ操作用スクリプトで編集可能か判定する処理を追加
+ *-->
+ */
+final class MessageTemplate implements Serializable {
+
+	/** バインド値文字列長見込み */
+	private static final int ESTIMATE_BIND_LENGTH = 16;
+
+	/** バインドスロットインデックス最大桁数 */
+	private static final int MAX_INDEX_DIGITS = 9;
+
+	/** 定義メッセージ内容 */
+	private final String define;
+
+	/** リテラル文字列(バインドスロット数+1の要素を保持) */
+	private final String[] literals;
+
+	/** バインドスロットインデックス(名前付きバインドスロットは-1) */
+	private final int[] slots;
+
+	/** バインドスロット名(名前付きバインドスロットが存在しない場合はnull) */
+	private final String[] names;
+
+	/** バインドスロット書式指定(書式付きバインドスロットが存在しない場合はnull) */
+	private final String[] formats;
+
+	/** バインドスロット書式処理(書式付きバインドスロットが存在しない場合はnull) */
+	private final transient MessageFormatter[] formatters;
+
+	/** リテラル文字列長合計 */
+	private final int length;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param define 定義メッセージ内容
+	 * @param literals リテラル文字列
+	 * @param slots バインドスロットインデックス
+	 * @param names バインドスロット名
+	 * @param formats バインドスロット書式指定
+	 * @param formatters バインドスロット書式処理(書式指定と同一要素数)
+	 */
+	private MessageTemplate(String define, String[] literals, int[] slots, String[] names, String[] formats, MessageFormatter[] formatters) {
+		super();
+		this.define = define;
+		this.literals = literals;
+		this.slots = slots;
+		this.names = isEmpty(names) ? null : names;
+		this.formats = isEmpty(formats) ? null : formats;
+		this.formatters = this.formats == null ? null : formatters;
+		int length = 0;
+		for (String literal : literals) {
+			length += literal.length();
+		}
+		this.length = length;
+	}
+
+	/**
+	 * 配列が全てnullの要素で構成されているか判定します。<br>
+	 * @param values 判定対象配列
+	 * @return 配列がnull又は、全てnullの要素で構成されている場合にtrueを返却
+	 */
+	private static boolean isEmpty(String[] values) {
+		if (values == null) {
+			return true;
+		}
+		for (String value : values) {
+			if (value != null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * バインドスロット書式指定に対する書式処理を解決します。<br>
+	 * @param formats バインドスロット書式指定
+	 * @return バインドスロット書式処理(書式付きバインドスロットが存在しない場合はnull)
+	 */
+	private static MessageFormatter[] formatters(String[] formats) {
+		if (isEmpty(formats)) {
+			return null;
+		}
+		MessageFormatter[] formatters = new MessageFormatter[formats.length];
+		for (int i = 0; i <= formats.length - 1; i++) {
+			formatters[i] = formats[i] == null ? null : MessageFormatter.of(formats[i]);
+		}
+		return formatters;
+	}
+
+	/**
+	 * デシリアライズ後のインスタンスを書式処理を解決したインスタンスに置き換えます。<br>
+	 * @return 書式処理を解決したインスタンス
+	 */
+	private Object readResolve() {
+		return new MessageTemplate(define, literals, slots, names, formats, formatters(formats));
+	}
+
+	/**
+	 * 定義メッセージ内容を解析してテンプレートを生成します。<br>
+	 * @param define 定義メッセージ内容
+	 * @return メッセージテンプレート
+	 */
+	static MessageTemplate compile(String define) {
+		List<String> literals = new ArrayList<>();
+		List<Integer> slots = new ArrayList<>();
+		List<String> names = new ArrayList<>();
+		List<String> formats = new ArrayList<>();
+		List<MessageFormatter> formatters = new ArrayList<>();
+		if (define != null) {
+			int start = 0;
+			int cursor = 0;
+			while ((cursor = define.indexOf('{', cursor)) >= 0) {
+				int close = define.indexOf('}', cursor + 1);
+				if (close < 0) {
+					break;
+				}
+				int separator = define.indexOf(',', cursor + 1);
+				int keyEnd = separator >= 0 && separator < close ? separator : close;
+				int index = parseIndex(define, cursor + 1, keyEnd);
+				String name = index < 0 ? parseName(define, cursor + 1, keyEnd) : null;
+				String format = keyEnd < close ? define.substring(keyEnd + 1, close) : null;
+				MessageFormatter formatter = format == null ? null : MessageFormatter.of(format);
+				if ((index < 0 && name == null) || (format != null && formatter == null)) {
+					cursor++;
+					continue;
+				}
+				literals.add(define.substring(start, cursor));
+				slots.add(index);
+				names.add(name);
+				formats.add(format);
+				formatters.add(formatter);
+				start = close + 1;
+				cursor = start;
+			}
+			literals.add(define.substring(start));
+		} else {
+			literals.add("");
+		}
+		int[] indexes = new int[slots.size()];
+		for (int i = 0; i <= indexes.length - 1; i++) {
+			indexes[i] = slots.get(i);
+		}
+		return new MessageTemplate(define, literals.toArray(new String[literals.size()]), indexes, names.toArray(new String[names.size()]), formats.toArray(new String[formats.size()]), formatters.toArray(new MessageFormatter[formatters.size()]));
+	}
+
+	/**
+	 * 解析済みのリテラル文字列とバインドスロットからテンプレートを生成します。<br>
+	 * 事前コンパイルされたメッセージバンドルからの復元時に利用されます。<br>
+	 * @param define 定義メッセージ内容
+	 * @param literals リテラル文字列(バインドスロット数+1の要素)
+	 * @param slots バインドスロットインデックス
+	 * @return メッセージテンプレート
+	 */
+	static MessageTemplate of(String define, String[] literals, int[] slots) {
+		return of(define, literals, slots, null, null);
+	}
+
+	/**
+	 * 解析済みのリテラル文字列とバインドスロットからテンプレートを生成します。<br>
+	 * 事前コンパイルされたメッセージバンドルからの復元時に利用されます。<br>
+	 * @param define 定義メッセージ内容
+	 * @param literals リテラル文字列(バインドスロット数+1の要素)
+	 * @param slots バインドスロットインデックス(名前付きバインドスロットは-1)
+	 * @param names バインドスロット名(名前付きバインドスロット以外の要素はnull、配列自体はnull可)
+	 * @param formats バインドスロット書式指定(書式付きバインドスロット以外の要素はnull、配列自体はnull可)
+	 * @return メッセージテンプレート
+	 */
+	static MessageTemplate of(String define, String[] literals, int[] slots, String[] names, String[] formats) {
+		if (literals.length != slots.length + 1) {
+			throw new IllegalArgumentException("literals length must be slots length + 1");
+		}
+		if ((names != null && names.length != slots.length) || (formats != null && formats.length != slots.length)) {
+			throw new IllegalArgumentException("names and formats length must be slots length");
+		}
+		return new MessageTemplate(define, literals, slots, names, formats, formatters(formats));
+	}
+
+	/**
+	 * バインドスロットのインデックス表記を解析します。<br>
+	 * 先頭ゼロを持たない10進数表記のみを有効なインデックスとして扱います。<br>
+	 * @param source 解析対象文字列
+	 * @param begin 開始位置
+	 * @param end 終了位置(この位置の文字は含まない)
+	 * @return バインドスロットインデックス(インデックス表記でない場合は-1)
+	 */
+	private static int parseIndex(String source, int begin, int end) {
+		int digits = end - begin;
+		if (digits <= 0 || digits > MAX_INDEX_DIGITS) {
+			return -1;
+		}
+		if (digits > 1 && source.charAt(begin) == '0') {
+			return -1;
+		}
+		int index = 0;
+		for (int i = begin; i <= end - 1; i++) {
+			char c = source.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			index = index * 10 + (c - '0');
+		}
+		return index;
+	}
+
+	/**
+	 * バインドスロットの名前表記を解析します。<br>
+	 * 英字又は"_"で始まり、英数字、"_"、"."で構成される表記のみを有効な名前として扱います。<br>
+	 * @param source 解析対象文字列
+	 * @param begin 開始位置
+	 * @param end 終了位置(この位置の文字は含まない)
+	 * @return バインドスロット名(名前表記でない場合はnull)
+	 */
+	private static String parseName(String source, int begin, int end) {
+		if (end <= begin) {
+			return null;
+		}
+		char first = source.charAt(begin);
+		if (!Character.isLetter(first) && first != '_') {
+			return null;
+		}
+		for (int i = begin + 1; i <= end - 1; i++) {
+			char c = source.charAt(i);
+			if (!Character.isLetterOrDigit(c) && c != '_' && c != '.') {
+				return null;
+			}
+		}
+		return source.substring(begin, end);
+	}
+
+	/**
+	 * 定義メッセージ内容を取得します。<br>
+	 * @return 定義メッセージ内容
+	 */
+	String getDefine() {
+		return define;
+	}
+
+	/**
+	 * リテラル文字列を取得します。<br>
+	 * @return リテラル文字列(バインドスロット数+1の要素)
+	 */
+	String[] getLiterals() {
+		return literals.clone();
+	}
+
+	/**
+	 * バインドスロットインデックスを取得します。<br>
+	 * @return バインドスロットインデックス
+	 */
+	int[] getSlots() {
+		return slots.clone();
+	}
+
+	/**
+	 * バインドスロット名を取得します。<br>
+	 * @return バインドスロット名(名前付きバインドスロットが存在しない場合はnull)
+	 */
+	String[] getNames() {
+		return names == null ? null : names.clone();
+	}
+
+	/**
+	 * バインドスロット書式指定を取得します。<br>
+	 * @return バインドスロット書式指定(書式付きバインドスロットが存在しない場合はnull)
+	 */
+	String[] getFormats() {
+		return formats == null ? null : formats.clone();
+	}
+
+	/**
+	 * バインドスロットを保持しているか判定します。<br>
+	 * @return バインドスロットを保持している場合にtrueを返却
+	 */
+	boolean hasSlots() {
+		return slots.length > 0;
+	}
+
+	/**
+	 * メッセージ操作用スクリプト(Messages.js)で同一のメッセージ内容に編集可能か判定します。<br>
+	 * 名前付きバインドスロットの名前がASCII英数字、"_"、"."のみで構成され、全ての書式付きバインドスロットの書式がスクリプトで書式化可能({@link MessageFormatter#isScriptable()})な場合に編集可能とします。<br>
+	 * @return 編集可能な場合にtrueを返却
+	 */
+	boolean isScriptable() {
+		for (int i = 0; names != null && i <= names.length - 1; i++) {
+			if (names[i] != null && !isScriptableName(names[i])) {
+				return false;
+			}
+		}
+		for (int i = 0; formatters != null && i <= formatters.length - 1; i++) {
+			if (formatters[i] != null && !formatters[i].isScriptable()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * バインドスロット名がメッセージ操作用スクリプトで名前として解析可能か判定します。<br>
+	 * @param name バインドスロット名
+	 * @return 解析可能な場合にtrueを返却
+	 */
+	private static boolean isScriptableName(String name) {
+		for (int i = 0; i <= name.length() - 1; i++) {
+			char c = name.charAt(i);
+			boolean letter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+			if (!letter && (i == 0 || ((c < '0' || c > '9') && c != '.'))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * バインドオブジェクトをバインドしたメッセージ内容を提供します。<br>
+	 * @param binds バインドオブジェクト
+	 * @return メッセージ内容
+	 */
+	String render(Object[] binds) {
+		if (slots.length == 0 || binds == null || binds.length == 0) {
+			return define;
+		}
+		StringBuilder builder = new StringBuilder(length + slots.length * ESTIMATE_BIND_LENGTH);
+		render(builder, binds);
+		return builder.toString();
+	}
+
+	/**
+	 * バインドオブジェクトをバインドしたメッセージ内容を文字列バッファに追加します。<br>
+	 * バインドオブジェクトが存在しないインデックスのスロットは定義内容({n})のまま出力されます。<br>
+	 * @param builder 出力先文字列バッファ
+	 * @param binds バインドオブジェクト
+	 */
+	void render(StringBuilder builder, Object[] binds) {
+		if (names != null || formatters != null) {
+			render(builder, binds, null);
+			return;
+		}
+		int count = binds == null ? 0 : binds.length;
+		for (int i = 0; i <= slots.length - 1; i++) {
+			builder.append(literals[i]);
+			int index = slots[i];
+			if (index < count) {
+				Object value = binds[index];
+				if (value instanceof CharSequence) {
+					builder.append((CharSequence) value);
+				} else if (value != null) {
+					builder.append(value.toString());
+				}
+			} else {
+				builder.append('{').append(index).append('}');
+			}
+		}
+		builder.append(literals[slots.length]);
+	}
+
+	/**
+	 * バインドオブジェクトをバインドしたメッセージ内容を出力先に追加します。<br>
+	 * 文字列(CharSequence)のバインドオブジェクトは文字列化せずにそのまま出力されます。<br>
+	 * @param appendable 出力先
+	 * @param binds バインドオブジェクト
+	 * @throws IOException 出力先への追加時に入出力例外が発生した場合にスローされます
+	 */
+	void render(Appendable appendable, Object[] binds) throws IOException {
+		if (appendable instanceof StringBuilder) {
+			render((StringBuilder) appendable, binds);
+			return;
+		}
+		if (names != null || formatters != null) {
+			renderTyped(appendable, binds);
+			return;
+		}
+		int count = binds == null ? 0 : binds.length;
+		for (int i = 0; i <= slots.length - 1; i++) {
+			appendable.append(literals[i]);
+			int index = slots[i];
+			if (index < count) {
+				Object value = binds[index];
+				if (value instanceof CharSequence) {
+					appendable.append((CharSequence) value);
+				} else if (value != null) {
+					appendable.append(value.toString());
+				}
+			} else {
+				appendable.append('{').append(String.valueOf(index)).append('}');
+			}
+		}
+		appendable.append(literals[slots.length]);
+	}
+
+	/**
+	 * 名前付き又は、書式付きバインドスロットを持つテンプレートのインデックス順のバインドオブジェクトをバインドしたメッセージ内容を出力先に追加します。<br>
+	 * 名前付きバインドスロットはバインドされずに定義内容のまま出力され、書式付きバインドスロットは値ごとに書式化して追加されます。<br>
+	 * @param appendable 出力先
+	 * @param binds バインドオブジェクト
+	 * @throws IOException 出力先への追加時に入出力例外が発生した場合にスローされます
+	 * @see #render(StringBuilder, Object[], Map)
+	 */
+	private void renderTyped(Appendable appendable, Object[] binds) throws IOException {
+		int count = binds == null ? 0 : binds.length;
+		for (int i = 0; i <= slots.length - 1; i++) {
+			appendable.append(literals[i]);
+			if (slots[i] < 0 || slots[i] >= count) {
+				appendSlot(appendable, i);
+				continue;
+			}
+			Object value = binds[slots[i]];
+			if (value == null) {
+				continue;
+			}
+			if (formatters != null && formatters[i] != null) {
+				formatters[i].format(appendable, value);
+			} else if (value instanceof CharSequence) {
+				appendable.append((CharSequence) value);
+			} else {
+				appendable.append(value.toString());
+			}
+		}
+		appendable.append(literals[slots.length]);
+	}
+
+	/**
+	 * 単一の数値をバインドしたメッセージ内容を文字列バッファに追加します。<br>
+	 * 数値はインデックス0のスロットのみにバインドされ、ボクシングせずに出力されます(書式付きバインドスロットの場合は書式に従って出力されます)。<br>
+	 * インデックス0以外のバインドスロットはバインドされずに定義内容のまま出力されます。<br>
+	 * @param builder 出力先文字列バッファ
+	 * @param value バインド数値
+	 */
+	void render(StringBuilder builder, long value) {
+		for (int i = 0; i <= slots.length - 1; i++) {
+			builder.append(literals[i]);
+			if (slots[i] != 0) {
+				appendSlot(builder, i);
+			} else if (formatters != null && formatters[i] != null) {
+				formatters[i].format(builder, value);
+			} else {
+				builder.append(value);
+			}
+		}
+		builder.append(literals[slots.length]);
+	}
+
+	/**
+	 * 単一の数値をバインドしたメッセージ内容を文字列バッファに追加します。<br>
+	 * 数値はインデックス0のスロットのみにバインドされ、ボクシングせずに出力されます(書式付きバインドスロットの場合は書式に従って出力されます)。<br>
+	 * インデックス0以外のバインドスロットはバインドされずに定義内容のまま出力されます。<br>
+	 * @param builder 出力先文字列バッファ
+	 * @param value バインド数値
+	 */
+	void render(StringBuilder builder, double value) {
+		for (int i = 0; i <= slots.length - 1; i++) {
+			builder.append(literals[i]);
+			if (slots[i] != 0) {
+				appendSlot(builder, i);
+			} else if (formatters != null && formatters[i] != null) {
+				formatters[i].format(builder, value);
+			} else {
+				builder.append(value);
+			}
+		}
+		builder.append(literals[slots.length]);
+	}
+
+	/**
+	 * 名前をキーとしたバインドオブジェクトをバインドしたメッセージ内容を提供します。<br>
+	 * @param binds バインドオブジェクト(キーはバインドスロット名又は、インデックスの文字列表記)
+	 * @return メッセージ内容
+	 */
+	String render(Map<String, ?> binds) {
+		if (slots.length == 0 || binds == null || binds.isEmpty()) {
+			return define;
+		}
+		StringBuilder builder = new StringBuilder(length + slots.length * ESTIMATE_BIND_LENGTH);
+		render(builder, null, binds);
+		return builder.toString();
+	}
+
+	/**
+	 * バインドオブジェクトをバインドしたメッセージ内容を文字列バッファに追加します。<br>
+	 * 名前をキーとしたバインドオブジェクトが指定された場合は、インデックスのバインドスロットもインデックスの文字列表記をキーとして値を取得します。<br>
+	 * バインドオブジェクトが存在しないスロットは定義内容のまま出力されます。<br>
+	 * @param builder 出力先文字列バッファ
+	 * @param binds インデックス順のバインドオブジェクト
+	 * @param named 名前をキーとしたバインドオブジェクト(指定された場合はインデックス順のバインドオブジェクトは利用しない)
+	 */
+	void render(StringBuilder builder, Object[] binds, Map<String, ?> named) {
+		int count = binds == null ? 0 : binds.length;
+		for (int i = 0; i <= slots.length - 1; i++) {
+			builder.append(literals[i]);
+			Object value;
+			if (named != null) {
+				String key = names != null && names[i] != null ? names[i] : String.valueOf(slots[i]);
+				value = named.get(key);
+				if (value == null && !named.containsKey(key)) {
+					appendSlot(builder, i);
+					continue;
+				}
+			} else if (slots[i] >= 0 && slots[i] < count) {
+				value = binds[slots[i]];
+			} else {
+				appendSlot(builder, i);
+				continue;
+			}
+			if (value == null) {
+				continue;
+			}
+			if (formatters != null && formatters[i] != null) {
+				formatters[i].format(builder, value);
+			} else if (value instanceof CharSequence) {
+				builder.append((CharSequence) value);
+			} else {
+				builder.append(value.toString());
+			}
+		}
+		builder.append(literals[slots.length]);
+	}
+
+	/**
+	 * バインドされないバインドスロットを定義内容のまま文字列バッファに追加します。<br>
+	 * @param builder 出力先文字列バッファ
+	 * @param slot バインドスロット位置
+	 */
+	private void appendSlot(StringBuilder builder, int slot) {
+		builder.append('{');
+		if (names != null && names[slot] != null) {
+			builder.append(names[slot]);
+		} else {
+			builder.append(slots[slot]);
+		}
+		if (formats != null && formats[slot] != null) {
+			builder.append(',').append(formats[slot]);
+		}
+		builder.append('}');
+	}
+
+	/**
+	 * バインドされないバインドスロットを定義内容のまま出力先に追加します。<br>
+	 * @param appendable 出力先
+	 * @param slot バインドスロット位置
+	 * @throws IOException 出力先への追加時に入出力例外が発生した場合にスローされます
+	 */
+	private void appendSlot(Appendable appendable, int slot) throws IOException {
+		appendable.append('{');
+		if (names != null && names[slot] != null) {
+			appendable.append(names[slot]);
+		} else {
+			appendable.append(String.valueOf(slots[slot]));
+		}
+		if (formats != null && formats[slot] != null) {
+			appendable.append(',').append(formats[slot]);
+		}
+		appendable.append('}');
+	}
+}
@@ -2,37 +2,92 @@ package org.ideaccum.libs.commons.message;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.ResourceBundle;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.ideaccum.libs.commons.message.exception.MessageLoadException;
+import org.ideaccum.libs.commons.message.exception.MessageNotFoundException;
 import org.ideaccum.libs.commons.util.PropertiesUtil;
 import org.ideaccum.libs.commons.util.ResourceUtil;
 import org.ideaccum.libs.commons.util.StringUtil;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
 
 /**
  * コードとメッセージが対となる形式でのメッセージリソースを管理するインタフェースを提供します。<br>
  * <p>
  * このクラスではコード定義された内容をもとに動的な値バインドを可能とするテンプレートメッセージ内容を管理します。<br>
  * このメッセージリソースクラスはアプリケーション実行中は永続的に内容を保持し続けます。<br>
+ * 管理されるメッセージ定義情報は更新の都度不変なスナップショットとして差し替えられるため、読み込み中であっても参照処理は待機せず、更新前後いずれかの完全な内容を参照します。<br>
  * </p>
  * 
  *<!--
  * 更新日      更新者           更新内容
  * 2018/06/13  Kitagawa         新規作成
  * 2019/05/08  Kitagawa         Javascriptからのメッセージ定義利用用のスクリプトソース出力メソッド({@link #writeScript(PrintWriter)})を追加
+ * 2026/10/17  Kitagawa         メッセージ定義情報を不変スナップショットの差し替えで更新する方式に変更
+ * 2026/10/17  Kitagawa         XMLリソースの読み込みをストリーム解析(StAX)に変更
+ * 2026/10/17  Kitagawa         事前コンパイルされたメッセージバンドル({@link MessagesCompiler})の読み込みに対応
+ * 2026/10/17  Kitagawa         ロケール別メッセージ定義情報の読み込み及び、ロケールを指定したメッセージ取得({@link #get(String, Locale)})を追加
+ * 2026/10/17  Kitagawa         メッセージリソースファイルの変更監視による再読み込み({@link #watch(long)})を追加
+ * 2026/10/17  Kitagawa         メッセージ操作用スクリプトの出力内容をスナップショットごとにキャッシュし、ETag及び圧縮済み出力({@link #writeScript(OutputStream, boolean)})を追加
+ * 2026/10/17  Kitagawa         絞り込み条件({@link MessagesFilter})を指定したメッセージ操作用スクリプトの出力を追加
+ * 2026/10/17  Kitagawa         メッセージ定義情報のみのJSON出力({@link #writeJson(OutputStream, boolean)})及び、スクリプトライブラリのみの出力({@link #writeScriptLibrary(OutputStream, boolean)})を追加
+ * 2026/10/17  Kitagawa         インスタンス間でメッセージを共有するプール({@link MessagePool})を指定したインスタンス生成({@link #create(boolean, MessagePool)})を追加
+ * 2026/10/17  Kitagawa         親メッセージ定義情報を複製せずに参照する階層化インスタンスの生成({@link #create(Messages)})を追加
+ * 2026/10/17  Kitagawa         利用状況の計測({@link MessagesMetrics})に対応
+ * 2026/10/17  Kitagawa         存在しないメッセージコードの取得時の挙動({@link #setMissingPolicy(MessageMissingPolicy)})を追加
+ * 2026/10/17  Kitagawa         複数メッセージリソースの並列読み込み({@link #loadAll(Collection, MessagesLoadMode)})を追加
+ * 2026/10/17  Kitagawa         インデックス({@link MessagesIndexer})によるクラスパス上のメッセージリソースの読み込み({@link #loadDiscovered(MessagesLoadMode)})を追加
+ * 2026/10/17  Kitagawa         メッセージ内容の一括編集インスタンスの取得({@link #renderer(String)})を追加
+ * 2026/10/17  Kitagawa         事前解決されたメッセージキー({@link MessageKey})によるメッセージ取得({@link #get(MessageKey)})を追加
+ * 2026/10/17  Kitagawa         メッセージレベル別のメッセージ取得({@link #values(MessageLevel)})及び、件数取得({@link #count(MessageLevel)})を追加
+ * 2026/10/17  Kitagawa         操作履歴をファイル変更監視中のみ保持するよう変更し、再読み込みの失敗を通知するよう変更
+ * 2026/10/17  Kitagawa         階層解決キャッシュを階層内のメッセージ定義情報のバージョンで検証するよう変更
+ * 2026/10/17  Kitagawa         メッセージキーの解決結果をインスタンスごとに保持するよう変更
+ * 2026/10/17  Kitagawa         通知済みの存在しないメッセージコードをメッセージ定義情報の更新時にクリアするよう変更
+ * 2026/10/17  Kitagawa         一括読み込みを専用又は、指定された実行環境で行うよう変更
+ * 2026/10/17  Kitagawa         URL文字列によるメッセージリソースの読み込みに対応
+ * 2026/10/17  Kitagawa         再読み込み時に変更された操作履歴以降のみを再反映するよう変更
+ * 2026/10/17  Kitagawa         階層化されたインスタンスへのマージを自身の階層のみに反映するよう変更
+ * 2026/10/17  Kitagawa         メッセージ操作用スクリプトで編集できないメッセージをスクリプト及び、JSON出力から除外
+ * 2026/10/17  Kitagawa         階層解決キャッシュを階層の検証に替えてメッセージ定義情報の更新時に子階層まで差し替えるよう変更
  *-->
  */
 public final class Messages implements Serializable {
@@ -40,26 +95,168 @@ public final class Messages implements Serializable {
 	/** スクリプトリソースパス */
 	private static final String SCRIPT_RESOURCE = "/" + Messages.class.getPackage().getName().replace(".", "/") + "/Messages.js";
 
+	/** ファイル変更監視時のディフォルト再読み込み待機時間(ミリ秒) */
+	public static final long DEFAULT_WATCH_DEBOUNCE = 500;
+
+	/** XML読み込みファクトリ(設定後は読み込み処理間で共有) */
+	private static final XMLInputFactory XML_INPUT_FACTORY = createXMLInputFactory();
+
+	/** スクリプト出力内容キャッシュキー */
+	private static final String SCRIPT_EXPORT_KEY = "script";
+
+	/** JSON出力内容キャッシュキー */
+	private static final String JSON_EXPORT_KEY = "json";
+
+	/** スクリプトライブラリ出力内容(初回利用時に読み込み) */
+	private static volatile MessagesExport scriptLibrary;
+
+	/** 通知済みの存在しないメッセージコードの保持上限件数 */
+	private static final int REPORTED_CODE_LIMIT = 4096;
+
+	/** 一括読み込み用スレッドの待機スレッド保持時間(秒) */
+	private static final long LOADER_KEEP_ALIVE = 30;
+
+	/** 一括読み込み用スレッドプール(初回利用時に生成) */
+	private static ExecutorService loader;
+
 	/** シングルトンインスタンス */
-	private static Messages global = new Messages(false);
+	private static Messages global = new Messages(false, null, null);
 
-	/** ロックオブジェクト */
+	/** ロックオブジェクト(更新処理間の排他用) */
 	private static Object lock = new Object();
 
 	/** シングルトンインスタンス値継承フラグ */
 	private boolean inheritGlobal;
 
 	/** メッセージデータ */
-	private Map<String, Message> messages;
+	private volatile MessageTable table;
+
+	/** 読み込み及び、マージ操作履歴(ファイル変更監視中のみ保持、ロックオブジェクトで排他) */
+	private transient List<MessagesLoadRecord> records;
+
+	/** 操作履歴ごとの反映後メッセージ定義情報(再読み込み時の再反映の起点、起点として利用できない場合はnull、ロックオブジェクトで排他) */
+	private transient List<MessageTable> checkpoints;
+
+	/** 読み込まれたメッセージリソースの読み込み元情報(メッセージリソースパスをキーとして保持、ロックオブジェクトで排他) */
+	private transient Map<String, MessagesLoadRecord> sources;
+
+	/** ファイル変更監視時の再読み込み待機時間(ミリ秒、監視しない場合は負数) */
+	private transient long watchDebounce;
+
+	/** 読み込み時にメッセージを集約するプール(集約しない場合はnull) */
+	private transient MessagePool pool;
+
+	/** 親メッセージ定義情報(階層化しない場合はnull) */
+	private Messages parent;
+
+	/** 親階層を辿って解決したメッセージ及び、メッセージキーによる解決結果のキャッシュ(自身又は、親階層のメッセージ定義情報の更新時に差し替え) */
+	private transient volatile MessagesLayerCache layerCache;
+
+	/** 自身を親階層とするインスタンス(グローバルメッセージ定義情報の場合は継承するインスタンス、ロックオブジェクトで排他) */
+	private transient List<WeakReference<Messages>> layers;
+
+	/** 自身を親階層とするインスタンスの解放済み参照を除去する件数 */
+	private transient int layersPurgeSize;
+
+	/** 存在しないメッセージコードでの取得時の挙動 */
+	private volatile MessageMissingPolicy missingPolicy;
+
+	/** 存在しないメッセージコードの通知先 */
+	private transient volatile MessageMissingReporter missingReporter;
+
+	/** 通知済みの存在しないメッセージコード */
+	private transient Set<String> reportedCodes;
 
 	/**
 	 * コンストラクタ<br>
 	 * @param inheritGlobal シングルトンインスタンス値継承フラグ
+	 * @param pool 読み込み時にメッセージを集約するプール
+	 * @param parent 親メッセージ定義情報
 	 */
-	private Messages(boolean inheritGlobal) {
+	private Messages(boolean inheritGlobal, MessagePool pool, Messages parent) {
 		super();
-		this.messages = new HashMap<>();
+		this.table = MessageTable.EMPTY;
 		this.inheritGlobal = inheritGlobal;
+		this.records = new ArrayList<>();
+		this.checkpoints = new ArrayList<>();
+		this.sources = new LinkedHashMap<>();
+		this.watchDebounce = -1;
+		this.pool = pool;
+		this.parent = parent;
+		this.missingPolicy = MessageMissingPolicy.NULL;
+		this.reportedCodes = ConcurrentHashMap.newKeySet();
+		this.layerCache = new MessagesLayerCache();
+		this.layers = new ArrayList<>();
+		attach();
+	}
+
+	/**
+	 * デシリアライズ処理を行います。<br>
+	 * @param stream 入力ストリーム
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 * @throws ClassNotFoundException クラスが見つからない場合にスローされます
+	 */
+	private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+		stream.defaultReadObject();
+		this.records = new ArrayList<>();
+		this.checkpoints = new ArrayList<>();
+		this.sources = new LinkedHashMap<>();
+		this.watchDebounce = -1;
+		this.reportedCodes = ConcurrentHashMap.newKeySet();
+		this.layerCache = new MessagesLayerCache();
+		this.layers = new ArrayList<>();
+		attach();
+	}
+
+	/**
+	 * 親階層(親階層を持たずにグローバルメッセージ定義情報を継承する場合はグローバルメッセージ定義情報)に自身を登録します。<br>
+	 * 登録先のメッセージ定義情報が更新された場合に、自身の解決結果キャッシュが差し替えられます。<br>
+	 * 登録は弱参照で保持され、解放されたインスタンスの参照は登録件数の増加時及び、更新時に除去されます。<br>
+	 */
+	private void attach() {
+		Messages base = parent != null ? parent : inheritGlobal ? global : null;
+		if (base == null || base == this) {
+			return;
+		}
+		synchronized (lock) {
+			if (base.layers.size() >= base.layersPurgeSize) {
+				for (Iterator<WeakReference<Messages>> iterator = base.layers.iterator(); iterator.hasNext();) {
+					if (iterator.next().get() == null) {
+						iterator.remove();
+					}
+				}
+				base.layersPurgeSize = Math.max(16, base.layers.size() * 2);
+			}
+			base.layers.add(new WeakReference<>(this));
+		}
+	}
+
+	/**
+	 * 自身及び、自身を親階層とするインスタンスの解決結果キャッシュを差し替えます。<br>
+	 * メッセージ定義情報の更新後にロックオブジェクトで排他した状態で呼び出されます。<br>
+	 * 差し替え前のキャッシュを取得していた解決処理の結果は差し替え前のキャッシュにのみ保持され、以降の取得では利用されません。<br>
+	 */
+	private void invalidate() {
+		layerCache = new MessagesLayerCache();
+		for (Iterator<WeakReference<Messages>> iterator = layers.iterator(); iterator.hasNext();) {
+			Messages layer = iterator.next().get();
+			if (layer == null) {
+				iterator.remove();
+			} else {
+				layer.invalidate();
+			}
+		}
+	}
+
+	/**
+	 * XMLリソース読み込み時に共有するXML読み込みファクトリを生成します。<br>
+	 * @return XML読み込みファクトリ
+	 */
+	private static XMLInputFactory createXMLInputFactory() {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+		return factory;
 	}
 
 	/**
@@ -76,7 +273,19 @@ public final class Messages implements Serializable {
 	 * @return 環境設定情報
 	 */
 	public static Messages create(boolean inheritGlobal) {
-		return new Messages(inheritGlobal);
+		return new Messages(inheritGlobal, null, null);
+	}
+
+	/**
+	 * グローバルメッセージ定義情報とは別のインスタンスとして、読み込み時にメッセージをプールに集約するメッセージ定義情報を生成します。<br>
+	 * 同一のプールを指定したインスタンス間では、等価なメッセージ及び、メッセージテンプレートが単一のインスタンスとして共有されます。<br>
+	 * プールはシリアライズされないため、デシリアライズ後のインスタンスは集約を行いません。<br>
+	 * @param inheritGlobal 個別メッセージ定義情報に情報が存在しない場合はメッセージ定義情報を継承して提供する場合にtrueを指定
+	 * @param pool 読み込み時にメッセージを集約するプール(nullの場合は集約しない)
+	 * @return 環境設定情報
+	 */
+	public static Messages create(boolean inheritGlobal, MessagePool pool) {
+		return new Messages(inheritGlobal, pool, null);
 	}
 
 	/**
@@ -88,6 +297,29 @@ public final class Messages implements Serializable {
 		return create(true);
 	}
 
+	/**
+	 * 親メッセージ定義情報を継承する階層化されたメッセージ定義情報を生成します。<br>
+	 * 個別メッセージ定義情報に情報が存在しない場合は親メッセージ定義情報から順に階層を辿って値が提供され、グローバルメッセージ定義情報は最上位の親メッセージ定義情報の継承設定に従って参照されます。<br>
+	 * 親メッセージ定義情報の内容は複製されずに参照されるため、親メッセージ定義情報の更新は生成後も反映されます。<br>
+	 * 親メッセージ定義情報が読み込み時のプールを保持している場合、生成されるメッセージ定義情報も同一のプールを利用します。<br>
+	 * @param parent 親メッセージ定義情報
+	 * @return 環境設定情報
+	 */
+	public static Messages create(Messages parent) {
+		if (parent == null) {
+			throw new NullPointerException("parent");
+		}
+		return new Messages(false, parent.pool, parent);
+	}
+
+	/**
+	 * 親メッセージ定義情報を取得します。<br>
+	 * @return 親メッセージ定義情報(階層化されていない場合はnull)
+	 */
+	public Messages getParent() {
+		return parent;
+	}
+
 	/**
 	 * オブジェクト情報を文字列として提供します。<br>
 	 * @return オブジェクト情報文字列
@@ -95,7 +327,7 @@ public final class Messages implements Serializable {
 	 */
 	@Override
 	public String toString() {
-		return messages.toString();
+		return table.toString();
 	}
 
 	/**
@@ -107,7 +339,7 @@ public final class Messages implements Serializable {
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + ((messages == null) ? 0 : messages.hashCode());
+		result = prime * result + table.getMessages().hashCode();
 		return result;
 	}
 
@@ -128,11 +360,7 @@ public final class Messages implements Serializable {
 			return false;
 		}
 		Messages other = (Messages) object;
-		if (messages == null) {
-			if (other.messages != null) {
-				return false;
-			}
-		} else if (!messages.equals(other.messages)) {
+		if (!table.getMessages().equals(other.table.getMessages())) {
 			return false;
 		}
 		return true;
@@ -140,71 +368,367 @@ public final class Messages implements Serializable {
 
 	/**
 	 * 管理されているメッセージのキーセットを取得します。<br>
+	 * 提供されるキーセットは呼び出し時点のスナップショットであり、変更することはできません。<br>
 	 * @return 管理されているメッセージのキーセット
 	 */
 	public Set<String> keySet() {
-		return messages.keySet();
+		return table.getMessages().keySet();
+	}
+
+	/**
+	 * 管理されているメッセージのうち、メッセージレベルに該当するメッセージのキーセットを取得します。<br>
+	 * メッセージレベルごとに保持されるインデックスから提供するため、全てのメッセージの走査は行われません。<br>
+	 * 提供されるキーセットは呼び出し時点のスナップショットであり、変更することはできません。<br>
+	 * @param level メッセージレベル
+	 * @return メッセージレベルに該当するメッセージのキーセット
+	 */
+	public Set<String> keySet(MessageLevel level) {
+		return table.getMessages(level).keySet();
+	}
+
+	/**
+	 * 管理されているメッセージのうち、メッセージレベルに該当するメッセージを取得します。<br>
+	 * 提供されるメッセージは呼び出し時点のスナップショットであり、変更することはできません。<br>
+	 * @param level メッセージレベル
+	 * @return メッセージレベルに該当するメッセージ
+	 */
+	public Collection<Message> values(MessageLevel level) {
+		return table.getMessages(level).values();
+	}
+
+	/**
+	 * 管理されているメッセージのうち、メッセージレベルに該当するメッセージ件数を取得します。<br>
+	 * @param level メッセージレベル
+	 * @return メッセージレベルに該当するメッセージ件数
+	 */
+	public int count(MessageLevel level) {
+		return table.getMessages(level).size();
 	}
 
 	/**
 	 * 出力ストリームに対してメッセージ操作用スクリプトを出力します。<br>
+	 * スクリプト上では名前付きバインドスロット及び、一部の書式付きバインドスロット(MessageFormatter参照)のみが編集可能なため、スクリプト上で同一のメッセージ内容に編集できないメッセージは出力されません。<br>
 	 * @param writer 出力ストリーム
 	 * @throws IOException レスポンス操作時に入出力例外が発生した場合にスローされます
 	 */
 	public void writeScript(PrintWriter writer) throws IOException {
-		writer.println(ResourceUtil.getText(SCRIPT_RESOURCE, "utf-8"));
-		for (String key : keySet()) {
-			Message message = get(key);
-			String code = message.getCode();
-			String level = message.getLevel().getName();
-			String define = message.getDefine() //
-					.replace("\\", "\\\\") //
-					.replace("\"", "\\\"") //
-					.replace("\n", "\\n") //
-			;
-			writer.println("Messages.add(\"" + code + "\", \"" + level + "\", \"" + define + "\");");
+		writeScript(writer, MessagesFilter.ALL);
+	}
+
+	/**
+	 * 出力ストリームに対して絞り込み条件に該当するメッセージのみを含むメッセージ操作用スクリプトを出力します。<br>
+	 * スクリプト内容は絞り込み条件ごとにメッセージ定義情報が更新されるまでキャッシュされた内容が出力されます。<br>
+	 * @param writer 出力ストリーム
+	 * @param filter 絞り込み条件
+	 * @throws IOException レスポンス操作時に入出力例外が発生した場合にスローされます
+	 */
+	public void writeScript(PrintWriter writer, MessagesFilter filter) throws IOException {
+		export(SCRIPT_EXPORT_KEY, filter).writeTo(writer);
+	}
+
+	/**
+	 * 出力ストリームに対してメッセージ操作用スクリプトをUTF-8で出力します。<br>
+	 * スクリプト内容はメッセージ定義情報が更新されるまでキャッシュされた内容が出力されます。<br>
+	 * @param stream 出力ストリーム
+	 * @param gzip GZIP圧縮済みの内容を出力する場合にtrueを指定(Content-Encoding: gzipとして応答する場合)
+	 * @throws IOException レスポンス操作時に入出力例外が発生した場合にスローされます
+	 */
+	public void writeScript(OutputStream stream, boolean gzip) throws IOException {
+		writeScript(stream, gzip, MessagesFilter.ALL);
+	}
+
+	/**
+	 * 出力ストリームに対して絞り込み条件に該当するメッセージのみを含むメッセージ操作用スクリプトをUTF-8で出力します。<br>
+	 * @param stream 出力ストリーム
+	 * @param gzip GZIP圧縮済みの内容を出力する場合にtrueを指定(Content-Encoding: gzipとして応答する場合)
+	 * @param filter 絞り込み条件
+	 * @throws IOException レスポンス操作時に入出力例外が発生した場合にスローされます
+	 */
+	public void writeScript(OutputStream stream, boolean gzip, MessagesFilter filter) throws IOException {
+		export(SCRIPT_EXPORT_KEY, filter).writeTo(stream, gzip);
+	}
+
+	/**
+	 * メッセージ操作用スクリプトのETagを取得します。<br>
+	 * ETagはスクリプト内容から算出されるため、HTTPレスポンスでの条件付きリクエスト(304応答)の判定に利用できます。<br>
+	 * @return ETag(ダブルクォートで囲まれた形式)
+	 * @throws IOException スクリプトライブラリソースの読み込みに失敗した場合にスローされます
+	 */
+	public String getScriptETag() throws IOException {
+		return getScriptETag(MessagesFilter.ALL);
+	}
+
+	/**
+	 * 絞り込み条件に該当するメッセージのみを含むメッセージ操作用スクリプトのETagを取得します。<br>
+	 * @param filter 絞り込み条件
+	 * @return ETag(ダブルクォートで囲まれた形式)
+	 * @throws IOException スクリプトライブラリソースの読み込みに失敗した場合にスローされます
+	 */
+	public String getScriptETag(MessagesFilter filter) throws IOException {
+		return export(SCRIPT_EXPORT_KEY, filter).getETag();
+	}
+
+	/**
+	 * 出力ストリームに対してメッセージ定義情報を含まないメッセージ操作用スクリプトライブラリのみをUTF-8で出力します。<br>
+	 * スクリプトライブラリはメッセージ定義情報に依存しないため、{@link #writeJson(OutputStream, boolean)}で出力するメッセージ定義情報と分離して長期間キャッシュさせることができます。<br>
+	 * @param stream 出力ストリーム
+	 * @param gzip GZIP圧縮済みの内容を出力する場合にtrueを指定(Content-Encoding: gzipとして応答する場合)
+	 * @throws IOException レスポンス操作時に入出力例外が発生した場合にスローされます
+	 */
+	public static void writeScriptLibrary(OutputStream stream, boolean gzip) throws IOException {
+		scriptLibrary().writeTo(stream, gzip);
+	}
+
+	/**
+	 * メッセージ操作用スクリプトライブラリのETagを取得します。<br>
+	 * @return ETag(ダブルクォートで囲まれた形式)
+	 * @throws IOException スクリプトライブラリソースの読み込みに失敗した場合にスローされます
+	 */
+	public static String getScriptLibraryETag() throws IOException {
+		return scriptLibrary().getETag();
+	}
+
+	/**
+	 * 出力ストリームに対してメッセージ定義情報をJSON形式で出力します。<br>
+	 * 出力内容は[メッセージコード, メッセージレベル名, メッセージ内容]の配列を要素とする配列で、スクリプト上では"Messages.addAll(JSON.parse(text))"で追加することができます。<br>
+	 * {@link #writeScript(PrintWriter)}と同様に、スクリプト上で同一のメッセージ内容に編集できないメッセージは出力されません。<br>
+	 * @param writer 出力ストリーム
+	 * @throws IOException レスポンス操作時に入出力例外が発生した場合にスローされます
+	 */
+	public void writeJson(PrintWriter writer) throws IOException {
+		writeJson(writer, MessagesFilter.ALL);
+	}
+
+	/**
+	 * 出力ストリームに対して絞り込み条件に該当するメッセージ定義情報をJSON形式で出力します。<br>
+	 * @param writer 出力ストリーム
+	 * @param filter 絞り込み条件
+	 * @throws IOException レスポンス操作時に入出力例外が発生した場合にスローされます
+	 */
+	public void writeJson(PrintWriter writer, MessagesFilter filter) throws IOException {
+		export(JSON_EXPORT_KEY, filter).writeTo(writer);
+	}
+
+	/**
+	 * 出力ストリームに対してメッセージ定義情報をJSON形式(UTF-8)で出力します。<br>
+	 * 出力内容はメッセージ定義情報が更新されるまでキャッシュされた内容が出力されます。<br>
+	 * @param stream 出力ストリーム
+	 * @param gzip GZIP圧縮済みの内容を出力する場合にtrueを指定(Content-Encoding: gzipとして応答する場合)
+	 * @throws IOException レスポンス操作時に入出力例外が発生した場合にスローされます
+	 */
+	public void writeJson(OutputStream stream, boolean gzip) throws IOException {
+		writeJson(stream, gzip, MessagesFilter.ALL);
+	}
+
+	/**
+	 * 出力ストリームに対して絞り込み条件に該当するメッセージ定義情報をJSON形式(UTF-8)で出力します。<br>
+	 * @param stream 出力ストリーム
+	 * @param gzip GZIP圧縮済みの内容を出力する場合にtrueを指定(Content-Encoding: gzipとして応答する場合)
+	 * @param filter 絞り込み条件
+	 * @throws IOException レスポンス操作時に入出力例外が発生した場合にスローされます
+	 */
+	public void writeJson(OutputStream stream, boolean gzip, MessagesFilter filter) throws IOException {
+		export(JSON_EXPORT_KEY, filter).writeTo(stream, gzip);
+	}
+
+	/**
+	 * JSON形式のメッセージ定義情報のETagを取得します。<br>
+	 * @return ETag(ダブルクォートで囲まれた形式)
+	 */
+	public String getJsonETag() {
+		return getJsonETag(MessagesFilter.ALL);
+	}
+
+	/**
+	 * 絞り込み条件に該当するJSON形式のメッセージ定義情報のETagを取得します。<br>
+	 * @param filter 絞り込み条件
+	 * @return ETag(ダブルクォートで囲まれた形式)
+	 */
+	public String getJsonETag(MessagesFilter filter) {
+		try {
+			return export(JSON_EXPORT_KEY, filter).getETag();
+		} catch (IOException e) {
+			// JSON出力はスクリプトライブラリソースを読み込まない
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 管理されているメッセージ定義情報のバージョンを取得します。<br>
+	 * バージョンはメッセージ定義情報が更新されるごとに変化します。<br>
+	 * @return メッセージ定義情報のバージョン
+	 */
+	public long getVersion() {
+		return table.getVersion();
+	}
+
+	/**
+	 * 現在のメッセージ定義情報に対する出力内容を取得します。<br>
+	 * @param kind 出力内容種別({@link #SCRIPT_EXPORT_KEY}又は、{@link #JSON_EXPORT_KEY})
+	 * @param filter 絞り込み条件(nullの場合は全てのメッセージ)
+	 * @return 出力内容
+	 * @throws IOException スクリプトライブラリソースの読み込みに失敗した場合にスローされます
+	 */
+	private MessagesExport export(String kind, MessagesFilter filter) throws IOException {
+		MessageTable current = table;
+		Object key = filter == null || MessagesFilter.ALL.equals(filter) ? kind : Arrays.asList(kind, filter);
+		MessagesExport export = current.getExport(key);
+		if (export == null) {
+			if (JSON_EXPORT_KEY.equals(kind)) {
+				export = current.putExport(key, MessagesExport.json(filter(current, filter)));
+			} else {
+				export = current.putExport(key, MessagesExport.script(scriptLibrary().getText(), filter(current, filter)));
+			}
+		}
+		return export;
+	}
+
+	/**
+	 * 絞り込み条件に該当するメッセージを取得します。<br>
+	 * メッセージレベルの条件を持つ場合は、メッセージレベル別インデックスから該当レベルのメッセージのみを走査します。<br>
+	 * @param current 対象メッセージ定義情報
+	 * @param filter 絞り込み条件(nullの場合は全てのメッセージ)
+	 * @return 絞り込み条件に該当するメッセージ
+	 */
+	private static Collection<Message> filter(MessageTable current, MessagesFilter filter) {
+		if (filter == null || MessagesFilter.ALL.equals(filter)) {
+			return current.getMessages().values();
+		}
+		List<Message> list = new ArrayList<>();
+		if (filter.getLevels() == null) {
+			for (Message message : current.getMessages().values()) {
+				if (filter.accept(message)) {
+					list.add(message);
+				}
+			}
+			return list;
+		}
+		for (MessageLevel level : filter.getLevels()) {
+			for (Message message : current.getMessages(level).values()) {
+				if (filter.accept(message)) {
+					list.add(message);
+				}
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * メッセージ操作用スクリプトライブラリの出力内容を取得します。<br>
+	 * @return スクリプトライブラリ出力内容
+	 * @throws IOException スクリプトライブラリソースの読み込みに失敗した場合にスローされます
+	 */
+	private static MessagesExport scriptLibrary() throws IOException {
+		MessagesExport library = scriptLibrary;
+		if (library == null) {
+			library = MessagesExport.text(ResourceUtil.getText(SCRIPT_RESOURCE, "utf-8"));
+			scriptLibrary = library;
+		}
+		return library;
+	}
+
+	/**
+	 * メッセージリソースの一括読み込みに利用する専用のスレッドプールを取得します。<br>
+	 * スレッドはデーモンスレッドとして生成され、一定時間利用されない場合は終了します。<br>
+	 * 共有スレッドプール({@link java.util.concurrent.ForkJoinPool#commonPool()})のスレッドを入出力待機で占有しないよう、専用のスレッドプールで読み込みます。<br>
+	 * @return 一括読み込み用スレッドプール
+	 */
+	private static synchronized ExecutorService loader() {
+		if (loader == null) {
+			int threads = Math.max(Runtime.getRuntime().availableProcessors(), 1);
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, LOADER_KEEP_ALIVE, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+				private final AtomicInteger count = new AtomicInteger();
+
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, "messages-loader-" + count.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+			executor.allowCoreThreadTimeOut(true);
+			loader = executor;
 		}
-		writer.flush();
+		return loader;
 	}
 
 	/**
 	 * メッセージリソース内容を読み込みクラスインスタンスに展開します。<br>
+	 * メッセージリソースはプロパティリソース、XMLリソース(拡張子".xml")、{@link MessagesCompiler}で変換されたメッセージバンドル(拡張子{@link MessagesCompiler#EXTENSION})が指定可能です。<br>
 	 * @param filePath メッセージリソースパス
 	 * @param mode メッセージリソース読み込み時の挙動
 	 * @return ロード後の自身のインスタンス
 	 */
 	public Messages load(String filePath, MessagesLoadMode mode) {
-		synchronized (lock) {
-			try {
-				/*
-				 * 対象プロパティ読み込み
-				 */
-				Map<String, Message> loaded = loadDispatch(filePath);
-
-				/*
-				 * 読み込みモードごと処理
-				 */
-				if (mode == MessagesLoadMode.REPLACE_ALL || mode == null) {
-					// すべてのプロパティを置き換える場合は現状の保持情報をクリア
-					messages.clear();
-					messages.putAll(loaded);
-				} else if (mode == MessagesLoadMode.REPLACE_EXISTS) {
-					// 既存プロパティに対しては上書きする場合は読み込んだプロパティをプット
-					messages.putAll(loaded);
-				} else if (mode == MessagesLoadMode.SKIP_EXISTS) {
-					// 既存プロパティに対しては現状維持とする場合はプロパティごとに判定しながらプット
-					for (String key : loaded.keySet()) {
-						if (messages.containsKey(key)) {
-							continue;
-						}
-						Message value = loaded.get(key);
-						messages.put(key, value);
-					}
+		return load(filePath, null, mode);
+	}
+
+	/**
+	 * メッセージリソース内容をロケール別のメッセージ定義情報として読み込みクラスインスタンスに展開します。<br>
+	 * ロケールにnull又は、{@link Locale#ROOT}を指定した場合はロケールを持たないメッセージ定義情報として読み込みます。<br>
+	 * 読み込みモードは指定されたロケールのメッセージ定義情報に対してのみ適用されます。<br>
+	 * @param filePath メッセージリソースパス
+	 * @param locale ロケール
+	 * @param mode メッセージリソース読み込み時の挙動
+	 * @return ロード後の自身のインスタンス
+	 */
+	public Messages load(String filePath, Locale locale, MessagesLoadMode mode) {
+		try {
+			/*
+			 * 対象プロパティ読み込み
+			 */
+			Map<String, Message> loaded = loadDispatch(filePath, false);
+
+			/*
+			 * 読み込みモードごとに反映したスナップショットへ差し替え
+			 */
+			List<MessagesLoadRecord> updates = new ArrayList<>();
+			updates.add(MessagesLoadRecord.load(filePath, locale, mode, loaded));
+			publish(updates);
+			return this;
+		} catch (Throwable e) {
+			throw new MessageLoadException(e);
+		}
+	}
+
+	/**
+	 * ロケールのフォールバックチェーンに該当するロケール別メッセージリソースを読み込みクラスインスタンスに展開します。<br>
+	 * 例えばメッセージリソースパスに"messages.xml"、ロケールに{@link Locale#US}を指定した場合、"messages_en_US.xml"、"messages_en.xml"のうち存在するリソースをそれぞれのロケールで読み込みます。<br>
+	 * ロケールを持たないメッセージリソースパス自体は読み込まれないため、{@link #load(String, MessagesLoadMode)}で読み込んで下さい。<br>
+	 * @param basePath ロケールを持たないメッセージリソースパス
+	 * @param locale ロケール
+	 * @param mode メッセージリソース読み込み時の挙動
+	 * @return ロード後の自身のインスタンス
+	 */
+	public Messages loadLocalized(String basePath, Locale locale, MessagesLoadMode mode) {
+		try {
+			/*
+			 * フォールバックチェーン上のロケール別リソース読み込み
+			 */
+			int separator = basePath.lastIndexOf('/');
+			int extension = basePath.lastIndexOf('.');
+			String name = extension > separator ? basePath.substring(0, extension) : basePath;
+			String suffix = extension > separator ? basePath.substring(extension) : "";
+			ResourceBundle.Control control = ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_DEFAULT);
+			List<Locale> candidates = control.getCandidateLocales("", locale);
+			List<MessagesLoadRecord> updates = new ArrayList<>();
+			for (Locale candidate : candidates) {
+				if (Locale.ROOT.equals(candidate)) {
+					continue;
+				}
+				String filePath = control.toBundleName(name, candidate) + suffix;
+				if (ResourceUtil.exists(filePath)) {
+					updates.add(MessagesLoadRecord.load(filePath, candidate, mode, loadDispatch(filePath, false)));
 				}
-				return this;
-			} catch (Throwable e) {
-				throw new MessageLoadException(e);
 			}
+
+			/*
+			 * 読み込みモードごとに反映したスナップショットへ差し替え
+			 */
+			publish(updates);
+			return this;
+		} catch (Throwable e) {
+			throw new MessageLoadException(e);
 		}
 	}
 
@@ -219,23 +743,338 @@ public final class Messages implements Serializable {
 		return load(filePath, MessagesLoadMode.REPLACE_ALL);
 	}
 
+	/**
+	 * 複数のメッセージリソース内容を並列に読み込みクラスインスタンスに展開します。<br>
+	 * メッセージリソースの解析は一括読み込み用の専用スレッドプール上で並列に行われ、解析結果は指定された順序で読み込みモードに従って反映されます。<br>
+	 * 反映は全てのメッセージリソースの解析完了後に一度だけ行われるため、参照処理から途中までの読み込み内容が参照されることはありません。<br>
+	 * いずれかのメッセージリソースの読み込みに失敗した場合は、未完了の読み込みを取り消し、全てのメッセージリソースの内容が反映されません。<br>
+	 * @param filePaths メッセージリソースパス
+	 * @param mode メッセージリソース読み込み時の挙動
+	 * @return ロード後の自身のインスタンス
+	 */
+	public Messages loadAll(Collection<String> filePaths, MessagesLoadMode mode) {
+		return loadAll(filePaths, mode, loader());
+	}
+
+	/**
+	 * 複数のメッセージリソース内容を指定された実行環境上で並列に読み込みクラスインスタンスに展開します。<br>
+	 * 解析結果は指定された順序で読み込みモードに従って反映され、反映は全てのメッセージリソースの解析完了後に一度だけ行われます。<br>
+	 * いずれかのメッセージリソースの読み込みに失敗した場合は、未完了の読み込みを取り消し、全てのメッセージリソースの内容が反映されません。<br>
+	 * @param filePaths メッセージリソースパス
+	 * @param mode メッセージリソース読み込み時の挙動
+	 * @param executor 読み込みを実行する実行環境
+	 * @return ロード後の自身のインスタンス
+	 */
+	public Messages loadAll(Collection<String> filePaths, MessagesLoadMode mode, Executor executor) {
+		List<String> paths = new ArrayList<>(filePaths);
+		List<Future<Map<String, Message>>> tasks = new ArrayList<>(paths.size());
+		try {
+			/*
+			 * 対象プロパティ並列読み込み
+			 */
+			CompletionService<Map<String, Message>> service = new ExecutorCompletionService<>(executor);
+			for (final String filePath : paths) {
+				tasks.add(service.submit(new Callable<Map<String, Message>>() {
+					@Override
+					public Map<String, Message> call() throws Exception {
+						return loadDispatch(filePath, false);
+					}
+				}));
+			}
+			for (int i = 0; i <= tasks.size() - 1; i++) {
+				// 完了順に結果を確認し、失敗した時点で未完了の読み込みを取り消す
+				service.take().get();
+			}
+
+			/*
+			 * 指定順序で読み込みモードごとに反映したスナップショットへ一括で差し替え
+			 */
+			List<MessagesLoadRecord> updates = new ArrayList<>(paths.size());
+			for (int i = 0; i <= paths.size() - 1; i++) {
+				updates.add(MessagesLoadRecord.load(paths.get(i), null, mode, tasks.get(i).get()));
+			}
+			publish(updates);
+			return this;
+		} catch (ExecutionException e) {
+			cancel(tasks);
+			Throwable cause = e.getCause();
+			if (cause instanceof MessageLoadException) {
+				throw (MessageLoadException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new MessageLoadException(cause);
+		} catch (InterruptedException e) {
+			cancel(tasks);
+			Thread.currentThread().interrupt();
+			throw new MessageLoadException(e);
+		} catch (Throwable e) {
+			cancel(tasks);
+			throw new MessageLoadException(e);
+		}
+	}
+
+	/**
+	 * 未完了の読み込みを取り消します。<br>
+	 * @param tasks 読み込み処理
+	 */
+	private static void cancel(List<Future<Map<String, Message>>> tasks) {
+		for (Future<Map<String, Message>> task : tasks) {
+			task.cancel(true);
+		}
+	}
+
+	/**
+	 * クラスパス上のインデックス({@link MessagesIndexer#INDEX_RESOURCE})に記載された全てのメッセージリソースを読み込みクラスインスタンスに展開します。<br>
+	 * メッセージリソースは{@link #loadAll(Collection, MessagesLoadMode)}で一括して読み込まれます。<br>
+	 * @param mode メッセージリソース読み込み時の挙動
+	 * @return ロード後の自身のインスタンス
+	 */
+	public Messages loadDiscovered(MessagesLoadMode mode) {
+		try {
+			return loadAll(MessagesIndexer.discover(null), mode);
+		} catch (IOException e) {
+			throw new MessageLoadException(e);
+		}
+	}
+
+	/**
+	 * 操作内容を反映したメッセージ定義情報のスナップショットを公開します。<br>
+	 * ファイル変更監視中の操作内容は操作履歴として保持され、再読み込みで再反映されます。<br>
+	 * @param updates 操作履歴
+	 * @throws IOException ファイル変更監視の登録に失敗した場合にスローされます
+	 */
+	private void publish(List<MessagesLoadRecord> updates) throws IOException {
+		synchronized (lock) {
+			MessageTable update = table;
+			for (MessagesLoadRecord record : updates) {
+				update = record.applyTo(update);
+				if (record.getFilePath() != null) {
+					sources.put(record.getFilePath(), record.source());
+				}
+				if (watchDebounce >= 0) {
+					journal(record, update);
+				}
+			}
+			table = update;
+			reportedCodes.clear();
+			invalidate();
+			if (watchDebounce >= 0) {
+				for (MessagesLoadRecord record : updates) {
+					if (record.getFilePath() != null) {
+						MessagesWatcher.instance().register(this, record.getFilePath(), watchDebounce);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * 操作履歴を追加します。<br>
+	 * 反映内容が全て破棄される先行履歴は再反映不要のため除去し、除去した履歴の反映内容を含む後続の反映後メッセージ定義情報は再反映の起点として利用しないよう破棄します。<br>
+	 * ロックオブジェクトで排他された状態で呼び出して下さい。<br>
+	 * @param record 操作履歴
+	 * @param applied 操作履歴の反映後メッセージ定義情報
+	 */
+	private void journal(MessagesLoadRecord record, MessageTable applied) {
+		for (int i = records.size() - 1; i >= 0; i--) {
+			if (record.supersedes(records.get(i))) {
+				records.remove(i);
+				checkpoints.remove(i);
+				for (int j = i; j <= checkpoints.size() - 1; j++) {
+					checkpoints.set(j, null);
+				}
+			}
+		}
+		records.add(record);
+		checkpoints.add(applied);
+	}
+
+	/**
+	 * 変更されたメッセージリソースを再読み込みし、操作履歴を再反映したスナップショットを公開します。<br>
+	 * @param filePath 変更されたメッセージリソースパス
+	 * @see #reload(Collection)
+	 */
+	void reload(String filePath) {
+		reload(Arrays.asList(filePath));
+	}
+
+	/**
+	 * 変更されたメッセージリソースを再読み込みし、操作履歴を再反映したスナップショットを公開します。<br>
+	 * 再解析は変更されたメッセージリソースのみに対して行われ、再反映は変更された最初の操作履歴の直前の反映後メッセージ定義情報を起点として以降の操作履歴のみに対して行われます。<br>
+	 * 監視開始前に読み込まれたメッセージリソースは、再読み込みした内容を現在のスナップショットに上書きで反映します。<br>
+	 * 再読み込みに失敗した場合(書き込み途中のファイル等)は失敗したメッセージリソースの現在の内容を維持し、失敗をログ及び、計測リスナー({@link MessagesMetricsListener#failed(String, Throwable)})に通知します。<br>
+	 * @param filePaths 変更されたメッセージリソースパス
+	 */
+	void reload(Collection<String> filePaths) {
+		Map<String, Map<String, Message>> reloaded = new LinkedHashMap<>();
+		for (String filePath : filePaths) {
+			try {
+				reloaded.put(filePath, loadDispatch(filePath, true));
+			} catch (IOException | XMLStreamException | RuntimeException e) {
+				Logger.getLogger(Messages.class.getName()).log(Level.WARNING, "Failed to reload message resource (" + filePath + ")", e);
+				MessagesMetrics metrics = MessagesMetrics.active();
+				if (metrics != null) {
+					metrics.fail(filePath, e);
+				}
+			}
+		}
+		synchronized (lock) {
+			if (watchDebounce < 0 || reloaded.isEmpty()) {
+				return;
+			}
+			int from = records.size();
+			Set<String> found = new HashSet<>();
+			for (int i = 0; i <= records.size() - 1; i++) {
+				MessagesLoadRecord record = records.get(i);
+				Map<String, Message> loaded = record.getFilePath() == null ? null : reloaded.get(record.getFilePath());
+				if (loaded != null) {
+					records.set(i, record.reload(loaded));
+					found.add(record.getFilePath());
+					from = Math.min(from, i);
+				}
+			}
+			for (Map.Entry<String, Map<String, Message>> entry : reloaded.entrySet()) {
+				MessagesLoadRecord source = found.contains(entry.getKey()) ? null : sources.get(entry.getKey());
+				if (source == null) {
+					continue;
+				}
+				// 監視開始前に読み込まれたリソースは履歴の末尾(現在のスナップショット)に上書きで反映する
+				records.add(source.overlay(entry.getValue()));
+				checkpoints.add(null);
+				from = Math.min(from, records.size() - 1);
+			}
+			if (from < records.size()) {
+				replay(from);
+			}
+		}
+	}
+
+	/**
+	 * 指定された位置以降の操作履歴を再反映したスナップショットを公開します。<br>
+	 * 再反映は指定された位置の直前の反映後メッセージ定義情報(破棄されている場合は更に遡った反映後メッセージ定義情報又は、空のメッセージ定義情報)を起点として行います。<br>
+	 * ロックオブジェクトで排他された状態で呼び出して下さい。<br>
+	 * @param from 再反映を開始する操作履歴の位置
+	 */
+	private void replay(int from) {
+		int start = from;
+		MessageTable update = MessageTable.EMPTY;
+		while (start > 0 && checkpoints.get(start - 1) == null) {
+			start--;
+		}
+		if (start > 0) {
+			update = checkpoints.get(start - 1);
+		}
+		for (int i = start; i <= records.size() - 1; i++) {
+			update = records.get(i).applyTo(update);
+			checkpoints.set(i, update);
+		}
+		table = update;
+		reportedCodes.clear();
+		invalidate();
+	}
+
+	/**
+	 * 読み込まれたメッセージリソースファイルの変更を監視し、変更時に自動的に再読み込みを行います。<br>
+	 * 既に読み込まれているメッセージリソース及び、以降に読み込まれるメッセージリソースのうち、ファイルシステム上に存在するものが監視対象となります。<br>
+	 * 再読み込みは最後の変更から待機時間が経過した時点で行われ、読み込み時のモードの挙動を維持した内容に差し替えられます(参照処理は差し替え中も待機しません)。<br>
+	 * 監視中は再読み込みのために読み込み及び、マージ操作の履歴と、各操作の反映後のスナップショット(再反映の起点)を保持します。監視開始前に読み込まれたメッセージリソースは、再読み込み時に現在の内容に上書きで反映されます(リソースから削除された定義は除去されません)。<br>
+	 * 監視はインスタンスを弱参照で保持するため、{@link #unwatch()}が呼び出されずに参照されなくなったインスタンスは監視対象から除外されます。<br>
+	 * @param debounce 再読み込みまでの待機時間(ミリ秒)
+	 * @return 自身のインスタンス
+	 */
+	public Messages watch(long debounce) {
+		try {
+			synchronized (lock) {
+				if (watchDebounce < 0) {
+					// 監視開始時点の内容を履歴の起点とする
+					records.clear();
+					records.add(MessagesLoadRecord.base(table));
+					checkpoints.clear();
+					checkpoints.add(table);
+				}
+				watchDebounce = Math.max(debounce, 0);
+				for (String filePath : sources.keySet()) {
+					MessagesWatcher.instance().register(this, filePath, watchDebounce);
+				}
+			}
+			return this;
+		} catch (IOException e) {
+			throw new MessageLoadException(e);
+		}
+	}
+
+	/**
+	 * 読み込まれたメッセージリソースファイルの変更を監視し、変更時に自動的に再読み込みを行います。<br>
+	 * 再読み込みまでの待機時間は{@link #DEFAULT_WATCH_DEBOUNCE}となります。<br>
+	 * @return 自身のインスタンス
+	 * @see #watch(long)
+	 */
+	public Messages watch() {
+		return watch(DEFAULT_WATCH_DEBOUNCE);
+	}
+
+	/**
+	 * メッセージリソースファイルの変更監視を終了します。<br>
+	 */
+	public void unwatch() {
+		try {
+			synchronized (lock) {
+				if (watchDebounce < 0) {
+					return;
+				}
+				watchDebounce = -1;
+				records.clear();
+				checkpoints.clear();
+				MessagesWatcher.instance().unregister(this);
+			}
+		} catch (IOException e) {
+			throw new MessageLoadException(e);
+		}
+	}
+
 	/**
 	 * メッセージを読み込みます。<br>
+	 * 計測が有効な場合は読み込み処理時間を計測します。<br>
 	 * @param filePath メッセージリソースパス
+	 * @param reload ファイル変更監視による再読み込みの場合にtrue
 	 * @return 読み込まれたメッセージリソース
 	 * @throws IOException 入出力例外が発生した場合にスローされます
-	 * @throws ParserConfigurationException XMLドキュメントビルダの生成に失敗した場合にスローされます
-	 * @throws SAXException XML定義形式が不正な場合にスローされます
+	 * @throws XMLStreamException XML定義形式が不正な場合にスローされます
 	 */
-	private Map<String, Message> loadDispatch(String filePath) throws IOException, ParserConfigurationException, SAXException {
-		if (!ResourceUtil.exists(filePath)) {
+	private Map<String, Message> loadDispatch(String filePath, boolean reload) throws IOException, XMLStreamException {
+		MessagesMetrics metrics = MessagesMetrics.active();
+		if (metrics == null) {
+			return loadDispatch(filePath);
+		}
+		long start = System.nanoTime();
+		Map<String, Message> loaded = loadDispatch(filePath);
+		metrics.load(filePath, System.nanoTime() - start, reload);
+		return loaded;
+	}
+
+	/**
+	 * メッセージを読み込みます。<br>
+	 * @param filePath メッセージリソースパス
+	 * @return 読み込まれたメッセージリソース
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 * @throws XMLStreamException XML定義形式が不正な場合にスローされます
+	 */
+	private Map<String, Message> loadDispatch(String filePath) throws IOException, XMLStreamException {
+		if (toURL(filePath) == null && !ResourceUtil.exists(filePath)) {
 			return new HashMap<>();
 		}
+		Map<String, Message> loaded;
 		if (filePath.endsWith(".xml")) {
-			return loadFromXML(filePath);
+			loaded = loadFromXML(filePath);
+		} else if (filePath.endsWith(MessagesCompiler.EXTENSION)) {
+			loaded = MessageBundle.read(filePath);
 		} else {
-			return loadFromProperties(filePath);
+			loaded = loadFromProperties(filePath);
 		}
+		MessagePool pool = this.pool;
+		return pool == null ? loaded : pool.intern(loaded);
 	}
 
 	/**
@@ -245,8 +1084,59 @@ public final class Messages implements Serializable {
 	 * @throws IOException 入出力例外が発生した場合にスローされます
 	 */
 	private Map<String, Message> loadFromProperties(String filePath) throws IOException {
+		if (toURL(filePath) == null) {
+			return parseProperties(PropertiesUtil.load(filePath));
+		}
+		InputStream stream = null;
+		try {
+			stream = openStream(filePath);
+			Properties properties = new Properties();
+			properties.load(stream);
+			return parseProperties(properties);
+		} finally {
+			if (stream != null) {
+				stream.close();
+			}
+		}
+	}
+
+	/**
+	 * メッセージリソースパスがURL文字列({@link MessagesIndexer#discover(ClassLoader)}参照)である場合にURLを取得します。<br>
+	 * @param filePath メッセージリソースパス
+	 * @return URL(URL文字列ではない場合はnull)
+	 */
+	static URL toURL(String filePath) {
+		int colon = filePath == null ? -1 : filePath.indexOf(':');
+		if (colon <= 1) {
+			// スキーマを持たないパス及び、ドライブ文字を持つパスはURLとして扱わない
+			return null;
+		}
+		try {
+			return new URL(filePath);
+		} catch (MalformedURLException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * メッセージリソースの入力ストリームを取得します。<br>
+	 * URL文字列の場合はURLから、それ以外の場合はリソースパスから取得します。<br>
+	 * @param filePath メッセージリソースパス
+	 * @return 入力ストリーム
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	static InputStream openStream(String filePath) throws IOException {
+		URL url = toURL(filePath);
+		return url == null ? ResourceUtil.getInputStream(filePath) : url.openStream();
+	}
+
+	/**
+	 * プロパティ内容からメッセージを生成します。<br>
+	 * @param properties プロパティ内容
+	 * @return 生成されたメッセージ
+	 */
+	static Map<String, Message> parseProperties(Properties properties) {
 		Map<String, Message> map = new HashMap<>();
-		Properties properties = PropertiesUtil.load(filePath);
 		for (Object key : properties.keySet()) {
 			Object property = properties.get(key);
 			String code = key == null ? "" : key.toString();
@@ -259,47 +1149,66 @@ public final class Messages implements Serializable {
 
 	/**
 	 * XMLリソースからメッセージを読み込みます。<br>
+	 * XMLリソースはドキュメント全体を展開せずにストリームとして解析し、message要素ごとに逐次メッセージを生成します。<br>
 	 * @param filePath メッセージリソースパス
 	 * @return 読み込まれたメッセージリソース
 	 * @throws IOException 入出力例外が発生した場合にスローされます
-	 * @throws ParserConfigurationException XMLドキュメントビルダの生成に失敗した場合にスローされます
-	 * @throws SAXException XML定義形式が不正な場合にスローされます
+	 * @throws XMLStreamException XML定義形式が不正な場合にスローされます
 	 */
-	private Map<String, Message> loadFromXML(String filePath) throws IOException, ParserConfigurationException, SAXException {
+	private Map<String, Message> loadFromXML(String filePath) throws IOException, XMLStreamException {
 		InputStream stream = null;
 		try {
-			Map<String, Message> map = new HashMap<>();
+			stream = openStream(filePath);
+			return parseXML(stream);
+		} finally {
+			if (stream != null) {
+				stream.close();
+			}
+		}
+	}
 
-			DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-			DocumentBuilder builder = factory.newDocumentBuilder();
+	/**
+	 * XML内容からメッセージを生成します。<br>
+	 * XML内容はドキュメント全体を展開せずにストリームとして解析し、message要素ごとに逐次メッセージを生成します。<br>
+	 * 入力ストリームのクローズは呼び出し側で行って下さい。<br>
+	 * @param stream XML内容入力ストリーム
+	 * @return 生成されたメッセージ
+	 * @throws XMLStreamException XML定義形式が不正な場合にスローされます
+	 */
+	static Map<String, Message> parseXML(InputStream stream) throws XMLStreamException {
+		XMLStreamReader reader = null;
+		try {
+			Map<String, Message> map = new HashMap<>();
 
-			stream = ResourceUtil.getInputStream(filePath);
-			Document document = builder.parse(stream);
+			reader = XML_INPUT_FACTORY.createXMLStreamReader(stream);
 
-			Element messagesElement = document.getDocumentElement();
-			if (!"messages".equals(messagesElement.getNodeName())) {
-				throw new SAXException();
+			while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+				continue;
+			}
+			if (!reader.isStartElement() || !"messages".equals(reader.getLocalName())) {
+				throw new XMLStreamException("root element is not messages", reader.getLocation());
 			}
 
-			NodeList messageElements = messagesElement.getElementsByTagName("message");
-			for (int i = 0; i <= messageElements.getLength() - 1; i++) {
-				Element messageElement = (Element) messageElements.item(i);
-				String code = messageElement.getAttribute("code");
-				String value = messageElement.getAttribute("value");
+			while (reader.hasNext()) {
+				if (reader.next() != XMLStreamConstants.START_ELEMENT || !"message".equals(reader.getLocalName())) {
+					continue;
+				}
+				String code = reader.getAttributeValue(null, "code");
+				String value = reader.getAttributeValue(null, "value");
 				if (StringUtil.isEmpty(code)) {
-					throw new SAXException("message node is code attribute required");
+					throw new XMLStreamException("message node is code attribute required", reader.getLocation());
 				}
 				//if (StringUtil.isEmpty(value)) {
-				//	throw new SAXException("message node is value attribute required");
+				//	throw new XMLStreamException("message node is value attribute required", reader.getLocation());
 				//}
-				Message message = new Message(code, value);
+				Message message = new Message(code, value == null ? "" : value);
 				map.put(message.getCode(), message);
 			}
 
 			return map;
 		} finally {
-			if (stream != null) {
-				stream.close();
+			if (reader != null) {
+				reader.close();
 			}
 		}
 	}
@@ -309,21 +1218,59 @@ public final class Messages implements Serializable {
 	 */
 	public void destroy() {
 		synchronized (lock) {
-			messages.clear();
+			records.clear();
+			checkpoints.clear();
+			sources.clear();
+			reportedCodes.clear();
+			table = MessageTable.EMPTY;
+			invalidate();
 		}
 	}
 
 	/**
 	 * 他のメッセージ情報内容を自身のインスタンスにマージします。<br>
+	 * マージはメッセージ定義情報を複製して反映するため、複製せずに他のメッセージ定義情報を継承する場合は{@link #create(Messages)}を利用して下さい。<br>
+	 * 階層化されたインスタンスでは自身の階層のみにマージし、親階層の定義は複製せずに階層を辿って解決します(親階層のインスタンスのマージでは何も行いません)。<br>
 	 * @param other マージ元インスタンス
 	 */
 	@SuppressWarnings("static-access")
 	public void merge(Messages other) {
-		if (other == null || other.equals(this)) {
+		if (other == null || other.equals(this) || inherits(other)) {
 			return;
 		}
-		this.global.messages.putAll(other.global.messages); // For other classloader
-		this.messages.putAll(other.messages);
+		synchronized (lock) {
+			if (parent == null && other.global != this.global) {
+				// For other classloader
+				this.global.table = this.global.table.merge(other.global.table);
+				this.global.invalidate();
+				if (this.global.watchDebounce >= 0) {
+					this.global.journal(MessagesLoadRecord.merge(other.global.table), this.global.table);
+				}
+			}
+			this.table = this.table.merge(other.table);
+			this.reportedCodes.clear();
+			invalidate();
+			if (this.watchDebounce >= 0) {
+				journal(MessagesLoadRecord.merge(other.table), this.table);
+			}
+		}
+	}
+
+	/**
+	 * 指定されたインスタンスが自身の親階層であるか判定します。<br>
+	 * 最上位の親階層がグローバルメッセージ定義情報を継承する場合は、グローバルメッセージ定義情報も親階層として扱います。<br>
+	 * @param other 判定対象インスタンス
+	 * @return 親階層である場合にtrueを返却
+	 */
+	private boolean inherits(Messages other) {
+		Messages layer = this;
+		while (layer.parent != null) {
+			layer = layer.parent;
+			if (layer == other) {
+				return true;
+			}
+		}
+		return layer != this && layer.inheritGlobal && other == global;
 	}
 
 	/**
@@ -333,28 +1280,185 @@ public final class Messages implements Serializable {
 	 * @return メッセージ内容
 	 */
 	public Message get(String code) {
-		Message message = messages.get(code);
-		if (message != null) {
-			return message;
+		Message message = find(code, MessagesMetrics.active());
+		return message == null ? missing(code) : message;
+	}
+
+	/**
+	 * メッセージキーに対応するメッセージ内容を取得します。<br>
+	 * メッセージキーが前回の取得以降にメッセージ定義情報が更新されていない自身のメッセージを保持している場合は、メッセージコードによる検索を行わずにメッセージを提供します。<br>
+	 * @param key メッセージキー
+	 * @return メッセージ内容
+	 */
+	public Message get(MessageKey key) {
+		Message message = find(key);
+		return message == null ? missing(key.getCode()) : message;
+	}
+
+	/**
+	 * メッセージキーで管理されているメッセージ内容を取得します。<br>
+	 * 解決結果は解決結果キャッシュのスロットに保持され、自身又は、親階層のメッセージ定義情報が更新されるまで再解決されません。<br>
+	 * 解決済みの取得は解決結果キャッシュの参照及び、スロットの参照のみで行われ、階層を辿る検証は行いません。<br>
+	 * @param key メッセージキー
+	 * @return メッセージ内容
+	 */
+	private Message find(MessageKey key) {
+		MessagesLayerCache cache = layerCache;
+		Object entry = cache.get(key.getSlot());
+		if (entry == null) {
+			entry = cache.put(key.getSlot(), find(key.getCode(), MessagesMetrics.active()));
 		}
-		if (Message.isValidDefineCode(code)) {
-			message = messages.get(Message.getMessageCode(code));
-			if (message != null) {
-				return message;
+		return MessagesLayerCache.toMessage(entry);
+	}
+
+	/**
+	 * メッセージコードで管理されているメッセージ内容を取得します。<br>
+	 * @param code メッセージコード
+	 * @param metrics 計測インスタンス(計測しない場合はnull)
+	 * @return メッセージ内容
+	 */
+	Message find(String code, MessagesMetrics metrics) {
+		Message message;
+		boolean inherited = false;
+		if (parent != null) {
+			message = getFromLayers(code);
+		} else {
+			message = table.find(code);
+			if (message == null && inheritGlobal) {
+				message = global.table.find(code);
+				inherited = message != null;
 			}
 		}
-		if (inheritGlobal) {
-			message = global.messages.get(code);
-			if (message != null) {
-				return message;
+		if (metrics != null) {
+			metrics.lookup(code, message, inherited);
+		}
+		return message;
+	}
+
+	/**
+	 * 自身及び、親メッセージ定義情報の階層を辿ってメッセージ内容を取得します。<br>
+	 * 解決結果は自身又は、親階層のメッセージ定義情報が更新されるまでキャッシュされます。<br>
+	 * @param code メッセージコード
+	 * @return メッセージ内容
+	 */
+	private Message getFromLayers(String code) {
+		MessagesLayerCache cache = layerCache;
+		Object entry = cache.get(code);
+		if (entry == null) {
+			Message message = table.find(code);
+			if (message == null) {
+				message = parent.find(code, null);
 			}
-			if (Message.isValidDefineCode(code)) {
-				message = global.messages.get(Message.getMessageCode(code));
-				if (message != null) {
-					return message;
+			entry = cache.put(code, message);
+		}
+		return MessagesLayerCache.toMessage(entry);
+	}
+
+	/**
+	 * メッセージコードで管理されているメッセージ内容をロケールを考慮して取得します。<br>
+	 * ロケールのフォールバックチェーン(例:en_US→en→ロケールなし→グローバル)の順に定義されているメッセージを提供します。<br>
+	 * フォールバックチェーンはロケールごとに一度だけ解決されキャッシュされます(メッセージ定義情報の更新時に破棄されます)。<br>
+	 * @param code メッセージコード
+	 * @param locale ロケール(nullの場合は{@link #get(String)}と同様)
+	 * @return メッセージ内容
+	 */
+	public Message get(String code, Locale locale) {
+		Message message = find(code, locale, MessagesMetrics.active());
+		return message == null ? missing(code) : message;
+	}
+
+	/**
+	 * メッセージコードで管理されているメッセージ内容を一括編集するインスタンスを取得します。<br>
+	 * メッセージの取得はこのメソッドで一度だけ行われるため、同一メッセージコードの大量編集時に利用します。<br>
+	 * 取得後のメッセージ定義情報の更新は取得済みのインスタンスに反映されません。<br>
+	 * @param code メッセージコード
+	 * @return 一括編集インスタンス(メッセージが存在しない場合はnull)
+	 */
+	public MessageRenderer renderer(String code) {
+		Message message = get(code);
+		return message == null ? null : new MessageRenderer(message);
+	}
+
+	/**
+	 * メッセージコードで管理されているメッセージ内容をロケールを考慮して一括編集するインスタンスを取得します。<br>
+	 * @param code メッセージコード
+	 * @param locale ロケール(nullの場合は{@link #renderer(String)}と同様)
+	 * @return 一括編集インスタンス(メッセージが存在しない場合はnull)
+	 */
+	public MessageRenderer renderer(String code, Locale locale) {
+		Message message = get(code, locale);
+		return message == null ? null : new MessageRenderer(message);
+	}
+
+	/**
+	 * 存在しないメッセージコードでの取得時の挙動を設定します。<br>
+	 * 階層化されたメッセージ定義情報では、取得を行ったインスタンスの挙動のみが適用されます。<br>
+	 * @param missingPolicy 存在しないメッセージコードでの取得時の挙動(nullの場合は{@link MessageMissingPolicy#NULL})
+	 */
+	public void setMissingPolicy(MessageMissingPolicy missingPolicy) {
+		this.missingPolicy = missingPolicy == null ? MessageMissingPolicy.NULL : missingPolicy;
+	}
+
+	/**
+	 * 存在しないメッセージコードでの取得時の挙動を取得します。<br>
+	 * @return 存在しないメッセージコードでの取得時の挙動
+	 */
+	public MessageMissingPolicy getMissingPolicy() {
+		return missingPolicy;
+	}
+
+	/**
+	 * 存在しないメッセージコードの通知先を設定します。<br>
+	 * 通知は{@link MessageMissingPolicy#REPORT}が設定されている場合に、メッセージコードごとに一度だけ行われます。<br>
+	 * @param missingReporter 存在しないメッセージコードの通知先
+	 */
+	public void setMissingReporter(MessageMissingReporter missingReporter) {
+		this.missingReporter = missingReporter;
+	}
+
+	/**
+	 * 存在しないメッセージコードでの取得時の挙動に従った結果を提供します。<br>
+	 * @param code メッセージコード
+	 * @return 取得結果
+	 */
+	private Message missing(String code) {
+		switch (missingPolicy) {
+			case PLACEHOLDER:
+				return Message.placeholder(code);
+			case THROW:
+				throw new MessageNotFoundException(code);
+			case REPORT:
+				MessageMissingReporter reporter = missingReporter;
+				if (reporter != null && code != null && reportedCodes.size() < REPORTED_CODE_LIMIT && reportedCodes.add(code)) {
+					reporter.missing(this, code);
 				}
+				return null;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * メッセージコードで管理されているメッセージ内容をロケールを考慮して取得します。<br>
+	 * @param code メッセージコード
+	 * @param locale ロケール
+	 * @param metrics 計測インスタンス(計測しない場合はnull)
+	 * @return メッセージ内容
+	 */
+	private Message find(String code, Locale locale, MessagesMetrics metrics) {
+		Message message = table.resolve(locale).find(code);
+		boolean inherited = false;
+		if (message == null) {
+			if (parent != null) {
+				message = parent.find(code, locale, null);
+			} else if (inheritGlobal) {
+				message = global.table.resolve(locale).find(code);
+				inherited = message != null;
 			}
 		}
-		return null;
+		if (metrics != null) {
+			metrics.lookup(code, message, inherited);
+		}
+		return message;
 	}
 }
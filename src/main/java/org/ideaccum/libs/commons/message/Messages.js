@@ -8,6 +8,8 @@
  *<!--
  * 更新日      更新者           更新内容
  * 2019/05/08  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         メッセージ定義追加時のテンプレート解析による単一走査のバインド処理に変更及び、一括追加(addAll)を追加
+ * 2026/10/17  Kitagawa         名前付きバインドスロット及び、一部の書式付きバインドスロット(number、date、time)に対応
  *-->
  */
 (function(window, document, undefined) {
@@ -23,79 +25,281 @@
 	};
 
 	/**
-	 * オブジェクトが配列オブジェクトか判定します。<br>
-	 * @param object 判定対象オブジェクト
-	 * @returns 配列オブジェクトの場合にtrueを返却 
+	 * バインドスロットのインデックス表記を解析します。<br>
+	 * 先頭ゼロを持たない10進数表記のみを有効なインデックスとして扱います。<br>
+	 * @param source 解析対象文字列
+	 * @param begin 開始位置
+	 * @param end 終了位置(この位置の文字は含まない)
+	 * @return バインドスロットインデックス(インデックス表記でない場合は-1)
 	 */
-	var isArray = function(object) {
-		return Object.prototype.toString.call(object) === "[object Array]";
+	var parseIndex = function(source, begin, end) {
+		if (end - begin <= 0 || end - begin > 9) {
+			return -1;
+		}
+		if (end - begin > 1 && source.charAt(begin) === "0") {
+			return -1;
+		}
+		var index = 0;
+		for (var i = begin; i <= end - 1; i++) {
+			var c = source.charCodeAt(i);
+			if (c < 48 || c > 57) {
+				return -1;
+			}
+			index = index * 10 + (c - 48);
+		}
+		return index;
 	};
 
 	/**
-	 * 文字列の置換を行い、その結果を取得します。<br>
-	 * 当メソッドは正規表現は使用しません。<br>
-	 * @param source 処理の対象の文字列
-	 * @param before 置換前の文字列
-	 * @param after 置換後の文字列
-	 * @return 置換処理後の文字列
+	 * バインドスロットの名前表記を解析します。<br>
+	 * 英字又は"_"で始まり、英数字、"_"、"."で構成される表記(ASCII文字のみ)を有効な名前として扱います。<br>
+	 * @param source 解析対象文字列
+	 * @param begin 開始位置
+	 * @param end 終了位置(この位置の文字は含まない)
+	 * @return バインドスロット名(名前表記でない場合はnull)
 	 */
-	var replace = function(source, before, after) {
-		if (isEmpty(source)) {
-			return "";
+	var parseName = function(source, begin, end) {
+		var name = source.substring(begin, end);
+		return /^[A-Za-z_][A-Za-z0-9_.]*$/.test(name) ? name : null;
+	};
+
+	/**
+	 * 数値を指定桁数まで先頭ゼロで埋めた文字列を提供します。<br>
+	 * @param value 数値
+	 * @param digits 桁数
+	 * @return 編集後文字列
+	 */
+	var pad = function(value, digits) {
+		var text = String(value);
+		while (text.length < digits) {
+			text = "0" + text;
 		}
-		if (source.indexOf(before) < 0) {
-			return source;
+		return text;
+	};
+
+	/**
+	 * 日付の項目を書式化します。<br>
+	 * @param date 日付
+	 * @param field 項目を表すパターン文字
+	 * @param count パターン文字数
+	 * @return 書式化文字列
+	 */
+	var formatField = function(date, field, count) {
+		switch (field) {
+			case "y":
+				return count === 2 ? pad(date.getFullYear() % 100, 2) : pad(date.getFullYear(), count);
+			case "M":
+				return pad(date.getMonth() + 1, count);
+			case "d":
+				return pad(date.getDate(), count);
+			case "H":
+				return pad(date.getHours(), count);
+			case "m":
+				return pad(date.getMinutes(), count);
+			case "s":
+				return pad(date.getSeconds(), count);
+			default:
+				return pad(date.getMilliseconds(), 3).substring(0, count);
 		}
-		var result = "";
-		var index = source.indexOf(before);
-		result += source.substring(0, index) + after;
-		if (index + before.length < source.length) {
-			var rest = source.substring(index + before.length, source.length);
-			result += replace(rest, before, after);
+	};
+
+	/**
+	 * 数値書式の書式処理を生成します。<br>
+	 * スタイル省略、"integer"、"percent"及び、"#"、"0"、","、"."のみで構成される3桁区切りのパターンをサポートします。<br>
+	 * 区切り文字等はブラウザのロケールに従います。<br>
+	 * @param style スタイル(省略時はundefined)
+	 * @return 書式処理(サポートされないスタイルの場合はnull)
+	 */
+	var compileNumber = function(style) {
+		var options;
+		var keyword = style === undefined ? undefined : style.replace(/^\s+|\s+$/g, "");
+		if (keyword === undefined) {
+			options = { maximumFractionDigits : 3 };
+		} else if (keyword === "integer") {
+			options = { maximumFractionDigits : 0 };
+		} else if (keyword === "percent") {
+			options = { style : "percent", maximumFractionDigits : 0 };
+		} else {
+			var point = style.indexOf(".");
+			var integer = point < 0 ? style : style.substring(0, point);
+			var fraction = point < 0 ? "" : style.substring(point + 1);
+			if (!/^(#+,)*#*0+(,0+)*$/.test(integer) || !/^0*#*$/.test(fraction)) {
+				return null;
+			}
+			var separator = integer.lastIndexOf(",");
+			if (separator >= 0 && integer.length - separator - 1 !== 3) {
+				return null;
+			}
+			options = {
+				useGrouping : separator >= 0,
+				minimumIntegerDigits : integer.replace(/[#,]/g, "").length,
+				minimumFractionDigits : fraction.replace(/#/g, "").length,
+				maximumFractionDigits : fraction.length
+			};
 		}
-		return result;
+		return function(value) {
+			return typeof value === "number" ? value.toLocaleString(undefined, options) : String(value);
+		};
 	};
 
 	/**
-	 * 文字列内の{n}に対してパラメータ文字列配列順に文字列を挿入して提供します。<br>
-	 * パラメータ文字列がnullの場合は空文字を挿入します。<br>
-	 * @param source バインド対象文字列
-	 * @param params バインド文字列配列(対象バインド分並べて指定します)
-	 * @return バインド編集後文字列
+	 * 日付書式の書式処理を生成します。<br>
+	 * スタイル省略及び、y(1、2、4桁)、M、d、H、m、s(1、2桁)、S(1～3桁)と英字・引用符・括弧以外の区切り文字のみで構成されるパターンをサポートします。<br>
+	 * 書式化の対象はDateオブジェクトのみで、ブラウザのタイムゾーンで書式化します。<br>
+	 * @param style スタイル(省略時はundefined)
+	 * @param time 時刻書式(time)の場合にtrue
+	 * @return 書式処理(サポートされないスタイルの場合はnull)
 	 */
-	var bind = function(source, params) {
+	var compileDate = function(style, time) {
+		var fields = [];
+		if (style === undefined) {
+			fields = time ? [["H", 2], ":", ["m", 2], ":", ["s", 2]] : [["y", 4], "-", ["M", 2], "-", ["d", 2]];
+		}
+		var cursor = 0;
+		while (style !== undefined && cursor < style.length) {
+			var c = style.charAt(cursor);
+			var count = 1;
+			while (cursor + count < style.length && style.charAt(cursor + count) === c) {
+				count++;
+			}
+			if (/[A-Za-z]/.test(c)) {
+				var max = c === "y" ? 4 : c === "S" ? 3 : 2;
+				if ("yMdHmsS".indexOf(c) < 0 || count > max || (c === "y" && count === 3)) {
+					return null;
+				}
+				fields.push([c, count]);
+			} else if ("'[]{}#".indexOf(c) >= 0) {
+				return null;
+			} else {
+				fields.push(style.substring(cursor, cursor + count));
+			}
+			cursor += count;
+		}
+		return function(value) {
+			if (!(value instanceof Date)) {
+				return String(value);
+			}
+			var parts = new Array(fields.length);
+			for (var i = 0; i <= fields.length - 1; i++) {
+				parts[i] = typeof fields[i] === "string" ? fields[i] : formatField(value, fields[i][0], fields[i][1]);
+			}
+			if (style === undefined && time && value.getMilliseconds() > 0) {
+				// ISO形式の時刻と同様に秒未満は末尾のゼロを除いて出力
+				parts.push("." + pad(value.getMilliseconds(), 3).replace(/0+$/, ""));
+			}
+			return parts.join("");
+		};
+	};
+
+	/** 書式指定ごとの書式処理キャッシュ */
+	var formatters = {};
+
+	/**
+	 * 書式指定に対応する書式処理を取得します。<br>
+	 * 書式指定は"型[,スタイル]"の形式で、サポートされる型はnumber、date、timeです。<br>
+	 * @param spec 書式指定
+	 * @return 書式処理(サポートされない書式指定の場合はnull)
+	 */
+	var formatter = function(spec) {
+		if (Object.prototype.hasOwnProperty.call(formatters, spec)) {
+			return formatters[spec];
+		}
+		var separator = spec.indexOf(",");
+		var type = (separator < 0 ? spec : spec.substring(0, separator)).replace(/^\s+|\s+$/g, "");
+		var style = separator < 0 ? undefined : spec.substring(separator + 1);
+		var format = null;
+		if (type === "number") {
+			format = compileNumber(style);
+		} else if (type === "date" || type === "time") {
+			format = compileDate(style, type === "time");
+		}
+		formatters[spec] = format;
+		return format;
+	};
+
+	/**
+	 * メッセージ定義内容をリテラル文字列とバインドスロット({n}、{name}、{n,型,スタイル})に分解したテンプレートを生成します。<br>
+	 * テンプレートは偶数要素にリテラル文字列、奇数要素にバインドスロット(インデックス、名前、書式処理、定義内容)を保持する配列となります。<br>
+	 * 名前又は、書式指定が不正なバインドスロットはリテラル文字列として扱います。<br>
+	 * @param source メッセージ定義内容
+	 * @return テンプレート
+	 */
+	var compile = function(source) {
 		if (isEmpty(source)) {
-			return "";
+			return [""];
 		}
-		if (params === undefined) {
-			return source === undefined ? "" : source;
+		var tokens = [];
+		var start = 0;
+		var cursor = 0;
+		while ((cursor = source.indexOf("{", cursor)) >= 0) {
+			var close = source.indexOf("}", cursor + 1);
+			if (close < 0) {
+				break;
+			}
+			var separator = source.indexOf(",", cursor + 1);
+			var keyEnd = separator >= 0 && separator < close ? separator : close;
+			var index = parseIndex(source, cursor + 1, keyEnd);
+			var name = index < 0 ? parseName(source, cursor + 1, keyEnd) : null;
+			var format = keyEnd < close ? formatter(source.substring(keyEnd + 1, close)) : undefined;
+			if ((index < 0 && name === null) || format === null) {
+				cursor++;
+				continue;
+			}
+			tokens.push(source.substring(start, cursor));
+			tokens.push({
+				index : index,
+				name : name,
+				format : format,
+				source : source.substring(cursor, close + 1)
+			});
+			start = close + 1;
+			cursor = start;
 		}
-		var binds = [];
-		for (var i = 1; i <= arguments.length - 1; i++) {
-			var argument = arguments[i];
-			if (argument === undefined) {
-				binds.push("");
+		tokens.push(source.substring(start));
+		return tokens;
+	};
+
+	/**
+	 * テンプレートのバインドスロットにパラメータを挿入して提供します。<br>
+	 * 名前をキーとしたパラメータが指定された場合は、インデックスのバインドスロットもインデックスの文字列表記をキーとして値を取得します。<br>
+	 * パラメータがnull又はundefinedの場合は空文字を挿入し、パラメータが存在しないスロットは定義内容({n}、{name})のまま出力します。<br>
+	 * @param tokens テンプレート
+	 * @param binds バインドパラメータ配列
+	 * @param named 名前をキーとしたバインドパラメータ(指定された場合はバインドパラメータ配列は利用しない)
+	 * @return バインド編集後文字列
+	 */
+	var render = function(tokens, binds, named) {
+		if (tokens.length === 1) {
+			return tokens[0];
+		}
+		var parts = new Array(tokens.length);
+		for (var i = 0; i <= tokens.length - 1; i++) {
+			if (i % 2 === 0) {
+				parts[i] = tokens[i];
 				continue;
 			}
-			if (isArray(argument)) {
-				for (var j = 0; j <= argument.length - 1; j++) {
-					var e = argument[j];
-					if (e === undefined) {
-						binds.push("");
-					} else {
-						binds.push(e.toString());
-					}
+			var slot = tokens[i];
+			var value;
+			if (named !== undefined) {
+				var key = slot.name !== null ? slot.name : String(slot.index);
+				if (!Object.prototype.hasOwnProperty.call(named, key)) {
+					parts[i] = slot.source;
+					continue;
 				}
+				value = named[key];
+			} else if (slot.index >= 0 && slot.index < binds.length) {
+				value = binds[slot.index];
+			} else {
+				parts[i] = slot.source;
 				continue;
 			}
-			binds.push(argument.toString());
-		}
-		var render = source;
-		for (var i = 0; i <= binds.length - 1; i++) {
-			var value = binds[i];
-			render = replace(render, "{" + i + "}", value);
+			if (value === undefined || value === null) {
+				parts[i] = "";
+			} else {
+				parts[i] = slot.format === undefined ? String(value) : slot.format(value);
+			}
 		}
-		return render;
+		return parts.join("");
 	};
 
 	/**
@@ -108,6 +312,7 @@
 
 		/**
 		 * メッセージ定義を追加します。<br>
+		 * メッセージ内容は追加時にテンプレートとして解析され、取得時は解析済みのテンプレートで編集されます。<br>
 		 * @param code メッセージコード
 		 * @param level メッセージレベル
 		 * @param message メッセージ内容
@@ -116,14 +321,30 @@
 			messages[code] = {
 				code : code,
 				level : level,
-				message : message
+				message : message,
+				tokens : compile(message)
 			};
 		};
 
+		/**
+		 * メッセージ定義を一括で追加します。<br>
+		 * @param entries メッセージ定義配列(各要素は[メッセージコード, メッセージレベル, メッセージ内容]の配列)
+		 */
+		var addAll = this.addAll = function(entries) {
+			if (entries === undefined || entries === null) {
+				return;
+			}
+			for (var i = 0; i <= entries.length - 1; i++) {
+				var entry = entries[i];
+				add(entry[0], entry[1], entry[2]);
+			}
+		};
+
 		/**
 		 * メッセージを取得します。<br>
+		 * バインドパラメータに単一のオブジェクト({user : "name"}等)を指定した場合は、名前付きバインドスロットにプロパティ値をバインドします。<br>
 		 * @param code メッセージコード
-		 * @param params バインドパラメータ(対象バインド分並べて指定します)
+		 * @param params バインドパラメータ(対象バインド分並べて指定するか、名前をキーとしたオブジェクトを指定します)
 		 * @return バインドパラメータがバインドされたメッセージ文字列
 		 */
 		var get = this.get = function(code, params) {
@@ -131,11 +352,21 @@
 			if (message === undefined) {
 				return "";
 			}
+			if (arguments.length === 2 && Object.prototype.toString.call(params) === "[object Object]") {
+				return render(message.tokens, [], params);
+			}
 			var binds = [];
 			for (var i = 1; i <= arguments.length - 1; i++) {
-				binds.push(arguments[i]);
+				var argument = arguments[i];
+				if (Object.prototype.toString.call(argument) === "[object Array]") {
+					for (var j = 0; j <= argument.length - 1; j++) {
+						binds.push(argument[j]);
+					}
+				} else {
+					binds.push(argument);
+				}
 			}
-			return bind(message.message, binds);
+			return render(message.tokens, binds);
 		};
 	};
 
@@ -0,0 +1,103 @@
+package org.ideaccum.libs.commons.message;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.ideaccum.libs.commons.util.ResourceUtil;
+
+/**
+ * メッセージリソースを事前コンパイルされたバイナリ形式のメッセージバンドルに変換するインタフェースを提供します。<br>
+ * <p>
+ * プロパティリソース又は、XMLリソースで定義されたメッセージをビルド時に変換しておくことで、実行時の読み込みではコード検証やテンプレート解析を行わずにメッセージを展開します。<br>
+ * 変換されたメッセージバンドル(拡張子{@link #EXTENSION})は{@link Messages#load(String, MessagesLoadMode)}でそのまま読み込むことが可能です。<br>
+ * ビルド時に利用する場合は、exec-maven-plugin等から{@link #main(String[])}を実行して下さい。<br>
+ * 出力先のメッセージバンドルは同一ディレクトリ上の一時ファイルに出力した後にアトミックに置き換えるため、メモリマップして読み込み済みのメッセージバンドルの内容が変換中に変更されることはありません。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         一時ファイルからのアトミックな置き換えによる出力に変更、変換元メッセージリソースが存在しない場合は例外をスローするよう変更
+ *-->
+ */
+public final class MessagesCompiler {
+
+	/** メッセージバンドル拡張子 */
+	public static final String EXTENSION = ".mbin";
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	private MessagesCompiler() {
+		super();
+	}
+
+	/**
+	 * メッセージリソースをメッセージバンドルに変換します。<br>
+	 * 複数のメッセージリソースが指定された場合、後に指定されたリソースの定義で上書きした内容を出力します。<br>
+	 * @param outputPath 出力先メッセージバンドルパス
+	 * @param sourcePaths 変換元メッセージリソースパス
+	 * @throws IOException 入出力例外が発生した場合又は、変換元メッセージリソースが存在しない場合にスローされます
+	 */
+	public static void compile(String outputPath, List<String> sourcePaths) throws IOException {
+		if (outputPath == null || !outputPath.endsWith(EXTENSION)) {
+			throw new IllegalArgumentException("output path must end with " + EXTENSION);
+		}
+		Messages messages = Messages.create(false);
+		for (String sourcePath : sourcePaths) {
+			// 存在しないリソースの読み込みは空の読み込みとして扱われるため、空のメッセージバンドルを出力しないよう事前に検証
+			if (Messages.toURL(sourcePath) == null && !ResourceUtil.exists(sourcePath)) {
+				throw new FileNotFoundException("message resource not found (" + sourcePath + ")");
+			}
+			messages.load(sourcePath, MessagesLoadMode.REPLACE_EXISTS);
+		}
+		List<Message> entries = new ArrayList<>();
+		for (String key : messages.keySet()) {
+			entries.add(messages.get(key));
+		}
+
+		File file = new File(outputPath).getAbsoluteFile();
+		if (!file.getParentFile().exists()) {
+			file.getParentFile().mkdirs();
+		}
+		/*
+		 * 読み込み済みのメッセージバンドルはメモリマップされているため、出力先を直接上書きせずに一時ファイルから置き換え
+		 */
+		Path temp = Files.createTempFile(file.getParentFile().toPath(), file.getName(), ".tmp");
+		try {
+			OutputStream stream = null;
+			try {
+				stream = Files.newOutputStream(temp);
+				MessageBundle.write(entries, stream);
+			} finally {
+				if (stream != null) {
+					stream.close();
+				}
+			}
+			Files.move(temp, file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * メッセージリソースをメッセージバンドルに変換します。<br>
+	 * 引数には出力先メッセージバンドルパス、変換元メッセージリソースパス(複数指定可)の順に指定します。<br>
+	 * @param args 起動引数
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args == null || args.length < 2) {
+			throw new IllegalArgumentException("usage: MessagesCompiler <output" + EXTENSION + "> <source> [<source>...]");
+		}
+		compile(args[0], Arrays.asList(args).subList(1, args.length));
+	}
+}
@@ -0,0 +1,266 @@
+package org.ideaccum.libs.commons.message;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * クライアントに提供するメッセージ定義情報の出力内容を保持するクラスです。<br>
+ * <p>
+ * 出力内容はメッセージ定義情報のスナップショットごとに一度だけ生成され、UTF-8バイト列、GZIP圧縮済みバイト列及び、内容から算出したETagとしてキャッシュされます。<br>
+ * キャッシュ上のメモリ使用量を抑えるため、出力内容の文字列は保持しません。文字出力ストリームへの出力はUTF-8バイト列を固定長のバッファで逐次復号して出力するため、出力内容全体の文字列は生成されません。<br>
+ * メッセージ操作用スクリプト(Messages.js)でサーバーと同一のメッセージ内容に編集できないメッセージ({@link MessageTemplate#isScriptable()}参照)は出力対象から除外します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         メッセージ定義情報のみのJSON形式出力を追加
+ * 2026/10/17  Kitagawa         出力内容の文字列を保持しないよう変更
+ * 2026/10/17  Kitagawa         文字出力ストリームへの出力をUTF-8バイト列の逐次復号による出力に変更
+ * 2026/10/17  Kitagawa         メッセージ操作用スクリプトで編集できないメッセージを出力対象から除外
+ *-->
+ */
+final class MessagesExport {
+
+	/** 16進数文字 */
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	/** スクリプト出力時の一括追加(Messages.addAll)1回あたりのメッセージ件数 */
+	private static final int SCRIPT_CHUNK_SIZE = 1000;
+
+	/** メッセージ1件あたりの出力文字列長見込み */
+	private static final int ESTIMATE_ENTRY_LENGTH = 64;
+
+	/** 文字出力時の復号バッファサイズ(文字数) */
+	private static final int DECODE_BUFFER_SIZE = 8192;
+
+	/** 出力内容(UTF-8) */
+	private byte[] bytes;
+
+	/** 出力内容(UTF-8、GZIP圧縮済み) */
+	private byte[] gzipped;
+
+	/** ETag */
+	private String etag;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param text 出力内容
+	 */
+	private MessagesExport(String text) {
+		super();
+		this.bytes = text.getBytes(StandardCharsets.UTF_8);
+		this.gzipped = gzip(bytes);
+		this.etag = "\"" + digest(bytes) + "\"";
+	}
+
+	/**
+	 * 任意の文字列による出力内容を生成します。<br>
+	 * @param text 出力内容
+	 * @return 出力内容
+	 */
+	static MessagesExport text(String text) {
+		return new MessagesExport(text);
+	}
+
+	/**
+	 * メッセージ定義情報のJSON形式の出力内容を生成します。<br>
+	 * 出力内容は[メッセージコード, メッセージレベル名, メッセージ内容]の配列を要素とする配列となります。<br>
+	 * メッセージ操作用スクリプトで編集できないメッセージは出力されません。<br>
+	 * @param messages 出力対象メッセージ
+	 * @return 出力内容
+	 */
+	static MessagesExport json(Collection<Message> messages) {
+		StringBuilder builder = new StringBuilder(messages.size() * ESTIMATE_ENTRY_LENGTH + 2);
+		builder.append('[');
+		int count = 0;
+		for (Message message : messages) {
+			if (!message.getTemplate().isScriptable()) {
+				continue;
+			}
+			builder.append(count == 0 ? "\n[\"" : ",\n[\"");
+			escape(builder, message.getCode());
+			builder.append("\",\"");
+			escape(builder, message.getLevel().getName());
+			builder.append("\",\"");
+			escape(builder, message.getDefine());
+			builder.append("\"]");
+			count++;
+		}
+		builder.append(count == 0 ? "]" : "\n]");
+		return new MessagesExport(builder.toString());
+	}
+
+	/**
+	 * メッセージ操作用スクリプトの出力内容を生成します。<br>
+	 * メッセージ操作用スクリプトで編集できないメッセージは出力されません。<br>
+	 * @param library メッセージ操作用スクリプトライブラリソース
+	 * @param messages 出力対象メッセージ
+	 * @return 出力内容
+	 */
+	static MessagesExport script(String library, Collection<Message> messages) {
+		StringBuilder builder = new StringBuilder(library.length() + messages.size() * ESTIMATE_ENTRY_LENGTH);
+		builder.append(library).append('\n');
+		int count = 0;
+		for (Message message : messages) {
+			if (!message.getTemplate().isScriptable()) {
+				continue;
+			}
+			// 旧来のブラウザで要素数が不正となる末尾カンマを出力しないよう、区切りは要素の前に出力
+			if (count % SCRIPT_CHUNK_SIZE == 0) {
+				builder.append(count == 0 ? "Messages.addAll([\n" : "\n]);\nMessages.addAll([\n");
+			} else {
+				builder.append(",\n");
+			}
+			builder.append("[\"");
+			escape(builder, message.getCode());
+			builder.append("\",\"");
+			escape(builder, message.getLevel().getName());
+			builder.append("\",\"");
+			escape(builder, message.getDefine());
+			builder.append("\"]");
+			count++;
+		}
+		if (count > 0) {
+			builder.append("\n]);\n");
+		}
+		return new MessagesExport(builder.toString());
+	}
+
+	/**
+	 * 文字列をスクリプト文字列リテラルとしてエスケープして追加します。<br>
+	 * エスケープ結果はJSON文字列としても有効な形式となります。<br>
+	 * @param builder 出力先文字列バッファ
+	 * @param value 対象文字列
+	 */
+	static void escape(StringBuilder builder, String value) {
+		if (value == null) {
+			return;
+		}
+		for (int i = 0; i <= value.length() - 1; i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '\\':
+					builder.append("\\\\");
+					break;
+				case '"':
+					builder.append("\\\"");
+					break;
+				case '\n':
+					builder.append("\\n");
+					break;
+				case '\r':
+					builder.append("\\r");
+					break;
+				case '\t':
+					builder.append("\\t");
+					break;
+				case '<':
+					// スクリプト要素内に埋め込まれた場合の"</script>"による終端を回避
+					builder.append("\\u003c");
+					break;
+				default:
+					if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+						builder.append("\\u").append(HEX[(c >> 12) & 0xF]).append(HEX[(c >> 8) & 0xF]).append(HEX[(c >> 4) & 0xF]).append(HEX[c & 0xF]);
+					} else {
+						builder.append(c);
+					}
+			}
+		}
+	}
+
+	/**
+	 * バイト列をGZIP圧縮します。<br>
+	 * @param bytes 対象バイト列
+	 * @return GZIP圧縮済みバイト列
+	 */
+	private static byte[] gzip(byte[] bytes) {
+		try {
+			ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4 + 64);
+			GZIPOutputStream stream = new GZIPOutputStream(output);
+			stream.write(bytes);
+			stream.close();
+			return output.toByteArray();
+		} catch (IOException e) {
+			// メモリ上の出力で入出力例外は発生しない
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * バイト列のダイジェストを16進数文字列で取得します。<br>
+	 * @param bytes 対象バイト列
+	 * @return ダイジェスト文字列
+	 */
+	private static String digest(byte[] bytes) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+			StringBuilder builder = new StringBuilder(32);
+			for (int i = 0; i <= 15; i++) {
+				builder.append(HEX[(hash[i] >> 4) & 0xF]).append(HEX[hash[i] & 0xF]);
+			}
+			return builder.toString();
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256はJava実行環境で必ず提供される
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 出力内容を取得します。<br>
+	 * 出力内容はUTF-8バイト列から都度復元されます。文字出力ストリームへの出力には{@link #writeTo(Writer)}を利用して下さい。<br>
+	 * @return 出力内容
+	 */
+	String getText() {
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * ETagを取得します。<br>
+	 * @return ETag(ダブルクォートで囲まれた形式)
+	 */
+	String getETag() {
+		return etag;
+	}
+
+	/**
+	 * 出力内容を出力ストリームに書き込みます。<br>
+	 * @param stream 出力ストリーム
+	 * @param gzip GZIP圧縮済みの内容を書き込む場合にtrueを指定
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	void writeTo(OutputStream stream, boolean gzip) throws IOException {
+		stream.write(gzip ? gzipped : bytes);
+		stream.flush();
+	}
+
+	/**
+	 * 出力内容を文字出力ストリームに書き込みます。<br>
+	 * UTF-8バイト列を固定長のバッファで逐次復号して書き込むため、出力内容全体の文字列は生成しません。<br>
+	 * @param writer 文字出力ストリーム
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	void writeTo(Writer writer) throws IOException {
+		CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+		ByteBuffer input = ByteBuffer.wrap(bytes);
+		CharBuffer output = CharBuffer.allocate(DECODE_BUFFER_SIZE);
+		while (decoder.decode(input, output, true).isOverflow()) {
+			writer.write(output.array(), 0, output.position());
+			output.clear();
+		}
+		decoder.flush(output);
+		writer.write(output.array(), 0, output.position());
+		writer.flush();
+	}
+}
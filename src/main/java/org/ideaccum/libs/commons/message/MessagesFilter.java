@@ -0,0 +1,229 @@
+package org.ideaccum.libs.commons.message;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * クライアントに出力するメッセージ定義情報の絞り込み条件を提供します。<br>
+ * <p>
+ * 絞り込み条件はメッセージレベル、メッセージコードのプレフィックス、メッセージコードの指定で構成されます。<br>
+ * メッセージレベルの条件に該当し、かつプレフィックス又はメッセージコードの条件のいずれかに該当するメッセージが出力対象となります(未指定の条件は全てのメッセージが該当します)。<br>
+ * このクラスのインスタンスは不変であり、等価な条件のインスタンスは出力内容のキャッシュキーとして同一に扱われます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+public final class MessagesFilter implements Serializable {
+
+	/** 全てのメッセージを対象とする絞り込み条件 */
+	public static final MessagesFilter ALL = new MessagesFilter(null, Collections.<String> emptyList(), Collections.<String> emptySet());
+
+	/** 対象メッセージレベル(nullの場合は全レベル) */
+	private Set<MessageLevel> levels;
+
+	/** 対象メッセージコードプレフィックス */
+	private List<String> prefixes;
+
+	/** 対象メッセージコード */
+	private Set<String> codes;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param levels 対象メッセージレベル
+	 * @param prefixes 対象メッセージコードプレフィックス
+	 * @param codes 対象メッセージコード
+	 */
+	private MessagesFilter(Set<MessageLevel> levels, List<String> prefixes, Set<String> codes) {
+		super();
+		this.levels = levels == null ? null : Collections.unmodifiableSet(levels);
+		this.prefixes = Collections.unmodifiableList(prefixes);
+		this.codes = Collections.unmodifiableSet(codes);
+	}
+
+	/**
+	 * 指定されたメッセージレベルのメッセージを対象とする絞り込み条件を生成します。<br>
+	 * @param levels 対象メッセージレベル
+	 * @return 絞り込み条件
+	 */
+	public static MessagesFilter levels(MessageLevel... levels) {
+		return ALL.withLevels(levels);
+	}
+
+	/**
+	 * 指定されたメッセージレベル以外のメッセージを対象とする絞り込み条件を生成します。<br>
+	 * @param levels 対象外メッセージレベル
+	 * @return 絞り込み条件
+	 */
+	public static MessagesFilter excludeLevels(MessageLevel... levels) {
+		EnumSet<MessageLevel> excludes = EnumSet.noneOf(MessageLevel.class);
+		excludes.addAll(Arrays.asList(levels));
+		return new MessagesFilter(EnumSet.complementOf(excludes), Collections.<String> emptyList(), Collections.<String> emptySet());
+	}
+
+	/**
+	 * 指定されたプレフィックスを持つメッセージコードのメッセージを対象とする絞り込み条件を生成します。<br>
+	 * @param prefixes 対象メッセージコードプレフィックス
+	 * @return 絞り込み条件
+	 */
+	public static MessagesFilter prefixes(String... prefixes) {
+		return ALL.withPrefixes(prefixes);
+	}
+
+	/**
+	 * 指定されたメッセージコードのメッセージを対象とする絞り込み条件を生成します。<br>
+	 * @param codes 対象メッセージコード(レベルサフィックスを持たないコード)
+	 * @return 絞り込み条件
+	 */
+	public static MessagesFilter codes(String... codes) {
+		return ALL.withCodes(codes);
+	}
+
+	/**
+	 * メッセージレベルの条件を置き換えた絞り込み条件を生成します。<br>
+	 * @param levels 対象メッセージレベル
+	 * @return 絞り込み条件
+	 */
+	public MessagesFilter withLevels(MessageLevel... levels) {
+		EnumSet<MessageLevel> set = EnumSet.noneOf(MessageLevel.class);
+		set.addAll(Arrays.asList(levels));
+		return new MessagesFilter(set, prefixes, codes);
+	}
+
+	/**
+	 * メッセージコードプレフィックスの条件を追加した絞り込み条件を生成します。<br>
+	 * @param prefixes 対象メッセージコードプレフィックス
+	 * @return 絞り込み条件
+	 */
+	public MessagesFilter withPrefixes(String... prefixes) {
+		List<String> list = new ArrayList<>(this.prefixes);
+		for (String prefix : prefixes) {
+			if (prefix != null && !list.contains(prefix)) {
+				list.add(prefix);
+			}
+		}
+		Collections.sort(list);
+		return new MessagesFilter(copy(levels), list, codes);
+	}
+
+	/**
+	 * メッセージコードの条件を追加した絞り込み条件を生成します。<br>
+	 * @param codes 対象メッセージコード(レベルサフィックスを持たないコード)
+	 * @return 絞り込み条件
+	 */
+	public MessagesFilter withCodes(String... codes) {
+		Set<String> set = new HashSet<>(this.codes);
+		for (String code : codes) {
+			if (code != null) {
+				set.add(code);
+			}
+		}
+		return new MessagesFilter(copy(levels), prefixes, set);
+	}
+
+	/**
+	 * メッセージレベル集合を複製します。<br>
+	 * @param levels メッセージレベル集合
+	 * @return 複製したメッセージレベル集合
+	 */
+	private static Set<MessageLevel> copy(Set<MessageLevel> levels) {
+		return levels == null ? null : EnumSet.copyOf(levels);
+	}
+
+	/**
+	 * 対象メッセージレベルを取得します。<br>
+	 * @return 対象メッセージレベル(全レベルが対象の場合はnull)
+	 */
+	public Set<MessageLevel> getLevels() {
+		return levels;
+	}
+
+	/**
+	 * メッセージが絞り込み条件に該当するか判定します。<br>
+	 * @param message 判定対象メッセージ
+	 * @return 絞り込み条件に該当する場合にtrueを返却
+	 */
+	public boolean accept(Message message) {
+		if (levels != null && !levels.contains(message.getLevel())) {
+			return false;
+		}
+		if (prefixes.isEmpty() && codes.isEmpty()) {
+			return true;
+		}
+		if (codes.contains(message.getCode())) {
+			return true;
+		}
+		for (String prefix : prefixes) {
+			if (message.getCode().startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * オブジェクト情報を文字列として提供します。<br>
+	 * @return オブジェクト情報文字列
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "levels=" + (levels == null ? "*" : levels) + ", prefixes=" + prefixes + ", codes=" + codes;
+	}
+
+	/**
+	 * オブジェクトハッシュコードを取得します。<br>
+	 * @return オブジェクトハッシュコード
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((levels == null) ? 0 : levels.hashCode());
+		result = prime * result + prefixes.hashCode();
+		result = prime * result + codes.hashCode();
+		return result;
+	}
+
+	/**
+	 * オブジェクト等価比較を行います。<br>
+	 * @return 等価の場合にtrueを返却
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		}
+		if (object == null) {
+			return false;
+		}
+		if (getClass() != object.getClass()) {
+			return false;
+		}
+		MessagesFilter other = (MessagesFilter) object;
+		if (levels == null) {
+			if (other.levels != null) {
+				return false;
+			}
+		} else if (!levels.equals(other.levels)) {
+			return false;
+		}
+		if (!prefixes.equals(other.prefixes)) {
+			return false;
+		}
+		if (!codes.equals(other.codes)) {
+			return false;
+		}
+		return true;
+	}
+}
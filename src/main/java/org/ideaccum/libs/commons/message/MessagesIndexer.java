@@ -0,0 +1,161 @@
+package org.ideaccum.libs.commons.message;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * クラスパス上のメッセージリソースを探索するためのインデックスを生成、参照するインタフェースを提供します。<br>
+ * <p>
+ * メッセージリソースは命名規約としてクラスパス上の{@link #DIRECTORY}直下に配置し、ビルド時に{@link #main(String[])}でインデックス({@link #INDEX_RESOURCE})を生成します。<br>
+ * 実行時はクラスパス上の全てのインデックスを参照してメッセージリソースを特定するため、JARファイル等の走査は行われません。<br>
+ * インデックスに記載されたメッセージリソースはインデックスと同一のクラスパス要素(JARファイル等)上のURLとして特定されるため、異なるJARファイルに同一パスのメッセージリソースが存在する場合もそれぞれ読み込まれます。<br>
+ * インデックスの対象はプロパティリソース(拡張子".properties")、XMLリソース(拡張子".xml")及び、メッセージバンドル(拡張子{@link MessagesCompiler#EXTENSION})となります。<br>
+ * ロケール別メッセージリソースはロケールを持たないメッセージ定義情報として読み込まれてしまうため、{@link #DIRECTORY}以外に配置して{@link Messages#loadLocalized(String, java.util.Locale, MessagesLoadMode)}で読み込んで下さい。<br>
+ * ビルド時に利用する場合は、exec-maven-plugin等からprepare-packageフェーズで{@link #main(String[])}を実行して下さい。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         メッセージリソースをインデックスと同一のクラスパス要素上のURLとして提供するよう変更
+ *-->
+ */
+public final class MessagesIndexer {
+
+	/** メッセージリソース配置ディレクトリ(クラスパス上のパス) */
+	public static final String DIRECTORY = "META-INF/messages/";
+
+	/** インデックスリソース(クラスパス上のパス) */
+	public static final String INDEX_RESOURCE = DIRECTORY + "messages.index";
+
+	/** インデックスのコメント行接頭辞 */
+	private static final String COMMENT = "#";
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	private MessagesIndexer() {
+		super();
+	}
+
+	/**
+	 * メッセージリソースとして扱うファイルであるか判定します。<br>
+	 * @param name ファイル名
+	 * @return メッセージリソースとして扱うファイルである場合にtrueを返却
+	 */
+	private static boolean isResource(String name) {
+		return name.endsWith(".properties") || name.endsWith(".xml") || name.endsWith(MessagesCompiler.EXTENSION);
+	}
+
+	/**
+	 * クラス出力ディレクトリ上の{@link #DIRECTORY}直下のメッセージリソースからインデックスを生成します。<br>
+	 * インデックスにはメッセージリソースのクラスパス上のパスがファイル名順に出力されます。<br>
+	 * @param classesDirectory クラス出力ディレクトリ
+	 * @return インデックスに出力されたメッセージリソースパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	public static List<String> index(File classesDirectory) throws IOException {
+		File directory = new File(classesDirectory, DIRECTORY);
+		List<String> paths = new ArrayList<>();
+		File[] files = directory.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				if (file.isFile() && isResource(file.getName())) {
+					paths.add("/" + DIRECTORY + file.getName());
+				}
+			}
+		}
+		Collections.sort(paths);
+
+		File index = new File(classesDirectory, INDEX_RESOURCE);
+		if (paths.isEmpty()) {
+			if (index.exists()) {
+				index.delete();
+			}
+			return paths;
+		}
+		Writer writer = null;
+		try {
+			writer = new OutputStreamWriter(new FileOutputStream(index), StandardCharsets.UTF_8);
+			writer.write(COMMENT + " generated by " + MessagesIndexer.class.getName() + "\n");
+			for (String path : paths) {
+				writer.write(path);
+				writer.write("\n");
+			}
+		} finally {
+			if (writer != null) {
+				writer.close();
+			}
+		}
+		return paths;
+	}
+
+	/**
+	 * クラスパス上の全てのインデックスからメッセージリソースのURLを取得します。<br>
+	 * メッセージリソースはインデックスと同一のクラスパス要素上のリソースとして特定され、URLの外部形式文字列({@link URL#toExternalForm()})で提供されます。<br>
+	 * 提供されるURL文字列は{@link Messages#loadAll(java.util.Collection, MessagesLoadMode)}等のメッセージリソースパスとしてそのまま指定できます。<br>
+	 * URLはクラスパス上のインデックスの順序、インデックス内の記述順で提供され、重複するURL(同一インデックスの重複記載等)は最初の出現のみが提供されます。<br>
+	 * @param loader クラスローダー(nullの場合はスレッドコンテキストクラスローダー)
+	 * @return メッセージリソースのURL文字列
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	public static List<String> discover(ClassLoader loader) throws IOException {
+		if (loader == null) {
+			loader = Thread.currentThread().getContextClassLoader();
+		}
+		if (loader == null) {
+			loader = MessagesIndexer.class.getClassLoader();
+		}
+		Set<String> paths = new LinkedHashSet<>();
+		Enumeration<URL> indexes = loader.getResources(INDEX_RESOURCE);
+		while (indexes.hasMoreElements()) {
+			URL index = indexes.nextElement();
+			// インデックスと同一のクラスパス要素をメッセージリソースの基点とする
+			String base = index.toExternalForm();
+			base = base.substring(0, base.length() - INDEX_RESOURCE.length());
+			BufferedReader reader = null;
+			try {
+				reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8));
+				String line;
+				while ((line = reader.readLine()) != null) {
+					line = line.trim();
+					if (line.isEmpty() || line.startsWith(COMMENT)) {
+						continue;
+					}
+					paths.add(new URL(base + (line.startsWith("/") ? line.substring(1) : line)).toExternalForm());
+				}
+			} finally {
+				if (reader != null) {
+					reader.close();
+				}
+			}
+		}
+		return new ArrayList<>(paths);
+	}
+
+	/**
+	 * クラス出力ディレクトリ上のメッセージリソースからインデックスを生成します。<br>
+	 * 引数にはクラス出力ディレクトリ(例:target/classes)を指定します。<br>
+	 * @param args 起動引数
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args == null || args.length != 1) {
+			throw new IllegalArgumentException("usage: MessagesIndexer <classes directory>");
+		}
+		index(new File(args[0]));
+	}
+}
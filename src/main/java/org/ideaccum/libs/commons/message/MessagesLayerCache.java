@@ -0,0 +1,117 @@
+package org.ideaccum.libs.commons.message;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 階層化された{@link Messages}の親階層を辿って解決したメッセージを保持するキャッシュクラスです。<br>
+ * <p>
+ * キャッシュはインスタンスごとに保持され、自身又は、親階層のいずれかのメッセージ定義情報が更新された場合は新たなキャッシュに差し替えられます。<br>
+ * 差し替えは更新処理側で行われるため、取得時にはキャッシュの参照のみで各階層の検証は行われません。<br>
+ * 階層外のインスタンスの更新ではキャッシュは破棄されません。<br>
+ * 解決できなかったメッセージコードについても、解決できなかったことをキャッシュします。<br>
+ * また、メッセージキー({@link MessageKey})による解決結果をメッセージキーのスロットインデックスの位置に保持し、メッセージコードによる検索なしに提供します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         全インスタンス共通の更新カウンタに替えて各階層のバージョンでキャッシュを検証するよう変更
+ * 2026/10/17  Kitagawa         メッセージキーによる解決結果のスロットを追加
+ * 2026/10/17  Kitagawa         各階層のバージョンによる検証を廃止し、更新時の差し替えで破棄するよう変更
+ *-->
+ */
+final class MessagesLayerCache {
+
+	/** キャッシュ上限件数 */
+	private static final int CACHE_LIMIT = 4096;
+
+	/** 解決できなかったメッセージコードを表すエントリ */
+	private static final Object MISSING = new Object();
+
+	/** 解決済みエントリ */
+	private final ConcurrentMap<String, Object> entries;
+
+	/** メッセージキーによる解決済みエントリ(スロットインデックスの位置に保持、初回利用時に生成) */
+	private volatile AtomicReferenceArray<Object> slots;
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	MessagesLayerCache() {
+		super();
+		this.entries = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * キャッシュ済みのエントリを取得します。<br>
+	 * @param code メッセージコード
+	 * @return キャッシュ済みのエントリ(キャッシュされていない場合はnull)
+	 */
+	Object get(String code) {
+		return entries.get(code);
+	}
+
+	/**
+	 * 解決結果をキャッシュします。<br>
+	 * 上限件数に達している場合はキャッシュせずに解決結果のみを返却します。<br>
+	 * @param code メッセージコード
+	 * @param message 解決されたメッセージ(解決できなかった場合はnull)
+	 * @return キャッシュしたエントリ
+	 */
+	Object put(String code, Message message) {
+		Object entry = message == null ? MISSING : message;
+		if (entries.size() < CACHE_LIMIT) {
+			entries.put(code, entry);
+		}
+		return entry;
+	}
+
+	/**
+	 * メッセージキーのスロットにキャッシュ済みのエントリを取得します。<br>
+	 * @param slot スロットインデックス
+	 * @return キャッシュ済みのエントリ(キャッシュされていない場合はnull)
+	 */
+	Object get(int slot) {
+		AtomicReferenceArray<Object> slots = this.slots;
+		if (slots == null || slot >= slots.length()) {
+			return null;
+		}
+		return slots.get(slot);
+	}
+
+	/**
+	 * メッセージキーによる解決結果をスロットにキャッシュします。<br>
+	 * スロットが不足している場合は採番済みのスロット数で再生成します(再生成中に競合したエントリは次回の取得時に再解決されます)。<br>
+	 * @param slot スロットインデックス(負数の場合はキャッシュしない)
+	 * @param message 解決されたメッセージ(解決できなかった場合はnull)
+	 * @return キャッシュしたエントリ
+	 */
+	Object put(int slot, Message message) {
+		Object entry = message == null ? MISSING : message;
+		if (slot < 0) {
+			return entry;
+		}
+		AtomicReferenceArray<Object> slots = this.slots;
+		if (slots == null || slot >= slots.length()) {
+			AtomicReferenceArray<Object> grown = new AtomicReferenceArray<>(Math.max(slot + 1, MessageKey.slots()));
+			for (int i = 0; slots != null && i <= slots.length() - 1; i++) {
+				grown.set(i, slots.get(i));
+			}
+			slots = grown;
+			this.slots = slots;
+		}
+		slots.set(slot, entry);
+		return entry;
+	}
+
+	/**
+	 * エントリからメッセージを取得します。<br>
+	 * @param entry キャッシュ済みのエントリ
+	 * @return メッセージ(解決できなかったことを表すエントリの場合はnull)
+	 */
+	static Message toMessage(Object entry) {
+		return entry == MISSING ? null : (Message) entry;
+	}
+}
@@ -0,0 +1,166 @@
+package org.ideaccum.libs.commons.message;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@link Messages}に対して反映された読み込み及び、マージ操作の履歴を保持するクラスです。<br>
+ * <p>
+ * メッセージリソースの再読み込み時は、変更されたリソースの履歴のみを再解析した内容に差し替えて履歴全体を順に再反映することで、各操作時の読み込みモードの挙動を維持した内容を再構築します。<br>
+ * 履歴はファイル変更監視中のみ保持され、監視開始時点の内容は起点となる履歴({@link #base(MessageTable)})として保持されます。<br>
+ * マージ操作及び、起点の履歴はメッセージ定義情報のスナップショットを保持せず、メッセージのマップのみを保持します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         マージ操作の履歴をスナップショットではなくメッセージのマップで保持するよう変更
+ *-->
+ */
+final class MessagesLoadRecord {
+
+	/** メッセージリソースパス(マージ操作の場合はnull) */
+	private String filePath;
+
+	/** ロケール */
+	private Locale locale;
+
+	/** メッセージリソース読み込み時の挙動 */
+	private MessagesLoadMode mode;
+
+	/** 読み込まれたメッセージ(マージ操作の場合はルートのメッセージ) */
+	private Map<String, Message> loaded;
+
+	/** マージ元ロケール別メッセージ(読み込み操作の場合はnull) */
+	private Map<Locale, Map<String, Message>> localized;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param filePath メッセージリソースパス
+	 * @param locale ロケール
+	 * @param mode メッセージリソース読み込み時の挙動
+	 * @param loaded 読み込まれたメッセージ
+	 * @param localized マージ元ロケール別メッセージ
+	 */
+	private MessagesLoadRecord(String filePath, Locale locale, MessagesLoadMode mode, Map<String, Message> loaded, Map<Locale, Map<String, Message>> localized) {
+		super();
+		this.filePath = filePath;
+		this.locale = locale;
+		this.mode = mode;
+		this.loaded = loaded;
+		this.localized = localized;
+	}
+
+	/**
+	 * メッセージリソース読み込み操作の履歴を生成します。<br>
+	 * @param filePath メッセージリソースパス
+	 * @param locale ロケール
+	 * @param mode メッセージリソース読み込み時の挙動
+	 * @param loaded 読み込まれたメッセージ
+	 * @return 操作履歴
+	 */
+	static MessagesLoadRecord load(String filePath, Locale locale, MessagesLoadMode mode, Map<String, Message> loaded) {
+		return new MessagesLoadRecord(filePath, Locale.ROOT.equals(locale) ? null : locale, mode, loaded, null);
+	}
+
+	/**
+	 * マージ操作の履歴を生成します。<br>
+	 * @param merged マージ元メッセージ定義情報
+	 * @return 操作履歴
+	 */
+	static MessagesLoadRecord merge(MessageTable merged) {
+		return snapshot(merged, MessagesLoadMode.REPLACE_EXISTS);
+	}
+
+	/**
+	 * ファイル変更監視開始時点の内容を再現する起点の履歴を生成します。<br>
+	 * @param current 監視開始時点のメッセージ定義情報
+	 * @return 操作履歴
+	 */
+	static MessagesLoadRecord base(MessageTable current) {
+		return snapshot(current, MessagesLoadMode.REPLACE_ALL);
+	}
+
+	/**
+	 * メッセージ定義情報のメッセージのマップを反映する操作履歴を生成します。<br>
+	 * メッセージ定義情報のスナップショット自体(解決キャッシュ及び、出力キャッシュ)は保持しません。<br>
+	 * @param table メッセージ定義情報
+	 * @param mode 反映時の挙動
+	 * @return 操作履歴
+	 */
+	private static MessagesLoadRecord snapshot(MessageTable table, MessagesLoadMode mode) {
+		Map<Locale, Map<String, Message>> localized = new HashMap<>(table.getLocales().size() * 4 / 3 + 1);
+		for (Map.Entry<Locale, MessageTable> entry : table.getLocales().entrySet()) {
+			localized.put(entry.getKey(), entry.getValue().getMessages());
+		}
+		return new MessagesLoadRecord(null, null, mode, table.getMessages(), localized);
+	}
+
+	/**
+	 * 再読み込みされたメッセージに差し替えた操作履歴を生成します。<br>
+	 * @param reloaded 再読み込みされたメッセージ
+	 * @return 操作履歴
+	 */
+	MessagesLoadRecord reload(Map<String, Message> reloaded) {
+		return new MessagesLoadRecord(filePath, locale, mode, reloaded, localized);
+	}
+
+	/**
+	 * 読み込まれたメッセージを保持しない読み込み元情報のみの操作履歴を生成します。<br>
+	 * ファイル変更監視開始前に読み込まれたメッセージリソースの監視登録及び、再読み込みに利用されます。<br>
+	 * @return 操作履歴
+	 */
+	MessagesLoadRecord source() {
+		return new MessagesLoadRecord(filePath, locale, mode, null, null);
+	}
+
+	/**
+	 * 再読み込みされたメッセージを現在の内容に上書きする操作履歴を生成します。<br>
+	 * ファイル変更監視開始前に読み込まれたメッセージリソースは監視開始時点の内容に含まれるため、後続の読み込み内容を破棄しないよう既存定義を上書きする挙動で反映します。<br>
+	 * @param reloaded 再読み込みされたメッセージ
+	 * @return 操作履歴
+	 */
+	MessagesLoadRecord overlay(Map<String, Message> reloaded) {
+		return new MessagesLoadRecord(filePath, locale, mode == MessagesLoadMode.SKIP_EXISTS ? mode : MessagesLoadMode.REPLACE_EXISTS, reloaded, null);
+	}
+
+	/**
+	 * メッセージリソースパスを取得します。<br>
+	 * @return メッセージリソースパス(マージ操作の場合はnull)
+	 */
+	String getFilePath() {
+		return filePath;
+	}
+
+	/**
+	 * 指定された操作履歴の反映内容が、この操作履歴の反映によって全て破棄されるか判定します。<br>
+	 * @param previous 判定対象の先行する操作履歴
+	 * @return 反映内容が全て破棄される場合にtrueを返却
+	 */
+	boolean supersedes(MessagesLoadRecord previous) {
+		if (localized != null || previous.localized != null) {
+			return false;
+		}
+		if (mode != MessagesLoadMode.REPLACE_ALL && mode != null) {
+			return false;
+		}
+		return locale == null ? previous.locale == null : locale.equals(previous.locale);
+	}
+
+	/**
+	 * 操作内容をメッセージ定義情報に反映します。<br>
+	 * @param table 反映先メッセージ定義情報
+	 * @return 反映後のメッセージ定義情報
+	 */
+	MessageTable applyTo(MessageTable table) {
+		if (localized == null) {
+			return table.load(locale, loaded, mode);
+		}
+		MessageTable update = table.load(loaded, mode);
+		for (Map.Entry<Locale, Map<String, Message>> entry : localized.entrySet()) {
+			update = update.load(entry.getKey(), entry.getValue(), mode);
+		}
+		return update;
+	}
+}
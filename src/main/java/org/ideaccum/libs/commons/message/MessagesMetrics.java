@@ -0,0 +1,434 @@
+package org.ideaccum.libs.commons.message;
+
+import java.lang.management.ManagementFactory;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * メッセージ定義情報の利用状況を計測するクラスです。<br>
+ * <p>
+ * 計測は{@link #enable()}で有効化した時点から全ての{@link Messages}及び、{@link Message}に対して行われます。<br>
+ * 計測が無効な間のメッセージ取得及び、編集処理への影響は計測有無の判定のみとなります。<br>
+ * 各計数はスレッド間の競合を避けるため{@link LongAdder}で集計され、計測情報は{@link #register()}でJMXに公開することができます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+public final class MessagesMetrics implements MessagesMetricsMBean {
+
+	/** JMX公開時のオブジェクト名 */
+	public static final String OBJECT_NAME = "org.ideaccum.libs.commons.message:type=MessagesMetrics";
+
+	/** メッセージコードごとの計数上限件数(存在しないメッセージコードによる計数の肥大化を抑止) */
+	private static final int CODE_COUNTER_LIMIT = 4096;
+
+	/** 有効な計測インスタンス(計測が無効な場合はnull) */
+	private static volatile MessagesMetrics active;
+
+	/** 個別メッセージ定義情報からの取得件数 */
+	private LongAdder hits;
+
+	/** グローバルメッセージ定義情報からの取得件数 */
+	private LongAdder globalHits;
+
+	/** 存在しないメッセージの取得件数 */
+	private LongAdder misses;
+
+	/** 定義コードによる取得件数 */
+	private LongAdder defineCodeLookups;
+
+	/** メッセージ内容の編集件数 */
+	private LongAdder renders;
+
+	/** 読み込み件数 */
+	private LongAdder loads;
+
+	/** 読み込み処理時間(ナノ秒) */
+	private LongAdder loadNanos;
+
+	/** 再読み込み件数 */
+	private LongAdder reloads;
+
+	/** 再読み込み処理時間(ナノ秒) */
+	private LongAdder reloadNanos;
+
+	/** メッセージコードごとの編集件数 */
+	private ConcurrentMap<String, LongAdder> renderCounts;
+
+	/** 存在しないメッセージコードごとの取得件数 */
+	private ConcurrentMap<String, LongAdder> missCounts;
+
+	/** リスナー */
+	private List<MessagesMetricsListener> listeners;
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	private MessagesMetrics() {
+		super();
+		this.hits = new LongAdder();
+		this.globalHits = new LongAdder();
+		this.misses = new LongAdder();
+		this.defineCodeLookups = new LongAdder();
+		this.renders = new LongAdder();
+		this.loads = new LongAdder();
+		this.loadNanos = new LongAdder();
+		this.reloads = new LongAdder();
+		this.reloadNanos = new LongAdder();
+		this.renderCounts = new ConcurrentHashMap<>();
+		this.missCounts = new ConcurrentHashMap<>();
+		this.listeners = new CopyOnWriteArrayList<>();
+	}
+
+	/**
+	 * 計測を有効化します。<br>
+	 * 既に有効な場合は有効な計測インスタンスをそのまま返却します。<br>
+	 * @return 有効な計測インスタンス
+	 */
+	public static synchronized MessagesMetrics enable() {
+		if (active == null) {
+			active = new MessagesMetrics();
+		}
+		return active;
+	}
+
+	/**
+	 * 計測を無効化します。<br>
+	 * 無効化前の計測インスタンスは計測情報を保持したまま更新されなくなります。<br>
+	 */
+	public static synchronized void disable() {
+		active = null;
+	}
+
+	/**
+	 * 有効な計測インスタンスを取得します。<br>
+	 * @return 有効な計測インスタンス(計測が無効な場合はnull)
+	 */
+	public static MessagesMetrics active() {
+		return active;
+	}
+
+	/**
+	 * 計測情報を{@link #OBJECT_NAME}でプラットフォームMBeanサーバーに登録します。<br>
+	 * @return 自身のインスタンス
+	 * @throws JMException MBeanの登録に失敗した場合にスローされます
+	 */
+	public MessagesMetrics register() throws JMException {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(OBJECT_NAME);
+		if (server.isRegistered(name)) {
+			server.unregisterMBean(name);
+		}
+		server.registerMBean(this, name);
+		return this;
+	}
+
+	/**
+	 * 計測情報のプラットフォームMBeanサーバーへの登録を解除します。<br>
+	 * @throws JMException MBeanの登録解除に失敗した場合にスローされます
+	 */
+	public void unregister() throws JMException {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(OBJECT_NAME);
+		if (server.isRegistered(name)) {
+			server.unregisterMBean(name);
+		}
+	}
+
+	/**
+	 * リスナーを追加します。<br>
+	 * @param listener リスナー
+	 * @return 自身のインスタンス
+	 */
+	public MessagesMetrics addListener(MessagesMetricsListener listener) {
+		if (listener != null) {
+			listeners.add(listener);
+		}
+		return this;
+	}
+
+	/**
+	 * リスナーを削除します。<br>
+	 * @param listener リスナー
+	 */
+	public void removeListener(MessagesMetricsListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * メッセージ取得結果を計数します。<br>
+	 * @param code 指定されたメッセージコード
+	 * @param message 取得されたメッセージ(存在しない場合はnull)
+	 * @param inherited グローバルメッセージ定義情報から継承して取得された場合にtrue
+	 */
+	void lookup(String code, Message message, boolean inherited) {
+		if (message == null) {
+			misses.increment();
+			count(missCounts, String.valueOf(code), 1);
+			for (MessagesMetricsListener listener : listeners) {
+				listener.missed(code);
+			}
+			return;
+		}
+		if (inherited) {
+			globalHits.increment();
+		} else {
+			hits.increment();
+		}
+		if (!message.getCode().equals(code)) {
+			defineCodeLookups.increment();
+		}
+	}
+
+	/**
+	 * メッセージ内容の編集を計数します。<br>
+	 * @param code メッセージコード
+	 */
+	void render(String code) {
+		renders.increment();
+		count(renderCounts, code, 1);
+	}
+
+	/**
+	 * メッセージ内容の一括編集を計数します。<br>
+	 * @param code メッセージコード
+	 * @param count 編集件数
+	 */
+	void render(String code, long count) {
+		renders.add(count);
+		count(renderCounts, code, count);
+	}
+
+	/**
+	 * メッセージリソースの読み込みを計数します。<br>
+	 * @param filePath メッセージリソースパス
+	 * @param nanos 読み込み処理時間(ナノ秒)
+	 * @param reload ファイル変更監視による再読み込みの場合にtrue
+	 */
+	void load(String filePath, long nanos, boolean reload) {
+		if (reload) {
+			reloads.increment();
+			reloadNanos.add(nanos);
+		} else {
+			loads.increment();
+			loadNanos.add(nanos);
+		}
+		for (MessagesMetricsListener listener : listeners) {
+			listener.loaded(filePath, nanos, reload);
+		}
+	}
+
+	/**
+	 * メッセージリソースの再読み込みの失敗を通知します。<br>
+	 * @param filePath メッセージリソースパス
+	 * @param cause 失敗要因
+	 */
+	void fail(String filePath, Throwable cause) {
+		for (MessagesMetricsListener listener : listeners) {
+			listener.failed(filePath, cause);
+		}
+	}
+
+	/**
+	 * メッセージコードごとの件数を計数します。<br>
+	 * @param counts メッセージコードごとの件数
+	 * @param code メッセージコード
+	 * @param amount 加算件数
+	 */
+	private static void count(ConcurrentMap<String, LongAdder> counts, String code, long amount) {
+		LongAdder counter = counts.get(code);
+		if (counter == null) {
+			if (counts.size() >= CODE_COUNTER_LIMIT) {
+				return;
+			}
+			LongAdder created = new LongAdder();
+			counter = counts.putIfAbsent(code, created);
+			if (counter == null) {
+				counter = created;
+			}
+		}
+		counter.add(amount);
+	}
+
+	/**
+	 * メッセージコードごとの件数の上位を取得します。<br>
+	 * @param counts メッセージコードごとの件数
+	 * @param limit 取得件数上限
+	 * @return "メッセージコード=件数"形式の文字列配列(件数の降順)
+	 */
+	private static String[] top(ConcurrentMap<String, LongAdder> counts, int limit) {
+		List<Map.Entry<String, Long>> entries = new ArrayList<>(counts.size());
+		for (Map.Entry<String, LongAdder> entry : counts.entrySet()) {
+			entries.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue().sum()));
+		}
+		Collections.sort(entries, new Comparator<Map.Entry<String, Long>>() {
+			@Override
+			public int compare(Map.Entry<String, Long> o1, Map.Entry<String, Long> o2) {
+				return Long.compare(o2.getValue(), o1.getValue());
+			}
+		});
+		String[] result = new String[Math.max(Math.min(limit, entries.size()), 0)];
+		for (int i = 0; i <= result.length - 1; i++) {
+			result[i] = entries.get(i).getKey() + "=" + entries.get(i).getValue();
+		}
+		return result;
+	}
+
+	/**
+	 * メッセージコードごとの編集件数を取得します。<br>
+	 * 計数対象のメッセージコード数には上限があり、上限を超えたメッセージコードは計数されません。<br>
+	 * @param code メッセージコード
+	 * @return 編集件数
+	 */
+	public long getRenders(String code) {
+		LongAdder counter = renderCounts.get(code);
+		return counter == null ? 0 : counter.sum();
+	}
+
+	/**
+	 * 個別メッセージ定義情報(階層化されている場合は親階層を含む)から取得できた件数を取得します。<br>
+	 * @return 取得件数
+	 * @see org.ideaccum.libs.commons.message.MessagesMetricsMBean#getHits()
+	 */
+	@Override
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * グローバルメッセージ定義情報から継承して取得できた件数を取得します。<br>
+	 * @return 取得件数
+	 * @see org.ideaccum.libs.commons.message.MessagesMetricsMBean#getGlobalHits()
+	 */
+	@Override
+	public long getGlobalHits() {
+		return globalHits.sum();
+	}
+
+	/**
+	 * メッセージが存在しなかった件数を取得します。<br>
+	 * @return 取得件数
+	 * @see org.ideaccum.libs.commons.message.MessagesMetricsMBean#getMisses()
+	 */
+	@Override
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * レベルサフィックスを持つ定義コードが指定された件数を取得します。<br>
+	 * @return 取得件数
+	 * @see org.ideaccum.libs.commons.message.MessagesMetricsMBean#getDefineCodeLookups()
+	 */
+	@Override
+	public long getDefineCodeLookups() {
+		return defineCodeLookups.sum();
+	}
+
+	/**
+	 * メッセージ内容の編集件数を取得します。<br>
+	 * @return 編集件数
+	 * @see org.ideaccum.libs.commons.message.MessagesMetricsMBean#getRenders()
+	 */
+	@Override
+	public long getRenders() {
+		return renders.sum();
+	}
+
+	/**
+	 * メッセージリソースの読み込み件数を取得します。<br>
+	 * @return 読み込み件数
+	 * @see org.ideaccum.libs.commons.message.MessagesMetricsMBean#getLoads()
+	 */
+	@Override
+	public long getLoads() {
+		return loads.sum();
+	}
+
+	/**
+	 * メッセージリソースの読み込み処理時間の合計を取得します。<br>
+	 * @return 処理時間(ミリ秒)
+	 * @see org.ideaccum.libs.commons.message.MessagesMetricsMBean#getLoadTimeMillis()
+	 */
+	@Override
+	public long getLoadTimeMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(loadNanos.sum());
+	}
+
+	/**
+	 * ファイル変更監視による再読み込み件数を取得します。<br>
+	 * @return 再読み込み件数
+	 * @see org.ideaccum.libs.commons.message.MessagesMetricsMBean#getReloads()
+	 */
+	@Override
+	public long getReloads() {
+		return reloads.sum();
+	}
+
+	/**
+	 * ファイル変更監視による再読み込み処理時間の合計を取得します。<br>
+	 * @return 処理時間(ミリ秒)
+	 * @see org.ideaccum.libs.commons.message.MessagesMetricsMBean#getReloadTimeMillis()
+	 */
+	@Override
+	public long getReloadTimeMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(reloadNanos.sum());
+	}
+
+	/**
+	 * 編集件数の多いメッセージコードを取得します。<br>
+	 * @param limit 取得件数上限
+	 * @return "メッセージコード=編集件数"形式の文字列配列(編集件数の降順)
+	 * @see org.ideaccum.libs.commons.message.MessagesMetricsMBean#getTopRenderedCodes(int)
+	 */
+	@Override
+	public String[] getTopRenderedCodes(int limit) {
+		return top(renderCounts, limit);
+	}
+
+	/**
+	 * 取得件数の多い存在しないメッセージコードを取得します。<br>
+	 * @param limit 取得件数上限
+	 * @return "メッセージコード=取得件数"形式の文字列配列(取得件数の降順)
+	 * @see org.ideaccum.libs.commons.message.MessagesMetricsMBean#getTopMissedCodes(int)
+	 */
+	@Override
+	public String[] getTopMissedCodes(int limit) {
+		return top(missCounts, limit);
+	}
+
+	/**
+	 * 計測情報を全てクリアします。<br>
+	 * @see org.ideaccum.libs.commons.message.MessagesMetricsMBean#reset()
+	 */
+	@Override
+	public void reset() {
+		hits.reset();
+		globalHits.reset();
+		misses.reset();
+		defineCodeLookups.reset();
+		renders.reset();
+		loads.reset();
+		loadNanos.reset();
+		reloads.reset();
+		reloadNanos.reset();
+		renderCounts.clear();
+		missCounts.clear();
+	}
+}
@@ -0,0 +1,40 @@
+package org.ideaccum.libs.commons.message;
+
+/**
+ * メッセージ定義情報の利用状況を通知するリスナーインタフェースです。<br>
+ * <p>
+ * リスナーは{@link MessagesMetrics#addListener(MessagesMetricsListener)}で登録し、計測が有効な間のみ呼び出されます。<br>
+ * 通知はメッセージ取得又は、読み込みを行ったスレッド上で同期的に行われるため、リスナー内で時間のかかる処理は行わないで下さい。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         再読み込みの失敗の通知({@link #failed(String, Throwable)})を追加
+ *-->
+ */
+public interface MessagesMetricsListener {
+
+	/**
+	 * 存在しないメッセージコードでメッセージが取得された場合に呼び出されます。<br>
+	 * @param code メッセージコード
+	 */
+	void missed(String code);
+
+	/**
+	 * メッセージリソースが読み込まれた場合に呼び出されます。<br>
+	 * @param filePath メッセージリソースパス
+	 * @param nanos 読み込み処理時間(ナノ秒)
+	 * @param reload ファイル変更監視による再読み込みの場合にtrue
+	 */
+	void loaded(String filePath, long nanos, boolean reload);
+
+	/**
+	 * ファイル変更監視によるメッセージリソースの再読み込みに失敗した場合に呼び出されます。<br>
+	 * 再読み込みに失敗した場合、メッセージ定義情報は再読み込み前の内容が維持されます。<br>
+	 * @param filePath メッセージリソースパス
+	 * @param cause 失敗要因
+	 */
+	default void failed(String filePath, Throwable cause) {
+	}
+}
@@ -0,0 +1,85 @@
+package org.ideaccum.libs.commons.message;
+
+/**
+ * メッセージ定義情報の利用状況計測情報をJMXで公開するためのインタフェースです。<br>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+public interface MessagesMetricsMBean {
+
+	/**
+	 * メッセージ取得で個別メッセージ定義情報(階層化されている場合は親階層を含む)から取得できた件数を取得します。<br>
+	 * @return 取得件数
+	 */
+	long getHits();
+
+	/**
+	 * メッセージ取得でグローバルメッセージ定義情報から継承して取得できた件数を取得します。<br>
+	 * @return 取得件数
+	 */
+	long getGlobalHits();
+
+	/**
+	 * メッセージ取得でメッセージが存在しなかった件数を取得します。<br>
+	 * @return 取得件数
+	 */
+	long getMisses();
+
+	/**
+	 * メッセージ取得でレベルサフィックスを持つ定義コードが指定された件数を取得します。<br>
+	 * @return 取得件数
+	 */
+	long getDefineCodeLookups();
+
+	/**
+	 * メッセージ内容の編集件数を取得します。<br>
+	 * @return 編集件数
+	 */
+	long getRenders();
+
+	/**
+	 * メッセージリソースの読み込み件数を取得します。<br>
+	 * @return 読み込み件数
+	 */
+	long getLoads();
+
+	/**
+	 * メッセージリソースの読み込み処理時間の合計を取得します。<br>
+	 * @return 処理時間(ミリ秒)
+	 */
+	long getLoadTimeMillis();
+
+	/**
+	 * ファイル変更監視によるメッセージリソースの再読み込み件数を取得します。<br>
+	 * @return 再読み込み件数
+	 */
+	long getReloads();
+
+	/**
+	 * ファイル変更監視によるメッセージリソースの再読み込み処理時間の合計を取得します。<br>
+	 * @return 処理時間(ミリ秒)
+	 */
+	long getReloadTimeMillis();
+
+	/**
+	 * 編集件数の多いメッセージコードを取得します。<br>
+	 * @param limit 取得件数上限
+	 * @return "メッセージコード=編集件数"形式の文字列配列(編集件数の降順)
+	 */
+	String[] getTopRenderedCodes(int limit);
+
+	/**
+	 * 取得件数の多い存在しないメッセージコードを取得します。<br>
+	 * @param limit 取得件数上限
+	 * @return "メッセージコード=取得件数"形式の文字列配列(取得件数の降順)
+	 */
+	String[] getTopMissedCodes(int limit);
+
+	/**
+	 * 計測情報を全てクリアします。<br>
+	 */
+	void reset();
+}
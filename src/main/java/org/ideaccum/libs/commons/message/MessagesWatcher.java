@@ -0,0 +1,347 @@
+package org.ideaccum.libs.commons.message;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Messages}が読み込んだメッセージリソースファイルの変更を監視し、再読み込みを行うクラスです。<br>
+ * <p>
+ * 監視は全ての{@link Messages}インスタンスで共有される単一のデーモンスレッド上で{@link WatchService}を利用して行われます。<br>
+ * 短時間に連続したファイル変更は、最後の変更から指定された待機時間が経過するまで再読み込みを遅延することで一度の再読み込みにまとめられます。<br>
+ * 監視対象はファイルシステム上に存在するメッセージリソースのみとなり、JARファイル内のリソース等は監視されません。<br>
+ * 監視対象の{@link Messages}インスタンスは弱参照で保持され、参照されなくなったインスタンスの監視登録は定期的に除去されます。<br>
+ * 変更イベントが失われた場合(オーバーフロー)は、該当ディレクトリ内の全ての監視対象を再読み込みします。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         URL文字列のメッセージリソースパスに対応
+ * 2026/10/17  Kitagawa         監視対象インスタンスの弱参照化、オーバーフロー時の再読み込み及び、インスタンス単位での一括再読み込みに対応
+ *-->
+ */
+final class MessagesWatcher implements Runnable {
+
+	/** 参照されなくなったインスタンスの監視登録の除去間隔(ミリ秒) */
+	private static final long PURGE_INTERVAL = 60 * 1000L;
+
+	/** 共有インスタンス */
+	private static MessagesWatcher instance;
+
+	/** ファイル監視サービス */
+	private WatchService service;
+
+	/** 監視登録済みディレクトリごとの監視キー */
+	private Map<Path, WatchKey> directories;
+
+	/** 監視対象ファイルごとの監視登録情報 */
+	private Map<Path, List<Registration>> registrations;
+
+	/** 再読み込み待機中の監視登録情報と再読み込み予定時刻 */
+	private Map<Registration, Long> pending;
+
+	/**
+	 * コンストラクタ<br>
+	 * @throws IOException ファイル監視サービスの生成に失敗した場合にスローされます
+	 */
+	private MessagesWatcher() throws IOException {
+		super();
+		this.service = FileSystems.getDefault().newWatchService();
+		this.directories = new HashMap<>();
+		this.registrations = new HashMap<>();
+		this.pending = new LinkedHashMap<>();
+	}
+
+	/**
+	 * 共有インスタンスを取得します。<br>
+	 * 初回呼び出し時に監視スレッドを開始します。<br>
+	 * @return 共有インスタンス
+	 * @throws IOException ファイル監視サービスの生成に失敗した場合にスローされます
+	 */
+	static synchronized MessagesWatcher instance() throws IOException {
+		if (instance == null) {
+			instance = new MessagesWatcher();
+			Thread thread = new Thread(instance, "messages-watcher");
+			thread.setDaemon(true);
+			thread.start();
+		}
+		return instance;
+	}
+
+	/**
+	 * メッセージリソースパスに該当するファイルシステム上のパスを取得します。<br>
+	 * @param filePath メッセージリソースパス
+	 * @return ファイルシステム上のパス(ファイルシステム上に存在しないリソースの場合はnull)
+	 */
+	static Path toPath(String filePath) {
+		if (filePath == null) {
+			return null;
+		}
+		URL location = Messages.toURL(filePath);
+		if (location != null) {
+			if (!"file".equals(location.getProtocol())) {
+				return null;
+			}
+			try {
+				return Paths.get(location.toURI()).toAbsolutePath().normalize();
+			} catch (Throwable e) {
+				return null;
+			}
+		}
+		File file = new File(filePath);
+		if (file.isFile()) {
+			return file.toPath().toAbsolutePath().normalize();
+		}
+		URL url = Messages.class.getResource(filePath.startsWith("/") ? filePath : "/" + filePath);
+		if (url == null || !"file".equals(url.getProtocol())) {
+			return null;
+		}
+		try {
+			return Paths.get(url.toURI()).toAbsolutePath().normalize();
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	/**
+	 * メッセージリソースファイルを監視対象として登録します。<br>
+	 * @param messages 再読み込み先メッセージ定義情報
+	 * @param filePath メッセージリソースパス
+	 * @param debounce 再読み込みまでの待機時間(ミリ秒)
+	 * @throws IOException ディレクトリの監視登録に失敗した場合にスローされます
+	 */
+	synchronized void register(Messages messages, String filePath, long debounce) throws IOException {
+		Path path = toPath(filePath);
+		if (path == null) {
+			return;
+		}
+		Path directory = path.getParent();
+		if (!directories.containsKey(directory)) {
+			directories.put(directory, directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY));
+		}
+		List<Registration> list = registrations.get(path);
+		if (list == null) {
+			list = new ArrayList<>();
+			registrations.put(path, list);
+		}
+		for (Registration registration : list) {
+			if (registration.messages.get() == messages && registration.filePath.equals(filePath)) {
+				registration.debounce = debounce;
+				return;
+			}
+		}
+		list.add(new Registration(messages, filePath, debounce));
+	}
+
+	/**
+	 * メッセージ定義情報に対する監視登録を全て解除します。<br>
+	 * @param messages 再読み込み先メッセージ定義情報
+	 */
+	synchronized void unregister(Messages messages) {
+		remove(messages);
+	}
+
+	/**
+	 * 参照されなくなったインスタンスの監視登録を全て解除します。<br>
+	 */
+	private synchronized void purge() {
+		remove(null);
+	}
+
+	/**
+	 * メッセージ定義情報に対する監視登録を全て解除し、監視対象ファイルが存在しなくなったディレクトリの監視を終了します。<br>
+	 * 同期化された状態で呼び出して下さい。<br>
+	 * @param messages 再読み込み先メッセージ定義情報(nullの場合は参照されなくなったインスタンス)
+	 */
+	private void remove(Messages messages) {
+		for (Iterator<List<Registration>> lists = registrations.values().iterator(); lists.hasNext();) {
+			List<Registration> list = lists.next();
+			for (Iterator<Registration> iterator = list.iterator(); iterator.hasNext();) {
+				Registration registration = iterator.next();
+				if (registration.messages.get() == messages) {
+					iterator.remove();
+					pending.remove(registration);
+				}
+			}
+			if (list.isEmpty()) {
+				lists.remove();
+			}
+		}
+		for (Iterator<Map.Entry<Path, WatchKey>> iterator = directories.entrySet().iterator(); iterator.hasNext();) {
+			Map.Entry<Path, WatchKey> entry = iterator.next();
+			boolean watched = false;
+			for (Path path : registrations.keySet()) {
+				if (entry.getKey().equals(path.getParent())) {
+					watched = true;
+					break;
+				}
+			}
+			if (!watched) {
+				entry.getValue().cancel();
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * ファイル変更の監視及び、待機時間経過後の再読み込みを行います。<br>
+	 * 同時に再読み込み予定時刻を経過したメッセージリソースは、インスタンスごとにまとめて再読み込みします。<br>
+	 * @see java.lang.Runnable#run()
+	 */
+	@Override
+	public void run() {
+		while (true) {
+			try {
+				WatchKey key = service.poll(nextTimeout(), TimeUnit.MILLISECONDS);
+				if (key != null) {
+					accept(key);
+				} else {
+					purge();
+				}
+				for (Map.Entry<Messages, List<String>> entry : due().entrySet()) {
+					entry.getKey().reload(entry.getValue());
+				}
+			} catch (InterruptedException e) {
+				return;
+			} catch (ClosedWatchServiceException e) {
+				return;
+			} catch (Throwable e) {
+				// 監視スレッドは再読み込み処理の失敗で停止させない
+				continue;
+			}
+		}
+	}
+
+	/**
+	 * 次の再読み込み予定時刻までの待機時間を取得します。<br>
+	 * @return 待機時間(ミリ秒、再読み込み待機中の登録が存在しない場合は監視登録の除去間隔)
+	 */
+	private synchronized long nextTimeout() {
+		if (pending.isEmpty()) {
+			return PURGE_INTERVAL;
+		}
+		long next = Long.MAX_VALUE;
+		for (Long deadline : pending.values()) {
+			next = Math.min(next, deadline);
+		}
+		return Math.max(next - System.currentTimeMillis(), 0);
+	}
+
+	/**
+	 * ファイル変更イベントを受け付け、該当する監視登録の再読み込み予定時刻を更新します。<br>
+	 * @param key 監視キー
+	 */
+	private synchronized void accept(WatchKey key) {
+		Path directory = (Path) key.watchable();
+		long now = System.currentTimeMillis();
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+				// 変更イベントが失われたため、ディレクトリ内の全ての監視対象を再読み込み
+				for (Map.Entry<Path, List<Registration>> entry : registrations.entrySet()) {
+					if (directory.equals(entry.getKey().getParent())) {
+						schedule(entry.getValue(), now);
+					}
+				}
+				continue;
+			}
+			if (!(event.context() instanceof Path)) {
+				continue;
+			}
+			List<Registration> list = registrations.get(directory.resolve((Path) event.context()));
+			if (list != null) {
+				schedule(list, now);
+			}
+		}
+		if (!key.reset()) {
+			directories.remove(directory);
+		}
+	}
+
+	/**
+	 * 監視登録の再読み込み予定時刻を更新します。<br>
+	 * 同期化された状態で呼び出して下さい。<br>
+	 * @param list 監視登録情報
+	 * @param now 現在時刻
+	 */
+	private void schedule(List<Registration> list, long now) {
+		for (Registration registration : list) {
+			pending.remove(registration);
+			pending.put(registration, now + registration.debounce);
+		}
+	}
+
+	/**
+	 * 再読み込み予定時刻を経過した監視登録のメッセージリソースパスをインスタンスごとに取得します。<br>
+	 * 参照されなくなったインスタンスの監視登録は再読み込み対象に含めません。<br>
+	 * @return インスタンスごとの再読み込み対象メッセージリソースパス
+	 */
+	private synchronized Map<Messages, List<String>> due() {
+		// インスタンスは内容による等価判定を行うため同一性で区別
+		Map<Messages, List<String>> map = new IdentityHashMap<>();
+		long now = System.currentTimeMillis();
+		for (Iterator<Map.Entry<Registration, Long>> iterator = pending.entrySet().iterator(); iterator.hasNext();) {
+			Map.Entry<Registration, Long> entry = iterator.next();
+			if (entry.getValue() > now) {
+				continue;
+			}
+			iterator.remove();
+			Messages messages = entry.getKey().messages.get();
+			if (messages == null) {
+				continue;
+			}
+			List<String> list = map.get(messages);
+			if (list == null) {
+				list = new ArrayList<>();
+				map.put(messages, list);
+			}
+			list.add(entry.getKey().filePath);
+		}
+		return map;
+	}
+
+	/**
+	 * 監視登録情報を保持するクラスです。<br>
+	 */
+	private static final class Registration {
+
+		/** 再読み込み先メッセージ定義情報(弱参照) */
+		private WeakReference<Messages> messages;
+
+		/** メッセージリソースパス */
+		private String filePath;
+
+		/** 再読み込みまでの待機時間(ミリ秒) */
+		private long debounce;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param messages 再読み込み先メッセージ定義情報
+		 * @param filePath メッセージリソースパス
+		 * @param debounce 再読み込みまでの待機時間(ミリ秒)
+		 */
+		private Registration(Messages messages, String filePath, long debounce) {
+			super();
+			this.messages = new WeakReference<>(messages);
+			this.filePath = filePath;
+			this.debounce = debounce;
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package org.ideaccum.libs.commons.message.exception;
+
+/**
+ * 管理されていないメッセージコードでメッセージを取得しようとした場合にスローされる例外クラスです。<br>
+ * <p>
+ * {@link org.ideaccum.libs.commons.message.Messages#setMissingPolicy(org.ideaccum.libs.commons.message.MessageMissingPolicy)}によって{@link org.ideaccum.libs.commons.message.MessageMissingPolicy#THROW}が設定されている場合にのみ発生する例外です。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+public class MessageNotFoundException extends RuntimeException {
+
+	/** メッセージコード */
+	private String code;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param code 利用メッセージコード
+	 */
+	public MessageNotFoundException(String code) {
+		super("Message code is not defined (" + code + ")");
+		this.code = code;
+	}
+
+	/**
+	 * 利用メッセージコードを取得します。<br>
+	 * @return 利用メッセージコード
+	 */
+	public String getCode() {
+		return code;
+	}
+}
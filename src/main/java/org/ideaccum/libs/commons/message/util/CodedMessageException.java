@@ -1,20 +1,60 @@
 package org.ideaccum.libs.commons.message.util;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+import org.ideaccum.libs.commons.message.Message;
+import org.ideaccum.libs.commons.message.MessageLevel;
 import org.ideaccum.libs.commons.message.Messages;
+import org.ideaccum.libs.commons.message.exception.MessageNotFoundException;
 
 /**
  * メッセージコードをもとにした例外クラスとして設置するための上位クラスです。<br>
  * <p>
  * このクラスを継承した例外とすることで例外メッセージは定義されたメッセージ定義内容をもとにした例外をスローします。<br>
+ * 例外メッセージは生成時には展開されず、初回の{@link #getMessage()}呼び出し時に展開して保持されます。<br>
+ * メッセージ定義は生成時に解決して保持されるため、例外メッセージ及び、メッセージレベルは生成後のメッセージ定義情報の更新に関わらず同一の定義をもとに提供されます。<br>
+ * メッセージバインド文字列は生成時に複製して保持されます。<br>
+ * 制御フローとして頻繁にスローされる用途ではスタックトレースを保持しない生成({@link #CodedMessageException(Messages, String, Object[], Throwable, boolean)})を利用することで生成コストを抑えることができます。<br>
  * </p>
  * 
  *<!--
  * 更新日      更新者           更新内容
  * 2020/07/06  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         例外メッセージの遅延展開及び、スタックトレースを保持しない生成に対応
+ * 2026/10/17  Kitagawa         存在しないメッセージコードの例外をスローする設定時も例外メッセージの展開で例外をスローしないよう修正
+ * 2026/10/17  Kitagawa         メッセージ定義を生成時に解決して保持し、メッセージバインド文字列を複製して保持するよう変更
  *-->
  */
 public class CodedMessageException extends Exception {
 
+	/** メッセージコード */
+	private String code;
+
+	/** メッセージ定義(メッセージが定義されていない場合はnull) */
+	private Message define;
+
+	/** メッセージバインド文字列 */
+	private transient Object[] binds;
+
+	/** 展開済み例外メッセージ */
+	private volatile String message;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param messages メッセージ定義情報
+	 * @param code メッセージコード
+	 * @param binds メッセージバインド文字列
+	 * @param cause ルート要因
+	 * @param stackless スタックトレースを保持しない場合にtrueを指定
+	 */
+	protected CodedMessageException(Messages messages, String code, Object[] binds, Throwable cause, boolean stackless) {
+		super(null, cause, true, !stackless);
+		this.code = code;
+		this.define = resolve(messages, code);
+		this.binds = binds == null ? null : binds.clone();
+	}
+
 	/**
 	 * コンストラクタ<br>
 	 * @param messages メッセージ定義情報
@@ -23,7 +63,10 @@ public class CodedMessageException extends Exception {
 	 * @param cause ルート要因
 	 */
 	public CodedMessageException(Messages messages, String code, Object[] binds, Throwable cause) {
-		super(messages == null ? Messages.global().get(code).getMessage(binds) : messages.get(code).getMessage(binds), cause);
+		super(cause);
+		this.code = code;
+		this.define = resolve(messages, code);
+		this.binds = binds == null ? null : binds.clone();
 	}
 
 	/**
@@ -33,7 +76,7 @@ public class CodedMessageException extends Exception {
 	 * @param cause ルート要因
 	 */
 	public CodedMessageException(String code, Object[] binds, Throwable cause) {
-		super(Messages.global().get(code).getMessage(binds), cause);
+		this(null, code, binds, cause);
 	}
 
 	/**
@@ -43,7 +86,7 @@ public class CodedMessageException extends Exception {
 	 * @param cause ルート要因
 	 */
 	public CodedMessageException(Messages messages, String code, Throwable cause) {
-		super(messages == null ? Messages.global().get(code).getMessage() : messages.get(code).getMessage(), cause);
+		this(messages, code, null, cause);
 	}
 
 	/**
@@ -52,7 +95,7 @@ public class CodedMessageException extends Exception {
 	 * @param cause ルート要因
 	 */
 	public CodedMessageException(String code, Throwable cause) {
-		super(Messages.global().get(code).getMessage(), cause);
+		this(null, code, null, cause);
 	}
 
 	/**
@@ -62,7 +105,10 @@ public class CodedMessageException extends Exception {
 	 * @param binds メッセージバインド文字列
 	 */
 	public CodedMessageException(Messages messages, String code, Object[] binds) {
-		super(messages == null ? Messages.global().get(code).getMessage(binds) : messages.get(code).getMessage(binds));
+		super();
+		this.code = code;
+		this.define = resolve(messages, code);
+		this.binds = binds == null ? null : binds.clone();
 	}
 
 	/**
@@ -80,7 +126,7 @@ public class CodedMessageException extends Exception {
 	 * @param code メッセージコード
 	 */
 	public CodedMessageException(Messages messages, String code) {
-		super(messages == null ? Messages.global().get(code).getMessage() : messages.get(code).getMessage());
+		this(messages, code, (Object[]) null);
 	}
 
 	/**
@@ -88,6 +134,71 @@ public class CodedMessageException extends Exception {
 	 * @param code メッセージコード
 	 */
 	public CodedMessageException(String code) {
-		super(Messages.global().get(code).getMessage());
+		this(null, code, (Object[]) null);
+	}
+
+	/**
+	 * 例外メッセージを取得します。<br>
+	 * 例外メッセージは初回呼び出し時にメッセージ定義内容をもとに展開されます。<br>
+	 * メッセージコードに該当するメッセージが定義されていない場合はメッセージコードを例外メッセージとして提供します。<br>
+	 * @return 例外メッセージ
+	 * @see java.lang.Throwable#getMessage()
+	 */
+	@Override
+	public String getMessage() {
+		String message = this.message;
+		if (message == null) {
+			message = define == null ? code : define.getMessage(binds);
+			this.message = message;
+		}
+		return message;
+	}
+
+	/**
+	 * メッセージコードを取得します。<br>
+	 * @return メッセージコード
+	 */
+	public String getCode() {
+		return code;
+	}
+
+	/**
+	 * メッセージレベルを取得します。<br>
+	 * @return メッセージレベル(メッセージが定義されていない場合はnull)
+	 */
+	public MessageLevel getLevel() {
+		return define == null ? null : define.getLevel();
+	}
+
+	/**
+	 * メッセージコードに該当するメッセージ定義を解決します。<br>
+	 * @param messages メッセージ定義情報(nullの場合はグローバルメッセージ定義情報)
+	 * @param code メッセージコード
+	 * @return メッセージ定義(メッセージが定義されていない場合はnull)
+	 */
+	private static Message resolve(Messages messages, String code) {
+		if (code == null) {
+			return null;
+		}
+		try {
+			if (messages == null) {
+				return Messages.global().get(code);
+			}
+			return messages.get(code);
+		} catch (MessageNotFoundException e) {
+			// 例外メッセージの展開処理では存在しないメッセージコードの例外をスローしない
+			return null;
+		}
+	}
+
+	/**
+	 * シリアライズ処理を行います。<br>
+	 * バインド文字列はシリアライズされないため、例外メッセージを展開してからシリアライズします。<br>
+	 * @param stream 出力ストリーム
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private void writeObject(ObjectOutputStream stream) throws IOException {
+		getMessage();
+		stream.defaultWriteObject();
 	}
 }
@@ -0,0 +1,386 @@
+package org.ideaccum.libs.commons.message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.ideaccum.libs.commons.message.exception.MessageLoadException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * 事前コンパイルされたメッセージバンドルの読み書きを検証するテストクラスです。<br>
+ * <p>
+ * メッセージリソースから変換したメッセージバンドルが変換元と同一のメッセージを提供すること及び、メッセージが検索時まで生成されず、メッセージ内容が初回利用時まで解決されないことを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         エントリの検索時生成及び、変換時のアトミックな置き換えの検証を追加
+ *-->
+ */
+public class MessageBundleTest {
+
+	/** 変換元メッセージリソース内容 */
+	private static final String PROPERTIES = "" //
+			+ "MSG0001-E=error {0} at {1}\n" //
+			+ "MSG0002-W=warning without slots\n" //
+			+ "MSG0003-I={user} has {count,number,#,##0} items\n" //
+			+ "MSG0004-D=debug {0,date,yyyy-MM-dd} {00} ''quoted''\n" //
+			+ "MSG0005-T=\n" //
+			+ "MSG0006-H=\\u65e5\\u672c\\u8a9e {0}\n";
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * ファイルを出力します。<br>
+	 * @param name ファイル名
+	 * @param content ファイル内容
+	 * @return ファイルパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String content) throws IOException {
+		File file = new File(folder.getRoot(), name);
+		OutputStream stream = new FileOutputStream(file);
+		try {
+			stream.write(content.getBytes(StandardCharsets.ISO_8859_1));
+		} finally {
+			stream.close();
+		}
+		return file.getAbsolutePath();
+	}
+
+	/**
+	 * メッセージリソースをメッセージバンドルに変換します。<br>
+	 * @param sources 変換元メッセージリソースパス
+	 * @return メッセージバンドルパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String compile(String... sources) throws IOException {
+		String path = new File(folder.getRoot(), "messages" + MessagesCompiler.EXTENSION).getAbsolutePath();
+		MessagesCompiler.compile(path, Arrays.asList(sources));
+		return path;
+	}
+
+	/**
+	 * メッセージをメッセージバンドルとして出力します。<br>
+	 * @param name ファイル名
+	 * @param messages 出力対象メッセージ
+	 * @return メッセージバンドルパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String bundle(String name, List<Message> messages) throws IOException {
+		String path = new File(folder.getRoot(), name + MessagesCompiler.EXTENSION).getAbsolutePath();
+		OutputStream stream = new FileOutputStream(path);
+		try {
+			MessageBundle.write(messages, stream);
+		} finally {
+			stream.close();
+		}
+		return path;
+	}
+
+	/**
+	 * メッセージバンドル上で生成済みのメッセージ件数を取得します。<br>
+	 * @param bundle メッセージバンドル
+	 * @return 生成済みのメッセージ件数
+	 * @throws Exception 取得に失敗した場合にスローされます
+	 */
+	private static int created(Map<String, Message> bundle) throws Exception {
+		Field field = MessageBundle.class.getDeclaredField("messages");
+		field.setAccessible(true);
+		AtomicReferenceArray<?> messages = (AtomicReferenceArray<?>) field.get(bundle);
+		int count = 0;
+		for (int i = 0; i <= messages.length() - 1; i++) {
+			if (messages.get(i) != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * メッセージのテンプレートが解決済みであるか判定します。<br>
+	 * @param message メッセージ
+	 * @return テンプレートが解決済みである場合にtrueを返却
+	 * @throws Exception 判定に失敗した場合にスローされます
+	 */
+	private static boolean isResolved(Message message) throws Exception {
+		Field field = Message.class.getDeclaredField("template");
+		field.setAccessible(true);
+		return field.get(message) != null;
+	}
+
+	/**
+	 * メッセージバンドルから変換元と同一のメッセージが提供されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void roundTrip() throws Exception {
+		String source = write("messages.properties", PROPERTIES);
+		Messages expected = Messages.create(false).load(source);
+		Messages actual = Messages.create(false).load(compile(source));
+		assertEquals(expected.keySet(), actual.keySet());
+		Map<String, Object> named = new HashMap<>();
+		named.put("user", "Bob");
+		named.put("count", Integer.valueOf(12345));
+		for (String code : expected.keySet()) {
+			Message e = expected.get(code);
+			Message a = actual.get(code);
+			assertEquals(code, e.getLevel(), a.getLevel());
+			assertEquals(code, e.getDefine(), a.getDefine());
+			assertEquals(code, e.getMessage("x", "y"), a.getMessage("x", "y"));
+			assertEquals(code, e.getMessage(named), a.getMessage(named));
+			assertEquals(code, e, a);
+			assertEquals(code, e.hashCode(), a.hashCode());
+		}
+	}
+
+	/**
+	 * 複数のメッセージリソースを変換した場合に後に指定されたリソースの定義が優先されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void laterSourceWins() throws Exception {
+		String first = write("first.properties", "A-I=first a\nB-I=first b\n");
+		String second = write("second.xml", "<messages><message code=\"B-E\" value=\"second b\"/><message code=\"C-I\" value=\"second c\"/></messages>");
+		Messages messages = Messages.create(false).load(compile(first, second));
+		assertEquals("first a", messages.get("A").getDefine());
+		assertEquals("second b", messages.get("B").getDefine());
+		assertEquals(MessageLevel.ERROR, messages.get("B").getLevel());
+		assertEquals("second c", messages.get("C").getDefine());
+	}
+
+	/**
+	 * メッセージ内容が初回利用時まで解決されないことを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void entriesAreLazy() throws Exception {
+		List<Message> source = new ArrayList<>();
+		source.add(new Message("A1-I", "hello {0}"));
+		source.add(new Message("A2-E", "bye"));
+		String path = new File(folder.getRoot(), "lazy" + MessagesCompiler.EXTENSION).getAbsolutePath();
+		OutputStream stream = new FileOutputStream(path);
+		try {
+			MessageBundle.write(source, stream);
+		} finally {
+			stream.close();
+		}
+
+		Map<String, Message> first = MessageBundle.read(path);
+		Map<String, Message> second = MessageBundle.read(path);
+		Message a1 = first.get("A1");
+		assertEquals("A1", a1.getCode());
+		assertEquals(MessageLevel.INFORMATION, a1.getLevel());
+		assertFalse(isResolved(a1));
+
+		// 同一エントリ及び、他のバンドルのエントリとの比較ではテンプレートを解決しない
+		assertTrue(a1.equals(first.get("A1")));
+		assertTrue(a1.equals(second.get("A1")));
+		assertEquals(source.get(0), a1);
+		assertEquals(source.get(0).hashCode(), a1.hashCode());
+		assertFalse(a1.equals(first.get("A2")));
+		assertFalse(isResolved(a1));
+		assertFalse(isResolved(second.get("A1")));
+
+		assertEquals("hello w", a1.getMessage("w"));
+		assertTrue(isResolved(a1));
+		assertFalse(isResolved(first.get("A2")));
+		assertTrue(a1.equals(second.get("A1")));
+	}
+
+	/**
+	 * 未解決のメッセージがシリアライズ可能であることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void lazyEntriesSerialize() throws Exception {
+		Messages messages = Messages.create(false).load(compile(write("messages.properties", PROPERTIES)));
+		Message message = messages.get("MSG0001");
+		assertFalse(isResolved(message));
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream output = new ObjectOutputStream(bytes);
+		try {
+			output.writeObject(message);
+		} finally {
+			output.close();
+		}
+		ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		Message restored;
+		try {
+			restored = (Message) input.readObject();
+		} finally {
+			input.close();
+		}
+		assertEquals(message, restored);
+		assertEquals("error a at b", restored.getMessage("a", "b"));
+	}
+
+	/**
+	 * 不正な形式のメッセージバンドルが読み込めないことを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void illegalBundle() throws Exception {
+		String path = write("illegal" + MessagesCompiler.EXTENSION, "not a message bundle");
+		try {
+			MessageBundle.read(path);
+			fail();
+		} catch (IOException e) {
+			assertNotNull(e.getMessage());
+		}
+		Messages messages = Messages.create(false);
+		try {
+			messages.load(path);
+			fail();
+		} catch (MessageLoadException e) {
+			assertNull(messages.get("A"));
+		}
+	}
+
+	/**
+	 * メッセージが検索されたエントリのみ生成されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void entriesAreCreatedOnLookup() throws Exception {
+		List<Message> source = new ArrayList<>();
+		for (int i = 0; i <= 999; i++) {
+			source.add(new Message("M" + i + "-I", "message " + i));
+		}
+		Map<String, Message> bundle = MessageBundle.read(bundle("many", source));
+		assertEquals(1000, bundle.size());
+		assertEquals(0, created(bundle));
+
+		Messages messages = Messages.create(false).load(bundle("many", source));
+		assertEquals("message 500", messages.get("M500").getDefine());
+		assertEquals("message 500", messages.get("M500-I").getDefine());
+		assertEquals("message 500", messages.get("M500-E").getDefine());
+		assertEquals("message 500", messages.get(" M500-I ").getDefine());
+		assertNull(messages.get("M1000"));
+		assertNull(messages.get("M5a"));
+		assertNull(messages.get("M5000-I"));
+
+		assertEquals("message 7", bundle.get("M7").getDefine());
+		assertTrue(bundle.containsKey("M999"));
+		assertFalse(bundle.containsKey("M999-I"));
+		assertEquals(1, created(bundle));
+		assertEquals(1000, bundle.keySet().size());
+		assertEquals(1, created(bundle));
+	}
+
+	/**
+	 * メッセージコード順の検索がマルチバイト文字及び、サロゲートペアを含むメッセージコードで機能することを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void multibyteCodes() throws Exception {
+		String[] codes = { "A", "Z", "a", "\u00e9", "\u65e5\u672c", "\ud842\udfb7", "\uff21", "\ud842\udfb7\u91ce", "\u65e5" };
+		List<Message> source = new ArrayList<>();
+		for (String code : codes) {
+			source.add(new Message(code + "-W", code));
+		}
+		Map<String, Message> bundle = MessageBundle.read(bundle("multibyte", source));
+		for (String code : codes) {
+			assertEquals(code, bundle.get(code).getDefine());
+			assertEquals(code, ((MessageBundle) bundle).find(code + "-W").getDefine());
+		}
+		assertNull(bundle.get("\ud842"));
+		assertNull(bundle.get("\u65e5\u672c\u8a9e"));
+	}
+
+	/**
+	 * 検索インデックスを生成しないメッセージバンドルの定義情報で、読み込みモード及び、シリアライズが機能することを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void bundleTablesLoadAndSerialize() throws Exception {
+		String path = compile(write("messages.properties", PROPERTIES));
+		Messages messages = Messages.create(false).load(path);
+		messages.load(write("extra.properties", "MSG0001-W=override\nMSG0009-I=extra\n"), MessagesLoadMode.SKIP_EXISTS);
+		assertEquals("error {0} at {1}", messages.get("MSG0001").getDefine());
+		assertEquals("extra", messages.get("MSG0009-I").getDefine());
+		assertEquals(1, messages.values(MessageLevel.ERROR).size());
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream output = new ObjectOutputStream(bytes);
+		try {
+			output.writeObject(MessageTable.EMPTY.load(MessageBundle.read(path), MessagesLoadMode.REPLACE_ALL));
+		} finally {
+			output.close();
+		}
+		ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		MessageTable restored;
+		try {
+			restored = (MessageTable) input.readObject();
+		} finally {
+			input.close();
+		}
+		assertEquals("warning without slots", restored.find("MSG0002-W").getDefine());
+		assertEquals(6, restored.getMessages().size());
+	}
+
+	/**
+	 * 読み込み済みのメッセージバンドルへの再変換が出力先を置き換え、読み込み済みの内容に影響しないことを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void compileReplacesAtomically() throws Exception {
+		String path = compile(write("first.properties", "A-I=first a\nB-I=first b\n"));
+		Messages before = Messages.create(false).load(path);
+		assertEquals("first a", before.get("A").getDefine());
+
+		assertEquals(path, compile(write("second.properties", "B-E=second b\nC-I=second c\n")));
+		assertEquals("first b", before.get("B").getDefine());
+		assertNull(before.get("C"));
+		Messages after = Messages.create(false).load(path);
+		assertNull(after.get("A"));
+		assertEquals("second b", after.get("B").getDefine());
+
+		for (String name : folder.getRoot().list()) {
+			assertFalse(name, name.endsWith(".tmp"));
+		}
+	}
+
+	/**
+	 * 存在しない変換元メッセージリソースが指定された場合に出力先を変更せずに例外がスローされることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void missingSourceFails() throws Exception {
+		String path = compile(write("messages.properties", PROPERTIES));
+		try {
+			compile(write("extra.properties", "A-I=a\n"), new File(folder.getRoot(), "missing.properties").getAbsolutePath());
+			fail();
+		} catch (FileNotFoundException e) {
+			assertTrue(e.getMessage().contains("missing.properties"));
+		}
+		assertEquals(6, MessageBundle.read(path).size());
+	}
+}
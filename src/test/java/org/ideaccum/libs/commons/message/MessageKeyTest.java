@@ -0,0 +1,116 @@
+package org.ideaccum.libs.commons.message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * メッセージキーによるメッセージ取得を検証するテストクラスです。<br>
+ * <p>
+ * 同一メッセージコードのメッセージキーがスロットを共有し、いずれかの階層の更新で解決結果が破棄されることを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+public class MessageKeyTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * ファイルを出力します。<br>
+	 * @param name ファイル名
+	 * @param content ファイル内容
+	 * @return ファイルパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String content) throws IOException {
+		File file = new File(folder.getRoot(), name);
+		OutputStream stream = new FileOutputStream(file);
+		try {
+			stream.write(content.getBytes(StandardCharsets.ISO_8859_1));
+		} finally {
+			stream.close();
+		}
+		return file.getAbsolutePath();
+	}
+
+	/**
+	 * 同一メッセージコードに対して同一のメッセージキーが提供されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void sharesSlotPerCode() throws Exception {
+		MessageKey key = MessageKey.of("KEY0001");
+		assertSame(key, MessageKey.of("KEY0001"));
+		assertEquals(key.getSlot(), MessageKey.of(new String("KEY0001")).getSlot());
+		assertEquals(key, MessageKey.of("KEY0001"));
+
+		Messages messages = Messages.create(false).load(write("messages.properties", "KEY0001-I=a\n"));
+		assertEquals("a", messages.get(key).getDefine());
+		assertSame(messages.get(key), messages.get(MessageKey.of("KEY0001")));
+	}
+
+	/**
+	 * 親階層、中間階層の読み込み及び、クリアでメッセージキーの解決結果が破棄されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void layerUpdatesInvalidateSlots() throws Exception {
+		MessageKey a = MessageKey.of("KEY0002");
+		MessageKey b = MessageKey.of("KEY0003");
+		Messages root = Messages.create(false).load(write("root.properties", "KEY0002-I=first\n"));
+		Messages module = Messages.create(root);
+		Messages tenant = Messages.create(module);
+		assertEquals("first", tenant.get(a).getDefine());
+		assertNull(tenant.get(b));
+
+		// 解決済み及び、解決できなかったメッセージキーの双方が再解決される
+		root.load(write("second.properties", "KEY0002-I=second\nKEY0003-I=added\n"), MessagesLoadMode.REPLACE_EXISTS);
+		assertEquals("second", tenant.get(a).getDefine());
+		assertEquals("added", tenant.get(b).getDefine());
+
+		// 中間階層の更新も同様に反映される
+		module.load(write("module.properties", "KEY0002-W=module\n"));
+		assertEquals("module", tenant.get(a).getDefine());
+		module.destroy();
+		assertEquals("second", tenant.get(a).getDefine());
+
+		// 階層外のインスタンスの更新では破棄されない
+		Message resolved = tenant.get(a);
+		Messages.create(false).load(write("other.properties", "KEY0002-I=other\n"));
+		assertSame(resolved, tenant.get(a));
+	}
+
+	/**
+	 * グローバルメッセージ定義情報の更新で継承するインスタンスの解決結果が破棄されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void globalUpdateInvalidatesInheritingSlots() throws Exception {
+		MessageKey key = MessageKey.of("KEY0004");
+		Messages messages = Messages.create(true);
+		assertNull(messages.get(key));
+		try {
+			Messages.global().load(write("global.properties", "KEY0004-I=global\n"));
+			assertEquals("global", messages.get(key).getDefine());
+		} finally {
+			Messages.global().destroy();
+		}
+		assertNull(messages.get(key));
+	}
+}
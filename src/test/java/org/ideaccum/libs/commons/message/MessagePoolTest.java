@@ -0,0 +1,148 @@
+package org.ideaccum.libs.commons.message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * 弱参照プールによるメッセージの集約を検証するテストクラスです。<br>
+ * <p>
+ * 同一内容のメッセージが単一インスタンスに集約され、いずれのインスタンスからも参照されなくなったメッセージがプールから除去されることを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+public class MessagePoolTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * ファイルを出力します。<br>
+	 * @param name ファイル名
+	 * @param content ファイル内容
+	 * @return ファイルパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String content) throws IOException {
+		File file = new File(folder.getRoot(), name);
+		OutputStream stream = new FileOutputStream(file);
+		try {
+			stream.write(content.getBytes(StandardCharsets.ISO_8859_1));
+		} finally {
+			stream.close();
+		}
+		return file.getAbsolutePath();
+	}
+
+	/**
+	 * 同一内容のメッセージ及び、同一内容のテンプレートが集約されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void internsEqualMessages() throws Exception {
+		MessagePool pool = MessagePool.create();
+		String first = write("first.properties", "A-I=same {0}\nB-I=same {0}\nC-E=first\n");
+		String second = write("second.properties", "A-I=same {0}\nC-E=second\n");
+		Messages a = Messages.create(false, pool).load(first);
+		Messages b = Messages.create(false, pool).load(second);
+		assertSame(a.get("A"), b.get("A"));
+		assertNotSame(a.get("C"), b.get("C"));
+		assertEquals("second", b.get("C").getDefine());
+		assertSame(a.get("A").getTemplate(), a.get("B").getTemplate());
+		assertEquals(4, pool.size());
+
+		// プールを共有しないインスタンスは集約されない
+		Messages other = Messages.create(false, MessagePool.create()).load(first);
+		assertNotSame(a.get("A"), other.get("A"));
+		assertEquals(a.get("A"), other.get("A"));
+	}
+
+	/**
+	 * 並列に読み込まれた同一内容のメッセージが単一インスタンスに集約されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void concurrentLoadsIntern() throws Exception {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i <= 499; i++) {
+			builder.append("M").append(i).append("-I=message ").append(i).append('\n');
+		}
+		final String path = write("messages.properties", builder.toString());
+		final MessagePool pool = MessagePool.create();
+		final CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Messages>> futures = new ArrayList<>();
+			for (int i = 0; i <= 7; i++) {
+				futures.add(executor.submit(new Callable<Messages>() {
+					@Override
+					public Messages call() throws Exception {
+						start.await();
+						return Messages.create(false, pool).load(path);
+					}
+				}));
+			}
+			start.countDown();
+			List<Messages> loaded = new ArrayList<>();
+			for (Future<Messages> future : futures) {
+				loaded.add(future.get());
+			}
+			for (int i = 0; i <= 499; i++) {
+				Message expected = loaded.get(0).get("M" + i);
+				for (Messages messages : loaded) {
+					assertSame(expected, messages.get("M" + i));
+				}
+			}
+			assertEquals(500, pool.size());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * いずれのインスタンスからも参照されなくなったメッセージがプールから除去されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void unreferencedMessagesAreCollected() throws Exception {
+		MessagePool pool = MessagePool.create();
+		Messages kept = Messages.create(false, pool).load(write("kept.properties", "K-I=kept\n"));
+		Messages messages = Messages.create(false, pool).load(write("dropped.properties", "A-I=a\nB-I=b\n"));
+		assertEquals(3, pool.size());
+		messages = null;
+		for (int i = 0; i <= 99 && pool.size() > 1; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertEquals(1, pool.size());
+		assertEquals("kept", kept.get("K").getDefine());
+
+		// 回収後に同一内容を読み込んだ場合は新たに登録される
+		Messages reloaded = Messages.create(false, pool).load(write("again.properties", "A-I=a\n"));
+		assertEquals(2, pool.size());
+		assertTrue(reloaded.get("A") != null);
+	}
+}
@@ -0,0 +1,162 @@
+package org.ideaccum.libs.commons.message;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.Test;
+
+/**
+ * 一括編集インタフェースによるメッセージ内容の編集を検証するテストクラスです。<br>
+ * <p>
+ * 並列編集が逐次編集と同一の結果となり、並列編集の失敗時に未完了の分割の編集が取り消されることを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+public class MessageRendererTest {
+
+	/** 並列編集対象件数 */
+	private static final int COUNT = MessageRenderer.PARALLEL_CHUNK_SIZE * 8;
+
+	/**
+	 * 編集された回数を計数するバインドオブジェクトクラスです。<br>
+	 */
+	private static final class Counted {
+
+		/** 編集回数 */
+		private final AtomicInteger count;
+
+		/** 編集時に失敗させる例外(失敗させない場合はnull) */
+		private final RuntimeException failure;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param count 編集回数
+		 * @param failure 編集時に失敗させる例外(失敗させない場合はnull)
+		 */
+		private Counted(AtomicInteger count, RuntimeException failure) {
+			super();
+			this.count = count;
+			this.failure = failure;
+		}
+
+		/**
+		 * 編集回数を計数して文字列表現を提供します。<br>
+		 * @return 文字列表現
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			if (failure != null) {
+				throw failure;
+			}
+			count.incrementAndGet();
+			LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+			return "v";
+		}
+	}
+
+	/**
+	 * 並列編集が逐次編集と同一の結果となることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void parallelMatchesSequential() throws Exception {
+		MessageRenderer renderer = new MessageRenderer(new Message("MSG0001-I", "{0}:{1}"));
+		Object[][] binds = new Object[COUNT + 1][];
+		for (int i = 0; i <= binds.length - 1; i++) {
+			binds[i] = new Object[] { Integer.valueOf(i), i % 3 == 0 ? null : "b" };
+		}
+		assertArrayEquals(renderer.renderAll(binds, false), renderer.renderAll(binds, true));
+		String sequential = renderer.renderAll(binds, new StringBuilder(), "\n", false).toString();
+		assertEquals(sequential, renderer.renderAll(binds, new StringBuilder(), "\n", true).toString());
+		assertTrue(sequential.endsWith(COUNT + ":b\n"));
+	}
+
+	/**
+	 * 文字列配列への並列編集の失敗時に未完了の分割が取り消され、最初の例外がスローされることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void failureCancelsArrayRendering() throws Exception {
+		final AtomicInteger count = new AtomicInteger();
+		final RuntimeException failure = new IllegalArgumentException("broken bind");
+		final Object[][] binds = binds(count, failure);
+		assertCancelled(count, failure, new Runnable() {
+			@Override
+			public void run() {
+				new MessageRenderer(new Message("MSG0001-I", "{0}")).renderAll(binds, true);
+			}
+		});
+	}
+
+	/**
+	 * 出力先への並列編集の失敗時に未完了の分割が取り消され、最初の例外がスローされることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void failureCancelsSinkRendering() throws Exception {
+		final AtomicInteger count = new AtomicInteger();
+		final RuntimeException failure = new IllegalArgumentException("broken bind");
+		final Object[][] binds = binds(count, failure);
+		final StringBuilder sink = new StringBuilder();
+		assertCancelled(count, failure, new Runnable() {
+			@Override
+			public void run() {
+				try {
+					new MessageRenderer(new Message("MSG0001-I", "{0}")).renderAll(binds, sink, null, true);
+				} catch (IOException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+		});
+		// 失敗した分割より前の分割の編集内容のみが出力される
+		assertTrue(sink.length() <= MessageRenderer.PARALLEL_CHUNK_SIZE);
+	}
+
+	/**
+	 * 2番目の分割の先頭で失敗するバインドオブジェクトを生成します。<br>
+	 * @param count 編集回数
+	 * @param failure 失敗させる例外
+	 * @return バインドオブジェクトの組
+	 */
+	private static Object[][] binds(AtomicInteger count, RuntimeException failure) {
+		Object[][] binds = new Object[COUNT][];
+		for (int i = 0; i <= binds.length - 1; i++) {
+			binds[i] = new Object[] { new Counted(count, i == MessageRenderer.PARALLEL_CHUNK_SIZE ? failure : null) };
+		}
+		return binds;
+	}
+
+	/**
+	 * 編集処理が指定された例外で失敗し、失敗後に編集が継続されないことを検証します。<br>
+	 * @param count 編集回数
+	 * @param failure 想定される例外
+	 * @param rendering 編集処理
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	private static void assertCancelled(AtomicInteger count, RuntimeException failure, Runnable rendering) throws Exception {
+		try {
+			rendering.run();
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertSame(failure, e);
+		}
+		int rendered = count.get();
+		Thread.sleep(300);
+		// 失敗の通知時点で実行中だった編集のみ完了する
+		assertTrue(count.get() - rendered <= Runtime.getRuntime().availableProcessors());
+		assertTrue(count.get() < COUNT - MessageRenderer.PARALLEL_CHUNK_SIZE);
+	}
+}
@@ -0,0 +1,259 @@
+package org.ideaccum.libs.commons.message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * メッセージテンプレートによるメッセージ内容の編集を検証するテストクラスです。<br>
+ * <p>
+ * テンプレート導入前のバインドスロットごとの文字列置換による編集結果との互換性と、名前付きバインドスロット及び、書式付きバインドスロットの編集を検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         出力先を指定した編集及び、数値バインドの検証を追加
+ * 2026/10/17  Kitagawa         名前付き及び、書式付きバインドスロットとメッセージ操作用スクリプトでの編集可否の検証を追加
+ *-->
+ */
+public class MessageTemplateTest {
+
+	/** 互換性検証用の定義メッセージ内容 */
+	private static final String[] DEFINES = { //
+			"", //
+			"no slots", //
+			"{0}", //
+			"value={0}", //
+			"{0}{1}{0}", //
+			"It''s {0}''s turn", //
+			"'{0}' and ''{1}''", //
+			"{00} {0} {01}", //
+			"{ 0} {0 } {-1} {0", //
+			"}{0}{", //
+			"{{0}}", //
+			"{1} before {0}", //
+			"{2} without bind", //
+			"{0,unknown} {0}", //
+	};
+
+	/** 互換性検証用のバインドオブジェクト */
+	private static final Object[][] BINDS = { //
+			{}, //
+			{ "a" }, //
+			{ "a", "b" }, //
+			{ "a", "b", "c" }, //
+			{ null, "b" }, //
+			{ Integer.valueOf(10), Long.valueOf(20L) }, //
+			{ "x", "y", "z", "unused" }, //
+	};
+
+	/**
+	 * テンプレート導入前のバインドスロットごとの文字列置換による編集を行います。<br>
+	 * @param define 定義メッセージ内容
+	 * @param binds バインドオブジェクト
+	 * @return メッセージ内容
+	 */
+	private static String replace(String define, Object... binds) {
+		String buffer = define;
+		for (int i = 0; i <= binds.length - 1; i++) {
+			String value = binds[i] == null ? "" : binds[i].toString();
+			buffer = buffer.replace("{" + i + "}", value);
+		}
+		return buffer;
+	}
+
+	/**
+	 * 文字列置換による編集結果と同一のメッセージ内容となることを検証します。<br>
+	 */
+	@Test
+	public void renderMatchesReplace() {
+		for (String define : DEFINES) {
+			Message message = new Message("MSG0001-I", define);
+			for (Object[] binds : BINDS) {
+				assertEquals(define + " " + binds.length, replace(define, binds), message.getMessage(binds));
+				assertEquals(define + " " + binds.length, replace(define, binds), message.appendMessage(new StringBuilder(), binds).toString());
+			}
+		}
+	}
+
+	/**
+	 * バインド値に含まれるバインドスロット表記が後続のバインドオブジェクトで置換されないことを検証します。<br>
+	 * 文字列置換による編集ではバインド値が後続のバインドスロットとして再走査されていましたが、テンプレートによる編集では再走査されません。<br>
+	 */
+	@Test
+	public void bindValuesAreNotRescanned() {
+		Message message = new Message("MSG0001-I", "{0}/{1}");
+		assertEquals("b/b", replace("{0}/{1}", "{1}", "b"));
+		assertEquals("{1}/b", message.getMessage("{1}", "b"));
+	}
+
+	/**
+	 * 連続する単一引用符がそのまま出力されることを検証します。<br>
+	 */
+	@Test
+	public void quotesAreLiteral() {
+		Message message = new Message("MSG0001-I", "It''s {0}'s");
+		assertEquals("It''s Bob's", message.getMessage("Bob"));
+	}
+
+	/**
+	 * 先頭に0を持つインデックスがバインドスロットとして扱われないことを検証します。<br>
+	 */
+	@Test
+	public void zeroPaddedIndexIsLiteral() {
+		Message message = new Message("MSG0001-I", "{00}/{0}/{01}/{10}");
+		assertEquals("{00}/a/{01}/{10}", message.getMessage("a", "b"));
+	}
+
+	/**
+	 * nullのバインドオブジェクトが空文字列として出力され、バインドされないバインドスロットがそのまま出力されることを検証します。<br>
+	 */
+	@Test
+	public void nullAndMissingBinds() {
+		Message message = new Message("MSG0001-I", "[{0}][{1}][{2}]");
+		assertEquals("[][b][{2}]", message.getMessage(null, "b"));
+		assertEquals("[{0}][{1}][{2}]", message.getMessage());
+		assertEquals("[{0}][{1}][{2}]", message.getMessage((Object[]) null));
+	}
+
+	/**
+	 * 定義メッセージ内容が保持されることを検証します。<br>
+	 */
+	@Test
+	public void defineIsKept() {
+		Message message = new Message("MSG0001-E", "{0,number,#,##0} {name}");
+		assertEquals("{0,number,#,##0} {name}", message.getDefine());
+		assertEquals("MSG0001", message.getCode());
+		assertEquals(MessageLevel.ERROR, message.getLevel());
+		assertNull(MessageTemplate.compile("x").getNames());
+	}
+
+	/**
+	 * 名前付きバインドスロットに名前をキーとした値がバインドされることを検証します。<br>
+	 */
+	@Test
+	public void namedSlots() {
+		Message message = new Message("MSG0001-I", "{user} has {count} items in {0} ({missing})");
+		Map<String, Object> binds = new HashMap<>();
+		binds.put("user", "Bob");
+		binds.put("count", Integer.valueOf(3));
+		binds.put("0", "cart");
+		assertEquals("Bob has 3 items in cart ({missing})", message.getMessage(binds));
+	}
+
+	/**
+	 * 名前付きバインドスロットが配列によるバインドではバインドされないことを検証します。<br>
+	 */
+	@Test
+	public void namedSlotsIgnoreIndexedBinds() {
+		Message message = new Message("MSG0001-I", "{user}:{0}");
+		assertEquals("{user}:a", message.getMessage("a", "b"));
+	}
+
+	/**
+	 * 名前付きバインドスロットとして不正な名前がそのまま出力されることを検証します。<br>
+	 */
+	@Test
+	public void illegalNamesAreLiteral() {
+		Message message = new Message("MSG0001-I", "{1a} {a-b} {} {a b}");
+		Map<String, Object> binds = new HashMap<>();
+		binds.put("1a", "x");
+		binds.put("a-b", "x");
+		binds.put("", "x");
+		binds.put("a b", "x");
+		assertEquals("{1a} {a-b} {} {a b}", message.getMessage(binds));
+	}
+
+	/**
+	 * 書式付きバインドスロットの値が書式化されることを検証します。<br>
+	 */
+	@Test
+	public void typedSlots() {
+		Message message = new Message("MSG0001-I", "{0,number,#,##0} on {1,date,yyyy-MM-dd} by {2,number,#,##0}");
+		String number = new DecimalFormat("#,##0", new DecimalFormatSymbols(Locale.getDefault(Locale.Category.FORMAT))).format(1234567);
+		assertEquals(number + " on 2026-10-17 by text", message.getMessage(Integer.valueOf(1234567), LocalDate.of(2026, 10, 17), "text"));
+	}
+
+	/**
+	 * 名前付きバインドスロットに書式を指定できることを検証します。<br>
+	 */
+	@Test
+	public void namedTypedSlots() {
+		Message message = new Message("MSG0001-I", "{day,date,yyyy/MM/dd}");
+		Map<String, Object> binds = new HashMap<>();
+		binds.put("day", LocalDate.of(2026, 1, 2));
+		assertEquals("2026/01/02", message.getMessage(binds));
+	}
+
+	/**
+	 * 不正な書式指定を持つバインドスロットがそのまま出力されることを検証します。<br>
+	 */
+	@Test
+	public void illegalFormatsAreLiteral() {
+		Message message = new Message("MSG0001-I", "{0,currency} {0,date,pppp'} {0}");
+		assertEquals("{0,currency} {0,date,pppp'} a", message.getMessage("a"));
+	}
+
+	/**
+	 * メッセージ操作用スクリプトで編集可能なテンプレートの判定を検証します。<br>
+	 */
+	@Test
+	public void scriptableTemplates() {
+		String[] scriptable = { "", "{0} {1}", "{user.name} {_id}", "{0,number}", "{0,number,integer}", "{0,number, percent}", "{0,number,#,##0.0#}", "{0,number,0.00}", "{0,date}", "{0,time}", "{0,date,yyyy/MM/dd HH:mm:ss.SSS}", "{0,date,yy-M-d}", "{0,currency}" };
+		String[] unscriptable = { "{\u540d\u524d}", "{0,number,#,#0}", "{0,number,#,##0\u5186}", "{0,number,0.00;(0.00)}", "{0,number,#}", "{0,date,EEE}", "{0,date,yyy}", "{0,date,'at' HH}", "{0,time,hh:mm a}" };
+		for (String define : scriptable) {
+			assertTrue(define, MessageTemplate.compile(define).isScriptable());
+		}
+		for (String define : unscriptable) {
+			assertFalse(define, MessageTemplate.compile(define).isScriptable());
+		}
+	}
+
+	/**
+	 * 数値のバインドがインデックス0のバインドスロットのみに適用され、書式付きバインドスロットでは書式化されることを検証します。<br>
+	 */
+	@Test
+	public void primitiveBinds() {
+		Message plain = new Message("MSG0001-I", "count={0}");
+		assertEquals("count=42", plain.appendMessage(new StringBuilder(), 42).toString());
+		assertEquals("count=42", plain.appendMessage(new StringBuilder(), 42L).toString());
+		assertEquals("count=0.5", plain.appendMessage(new StringBuilder(), 0.5d).toString());
+		Message typed = new Message("MSG0002-I", "count={0,number,#,##0}");
+		String number = new DecimalFormat("#,##0", new DecimalFormatSymbols(Locale.getDefault(Locale.Category.FORMAT))).format(12345);
+		assertEquals("count=" + number, typed.appendMessage(new StringBuilder(), 12345).toString());
+		Message multiple = new Message("MSG0003-I", "{0}/{1}/{name}");
+		assertEquals("7/{1}/{name}", multiple.appendMessage(new StringBuilder(), 7).toString());
+	}
+
+	/**
+	 * 文字列バッファ以外の出力先への編集結果が文字列としての編集結果と同一となることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void appendableMatchesString() throws Exception {
+		String[] defines = { "value={0} {1}", "{0,number,#,##0} on {1,date,yyyy-MM-dd} {2,number} {3,date}", "{user} {0} {1,time,HH:mm}" };
+		Object[] binds = { Integer.valueOf(1234567), LocalDate.of(2026, 10, 17), "text", null };
+		for (String define : defines) {
+			Message message = new Message("MSG0001-I", define);
+			String expected = message.getMessage(binds);
+			assertEquals(define, expected, message.appendMessage(new StringWriter(), binds).toString());
+			CharBuffer buffer = CharBuffer.allocate(256);
+			message.appendMessage(buffer, binds);
+			buffer.flip();
+			assertEquals(define, expected, buffer.toString());
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package org.ideaccum.libs.commons.message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * メッセージ操作用スクリプト及び、JSON形式の出力内容を検証するテストクラスです。<br>
+ * <p>
+ * 文字出力ストリームへの出力が、キャッシュされたUTF-8バイト列の出力と同一の内容となることを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         スクリプトで編集できないメッセージの除外の検証を追加
+ *-->
+ */
+public class MessagesExportTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * 復号バッファの境界をまたぐマルチバイト文字を含むメッセージ定義情報を生成します。<br>
+	 * @return メッセージ定義情報
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private Messages create() throws IOException {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i <= 1999; i++) {
+			builder.append("MSG").append(i).append("-I=\\u65e5\\u672c\\u8a9e {0} \\ud842\\udfb7 \"quoted\" </script>\n");
+		}
+		File file = new File(folder.getRoot(), "messages.properties");
+		OutputStream stream = new FileOutputStream(file);
+		try {
+			stream.write(builder.toString().getBytes(StandardCharsets.ISO_8859_1));
+		} finally {
+			stream.close();
+		}
+		return Messages.create(false).load(file.getAbsolutePath());
+	}
+
+	/**
+	 * 文字出力ストリームへのスクリプト出力がUTF-8バイト列の出力と同一の内容となることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void scriptWriterMatchesBytes() throws Exception {
+		Messages messages = create();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		messages.writeScript(bytes, false);
+		StringWriter text = new StringWriter();
+		messages.writeScript(new PrintWriter(text));
+		String expected = new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+		assertTrue(expected.length() > 8192 * 4);
+		assertTrue(expected.contains("\u65e5\u672c\u8a9e {0} \ud842\udfb7 \\\"quoted\\\" \\u003c/script>"));
+		assertEquals(expected, text.toString());
+
+		// 2回目以降はキャッシュされた出力内容から出力
+		text = new StringWriter();
+		messages.writeScript(new PrintWriter(text));
+		assertEquals(expected, text.toString());
+	}
+
+	/**
+	 * 文字出力ストリームへのJSON出力がUTF-8バイト列の出力と同一の内容となることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void jsonWriterMatchesBytes() throws Exception {
+		Messages messages = create();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		messages.writeJson(bytes, false);
+		StringWriter text = new StringWriter();
+		messages.writeJson(new PrintWriter(text));
+		assertEquals(new String(bytes.toByteArray(), StandardCharsets.UTF_8), text.toString());
+	}
+
+	/**
+	 * メッセージ操作用スクリプトで編集できないメッセージがスクリプト及び、JSON出力から除外されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void unscriptableMessagesAreExcluded() throws Exception {
+		File file = new File(folder.getRoot(), "typed.properties");
+		OutputStream stream = new FileOutputStream(file);
+		try {
+			stream.write("A-I={user} has {0,number,#,##0}\nB-I={0,date,EEE}\nC-I=plain {0}\n".getBytes(StandardCharsets.ISO_8859_1));
+		} finally {
+			stream.close();
+		}
+		Messages messages = Messages.create(false).load(file.getAbsolutePath());
+		assertEquals(3, messages.keySet().size());
+		StringWriter script = new StringWriter();
+		messages.writeScript(new PrintWriter(script));
+		StringWriter json = new StringWriter();
+		messages.writeJson(new PrintWriter(json));
+		for (String text : new String[] { script.toString(), json.toString() }) {
+			assertTrue(text.contains("[\"A\",\"Information\",\"{user} has {0,number,#,##0}\"]"));
+			assertTrue(text.contains("[\"C\",\"Information\",\"plain {0}\"]"));
+			assertFalse(text.contains("EEE"));
+		}
+	}
+}
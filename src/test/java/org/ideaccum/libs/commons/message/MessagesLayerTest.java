@@ -0,0 +1,118 @@
+package org.ideaccum.libs.commons.message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * 階層化されたメッセージ定義情報の解決を検証するテストクラスです。<br>
+ * <p>
+ * 親階層の定義が複製されずに階層を辿って解決され、いずれかの階層の更新で解決結果キャッシュが破棄されることを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+public class MessagesLayerTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * ファイルを出力します。<br>
+	 * @param name ファイル名
+	 * @param content ファイル内容
+	 * @return ファイルパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String content) throws IOException {
+		File file = new File(folder.getRoot(), name);
+		OutputStream stream = new FileOutputStream(file);
+		try {
+			stream.write(content.getBytes(StandardCharsets.ISO_8859_1));
+		} finally {
+			stream.close();
+		}
+		return file.getAbsolutePath();
+	}
+
+	/**
+	 * 子階層で定義されていないメッセージが親階層から解決され、子階層の定義が優先されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void resolvesThroughChain() throws Exception {
+		Messages root = Messages.create(false).load(write("root.properties", "A-I=root a\nB-I=root b\nC-I=root c\n"));
+		Messages module = Messages.create(root).load(write("module.properties", "B-I=module b\n"));
+		Messages tenant = Messages.create(module).load(write("tenant.properties", "C-I=tenant c\n"));
+		assertEquals("root a", tenant.get("A").getDefine());
+		assertEquals("module b", tenant.get("B").getDefine());
+		assertEquals("tenant c", tenant.get("C").getDefine());
+		assertEquals("root c", module.get("C").getDefine());
+		assertNull(tenant.get("D"));
+		assertEquals(1, tenant.keySet().size());
+	}
+
+	/**
+	 * 親階層の読み込みで子階層の解決結果キャッシュが破棄されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void parentLoadInvalidatesChildCache() throws Exception {
+		Messages root = Messages.create(false).load(write("root.properties", "A-I=first\n"));
+		Messages module = Messages.create(root);
+		Messages tenant = Messages.create(module);
+		assertEquals("first", tenant.get("A").getDefine());
+		assertNull(tenant.get("B"));
+
+		// 解決済み及び、解決できなかったメッセージコードの双方が再解決される
+		root.load(write("second.properties", "A-I=second\nB-I=added\n"), MessagesLoadMode.REPLACE_EXISTS);
+		assertEquals("second", tenant.get("A").getDefine());
+		assertEquals("added", tenant.get("B").getDefine());
+
+		// 中間階層の更新も同様に反映される
+		module.load(write("module.properties", "A-W=module\n"));
+		assertEquals("module", tenant.get("A").getDefine());
+		assertEquals(MessageLevel.WARNING, tenant.get("A").getLevel());
+		module.destroy();
+		assertEquals("second", tenant.get("A").getDefine());
+	}
+
+	/**
+	 * 階層化されたインスタンスへのマージが自身の階層のみに反映され、親階層の定義が複製されないことを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void mergeIsLocal() throws Exception {
+		Messages root = Messages.create(false).load(write("root.properties", "A-I=root\n"));
+		Messages tenant = Messages.create(root);
+
+		// 親階層のマージでは複製されず、以降の親階層の更新が反映される
+		tenant.merge(root);
+		assertTrue(tenant.keySet().isEmpty());
+		root.load(write("updated.properties", "A-I=updated\n"));
+		assertEquals("updated", tenant.get("A").getDefine());
+
+		// 階層外のインスタンスのマージは自身の階層のみに反映される
+		Messages other = Messages.create(false).load(write("other.properties", "A-E=other\nB-I=b\n"));
+		tenant.merge(other);
+		assertEquals(2, tenant.keySet().size());
+		assertEquals("other", tenant.get("A").getDefine());
+		assertEquals("b", tenant.get("B").getDefine());
+		assertEquals("updated", root.get("A").getDefine());
+		assertNull(root.get("B"));
+	}
+}
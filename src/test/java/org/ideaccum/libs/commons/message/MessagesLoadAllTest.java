@@ -0,0 +1,132 @@
+package org.ideaccum.libs.commons.message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.ideaccum.libs.commons.message.exception.MessageLoadException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * 複数メッセージリソースの一括読み込みを検証するテストクラスです。<br>
+ * <p>
+ * 解析結果が指定順序で一度に反映され、いずれかの読み込みに失敗した場合は未完了の読み込みが取り消されて定義内容が維持されることを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+public class MessagesLoadAllTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * ファイルを出力します。<br>
+	 * @param name ファイル名
+	 * @param content ファイル内容
+	 * @return ファイルパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String content) throws IOException {
+		File file = new File(folder.getRoot(), name);
+		OutputStream stream = new FileOutputStream(file);
+		try {
+			stream.write(content.getBytes(StandardCharsets.ISO_8859_1));
+		} finally {
+			stream.close();
+		}
+		return file.getAbsolutePath();
+	}
+
+	/**
+	 * 解析結果が指定順序で読み込みモードに従って反映されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void appliesInOrder() throws Exception {
+		List<String> paths = new ArrayList<>();
+		for (int i = 0; i <= 15; i++) {
+			paths.add(write("messages" + i + ".properties", "A-I=" + i + "\nM" + i + "-I=m" + i + "\n"));
+		}
+		Messages messages = Messages.create(false).loadAll(paths, MessagesLoadMode.REPLACE_EXISTS);
+		assertEquals("15", messages.get("A").getDefine());
+		assertEquals(17, messages.keySet().size());
+
+		messages = Messages.create(false).loadAll(paths, MessagesLoadMode.SKIP_EXISTS);
+		assertEquals("0", messages.get("A").getDefine());
+	}
+
+	/**
+	 * いずれかの読み込みに失敗した場合に未完了の読み込みが取り消され、定義内容が維持されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void failureCancelsRest() throws Exception {
+		Messages messages = Messages.create(false).load(write("base.properties", "A-I=base\n"));
+		List<String> paths = Arrays.asList( //
+				write("broken.xml", "<messages><message code=\"B-I\" value=\"b\"></messages>"), //
+				write("b.properties", "A-I=b\nB-I=b\n"), //
+				write("c.properties", "C-I=c\n"));
+
+		// 先頭の読み込みのみを実行し、以降の読み込みは実行せずに保持する
+		final List<Runnable> pending = new ArrayList<>();
+		Executor executor = new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				if (pending.isEmpty()) {
+					pending.add(null);
+					command.run();
+				} else {
+					pending.add(command);
+				}
+			}
+		};
+		try {
+			messages.loadAll(paths, MessagesLoadMode.REPLACE_EXISTS, executor);
+			fail();
+		} catch (MessageLoadException e) {
+			assertEquals(3, pending.size());
+		}
+
+		// 取り消された読み込みは実行されても読み込みを行わない
+		MessagesMetrics metrics = MessagesMetrics.enable();
+		try {
+			metrics.reset();
+			for (int i = 1; i <= pending.size() - 1; i++) {
+				pending.get(i).run();
+			}
+			assertEquals(0, metrics.getLoads());
+		} finally {
+			MessagesMetrics.disable();
+		}
+		assertEquals("base", messages.get("A").getDefine());
+		assertNull(messages.get("B"));
+		assertNull(messages.get("C"));
+		assertEquals(1, messages.keySet().size());
+
+		// 専用スレッドプールでの読み込みでも同様に維持される
+		try {
+			messages.loadAll(Arrays.asList(paths.get(1), paths.get(2), paths.get(0)), MessagesLoadMode.REPLACE_EXISTS);
+			fail();
+		} catch (MessageLoadException e) {
+			assertEquals("base", messages.get("A").getDefine());
+			assertNull(messages.get("C"));
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package org.ideaccum.libs.commons.message;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * 利用状況の計測を検証するテストクラスです。<br>
+ * <p>
+ * メッセージの取得、編集及び、メッセージリソースの読み込みが計測有効時のみ計数され、リスナーに通知されることを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+public class MessagesMetricsTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * 計測を無効化します。<br>
+	 */
+	@After
+	public void disable() {
+		MessagesMetrics.disable();
+	}
+
+	/**
+	 * ファイルを出力します。<br>
+	 * @param name ファイル名
+	 * @param content ファイル内容
+	 * @return ファイルパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String content) throws IOException {
+		File file = new File(folder.getRoot(), name);
+		OutputStream stream = new FileOutputStream(file);
+		try {
+			stream.write(content.getBytes(StandardCharsets.ISO_8859_1));
+		} finally {
+			stream.close();
+		}
+		return file.getAbsolutePath();
+	}
+
+	/**
+	 * メッセージの取得及び、編集が計数されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void countsLookupsAndRenders() throws Exception {
+		Messages messages = Messages.create(false).load(write("messages.properties", "A-I=a {0}\nB-E=b\n"));
+		MessagesMetrics metrics = MessagesMetrics.enable();
+		metrics.reset();
+		final List<String> missed = new ArrayList<>();
+		metrics.addListener(new MessagesMetricsListener() {
+			@Override
+			public void missed(String code) {
+				missed.add(code);
+			}
+
+			@Override
+			public void loaded(String filePath, long nanos, boolean reload) {
+			}
+		});
+
+		messages.get("A").getMessage("x");
+		messages.get("A-I").getMessage("y");
+		messages.get("B").getMessage();
+		assertNull(messages.get("C"));
+		assertNull(messages.get("C"));
+		assertEquals(3, metrics.getHits());
+		assertEquals(1, metrics.getDefineCodeLookups());
+		assertEquals(2, metrics.getMisses());
+		assertEquals(0, metrics.getGlobalHits());
+		assertEquals(3, metrics.getRenders());
+		assertEquals(2, metrics.getRenders("A"));
+		assertArrayEquals(new String[] { "A=2", "B=1" }, metrics.getTopRenderedCodes(5));
+		assertArrayEquals(new String[] { "C=2" }, metrics.getTopMissedCodes(5));
+		assertEquals(2, missed.size());
+
+		// 一括編集は編集件数をまとめて計数する
+		messages.renderer("B").renderAll(new Object[][] { {}, {}, {} }, false);
+		assertEquals(4, metrics.getRenders("B"));
+
+		metrics.reset();
+		assertEquals(0, metrics.getHits());
+		assertEquals(0, metrics.getTopRenderedCodes(5).length);
+	}
+
+	/**
+	 * メッセージリソースの読み込みが計数され、リスナーに通知されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void countsLoads() throws Exception {
+		String path = write("messages.properties", "A-I=a\n");
+		MessagesMetrics metrics = MessagesMetrics.enable();
+		metrics.reset();
+		final List<String> loaded = new ArrayList<>();
+		metrics.addListener(new MessagesMetricsListener() {
+			@Override
+			public void missed(String code) {
+			}
+
+			@Override
+			public void loaded(String filePath, long nanos, boolean reload) {
+				loaded.add(filePath + ":" + reload);
+				assertTrue(nanos >= 0);
+			}
+		});
+		Messages.create(false).load(path);
+		Messages.create(false).load(path);
+		assertEquals(2, metrics.getLoads());
+		assertEquals(0, metrics.getReloads());
+		assertEquals(2, loaded.size());
+		assertEquals(path + ":false", loaded.get(0));
+	}
+
+	/**
+	 * 計測の無効化後は計数されないことを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void disabledDoesNotCount() throws Exception {
+		Messages messages = Messages.create(false).load(write("messages.properties", "A-I=a\n"));
+		MessagesMetrics metrics = MessagesMetrics.enable();
+		assertSame(metrics, MessagesMetrics.enable());
+		metrics.reset();
+		MessagesMetrics.disable();
+		assertNull(MessagesMetrics.active());
+		messages.get("A").getMessage();
+		assertNull(messages.get("C"));
+		Messages.create(false).load(write("other.properties", "B-I=b\n"));
+		assertEquals(0, metrics.getHits());
+		assertEquals(0, metrics.getMisses());
+		assertEquals(0, metrics.getRenders());
+		assertEquals(0, metrics.getLoads());
+	}
+}
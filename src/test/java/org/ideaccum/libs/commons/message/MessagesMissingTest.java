@@ -0,0 +1,141 @@
+package org.ideaccum.libs.commons.message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ideaccum.libs.commons.message.exception.MessageNotFoundException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * 存在しないメッセージコードでの取得を検証するテストクラスです。<br>
+ * <p>
+ * 存在しないメッセージコードのキャッシュがメッセージ定義情報の更新で破棄され、取得時の挙動が設定に従うことを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+public class MessagesMissingTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * ファイルを出力します。<br>
+	 * @param name ファイル名
+	 * @param content ファイル内容
+	 * @return ファイルパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String content) throws IOException {
+		File file = new File(folder.getRoot(), name);
+		OutputStream stream = new FileOutputStream(file);
+		try {
+			stream.write(content.getBytes(StandardCharsets.ISO_8859_1));
+		} finally {
+			stream.close();
+		}
+		return file.getAbsolutePath();
+	}
+
+	/**
+	 * 存在しないメッセージコードのキャッシュが読み込み、マージ及び、クリアで破棄されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void missingCacheIsInvalidated() throws Exception {
+		Messages messages = Messages.create(false).load(write("a.properties", "A-I=a\n"));
+		for (int i = 0; i <= 2; i++) {
+			assertNull(messages.get("B"));
+			assertNull(messages.get("C-E"));
+		}
+
+		// 読み込み
+		messages.load(write("b.properties", "B-I=b\n"), MessagesLoadMode.REPLACE_EXISTS);
+		assertEquals("b", messages.get("B").getDefine());
+		assertNull(messages.get("C-E"));
+
+		// マージ
+		messages.merge(Messages.create(false).load(write("c.properties", "C-E=c\n")));
+		assertEquals("c", messages.get("C-E").getDefine());
+		assertEquals("c", messages.get("C").getDefine());
+
+		// クリア
+		messages.destroy();
+		assertNull(messages.get("A"));
+		assertNull(messages.get("B"));
+		messages.load(write("d.properties", "A-I=again\n"));
+		assertEquals("again", messages.get("A").getDefine());
+	}
+
+	/**
+	 * 代替メッセージ及び、例外による挙動を検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void placeholderAndThrow() throws Exception {
+		Messages messages = Messages.create(false).load(write("a.properties", "A-I=a\n"));
+		messages.setMissingPolicy(MessageMissingPolicy.PLACEHOLDER);
+		Message placeholder = messages.get("X");
+		assertEquals("???X???", placeholder.getMessage("bind"));
+		assertEquals(MessageLevel.UNKOWN, placeholder.getLevel());
+		assertSame(placeholder, messages.get("X"));
+		assertEquals("a", messages.get("A").getDefine());
+
+		messages.setMissingPolicy(MessageMissingPolicy.THROW);
+		try {
+			messages.get("X");
+			fail();
+		} catch (MessageNotFoundException e) {
+			assertEquals("a", messages.get("A").getDefine());
+		}
+
+		messages.setMissingPolicy(null);
+		assertEquals(MessageMissingPolicy.NULL, messages.getMissingPolicy());
+		assertNull(messages.get("X"));
+	}
+
+	/**
+	 * 存在しないメッセージコードがメッセージコードごとに一度だけ通知され、メッセージ定義情報の更新後に再度通知されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void reportsOncePerUpdate() throws Exception {
+		final Messages messages = Messages.create(false).load(write("a.properties", "A-I=a\n"));
+		final List<String> reported = new ArrayList<>();
+		messages.setMissingPolicy(MessageMissingPolicy.REPORT);
+		messages.setMissingReporter(new MessageMissingReporter() {
+			@Override
+			public void missing(Messages source, String code) {
+				assertSame(messages, source);
+				reported.add(code);
+			}
+		});
+		for (int i = 0; i <= 4; i++) {
+			assertNull(messages.get("X"));
+			assertNull(messages.get("Y"));
+		}
+		assertEquals(2, reported.size());
+
+		messages.load(write("b.properties", "Y-I=y\n"), MessagesLoadMode.REPLACE_EXISTS);
+		assertNull(messages.get("X"));
+		assertEquals("y", messages.get("Y").getDefine());
+		assertEquals(3, reported.size());
+		assertEquals("X", reported.get(2));
+	}
+}
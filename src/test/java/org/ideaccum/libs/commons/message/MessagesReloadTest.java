@@ -0,0 +1,326 @@
+package org.ideaccum.libs.commons.message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * メッセージリソースの再読み込みを検証するテストクラスです。<br>
+ * <p>
+ * 再読み込み時に読み込み及び、マージ操作の履歴が操作順序と読み込みモードを維持して再反映されることを検証します。<br>
+ * 監視による自動的な再読み込みが検証中に行われないよう、待機時間を十分に長くした監視状態で再読み込みを直接呼び出して検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ * 2026/10/17  Kitagawa         変更された操作履歴以降のみの再反映、複数リソースの一括再読み込み及び、監視対象インスタンスの弱参照の検証を追加
+ *-->
+ */
+public class MessagesReloadTest {
+
+	/** 再読み込みまでの待機時間(検証中に自動的な再読み込みを行わない) */
+	private static final long DEBOUNCE = 60 * 60 * 1000L;
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/** メッセージ定義情報 */
+	private Messages messages;
+
+	/**
+	 * メッセージ定義情報を生成します。<br>
+	 */
+	@Before
+	public void setUp() {
+		messages = Messages.create(false);
+	}
+
+	/**
+	 * メッセージ定義情報の監視を終了します。<br>
+	 */
+	@After
+	public void tearDown() {
+		messages.unwatch();
+	}
+
+	/**
+	 * ファイルを出力します。<br>
+	 * @param name ファイル名
+	 * @param content ファイル内容
+	 * @return ファイルパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String content) throws IOException {
+		File file = new File(folder.getRoot(), name);
+		OutputStream stream = new FileOutputStream(file);
+		try {
+			stream.write(content.getBytes(StandardCharsets.ISO_8859_1));
+		} finally {
+			stream.close();
+		}
+		return file.getAbsolutePath();
+	}
+
+	/**
+	 * メッセージ定義内容を取得します。<br>
+	 * @param code メッセージコード
+	 * @return メッセージ定義内容(メッセージが存在しない場合はnull)
+	 */
+	private String define(String code) {
+		Message message = messages.get(code);
+		return message == null ? null : message.getDefine();
+	}
+
+	/**
+	 * 再読み込みしたリソースの後に読み込まれたリソースの定義が優先されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void replayKeepsLoadOrder() throws Exception {
+		messages.watch(DEBOUNCE);
+		String p = write("p.properties", "A-I=a1\nB-I=b1\n");
+		String q = write("q.properties", "B-I=b2\nC-I=c2\n");
+		messages.load(p);
+		messages.load(q, MessagesLoadMode.REPLACE_EXISTS);
+
+		write("p.properties", "A-I=a3\nB-I=b3\n");
+		messages.reload(p);
+		assertEquals("a3", define("A"));
+		assertEquals("b2", define("B"));
+		assertEquals("c2", define("C"));
+
+		write("q.properties", "B-I=b4\n");
+		messages.reload(q);
+		assertEquals("a3", define("A"));
+		assertEquals("b4", define("B"));
+		assertNull(define("C"));
+	}
+
+	/**
+	 * 全て置き換えるモードで読み込まれたリソースの再読み込みで、削除された定義が除去されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void replaceAllRemovesDeleted() throws Exception {
+		messages.watch(DEBOUNCE);
+		String p = write("p.properties", "A-I=a1\nB-I=b1\n");
+		messages.load(p, MessagesLoadMode.REPLACE_ALL);
+		write("p.properties", "A-I=a2\n");
+		messages.reload(p);
+		assertEquals("a2", define("A"));
+		assertNull(define("B"));
+	}
+
+	/**
+	 * 既存の定義を維持するモードで読み込まれたリソースの再読み込みで、既存の定義が維持されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void skipExistsKeepsEarlier() throws Exception {
+		messages.watch(DEBOUNCE);
+		String p = write("p.properties", "A-I=a1\n");
+		String q = write("q.properties", "A-I=a2\nB-I=b2\n");
+		messages.load(p);
+		messages.load(q, MessagesLoadMode.SKIP_EXISTS);
+		assertEquals("a1", define("A"));
+
+		write("q.properties", "A-I=a3\nB-I=b3\n");
+		messages.reload(q);
+		assertEquals("a1", define("A"));
+		assertEquals("b3", define("B"));
+
+		write("p.properties", "A-I=a4\n");
+		messages.reload(p);
+		assertEquals("a4", define("A"));
+		assertEquals("b3", define("B"));
+	}
+
+	/**
+	 * マージされた定義が操作順序を維持して再反映されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void replayKeepsMergeOrder() throws Exception {
+		messages.watch(DEBOUNCE);
+		String p = write("p.properties", "A-I=a1\nB-I=b1\n");
+		String q = write("q.properties", "C-I=c1\n");
+		messages.load(p);
+		Messages other = Messages.create(false);
+		other.load(write("other.properties", "B-I=merged\nD-I=merged\n"));
+		messages.merge(other);
+		messages.load(q, MessagesLoadMode.REPLACE_EXISTS);
+
+		write("p.properties", "A-I=a2\nB-I=b2\n");
+		messages.reload(p);
+		assertEquals("a2", define("A"));
+		assertEquals("merged", define("B"));
+		assertEquals("c1", define("C"));
+		assertEquals("merged", define("D"));
+
+		write("q.properties", "C-I=c2\nD-I=d2\n");
+		messages.reload(q);
+		assertEquals("merged", define("B"));
+		assertEquals("c2", define("C"));
+		assertEquals("d2", define("D"));
+	}
+
+	/**
+	 * 監視開始前に読み込まれたリソースの再読み込みが現在の内容に上書きで反映されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void loadedBeforeWatchOverlays() throws Exception {
+		String p = write("p.properties", "A-I=a1\nB-I=b1\n");
+		String q = write("q.properties", "B-I=b2\nC-I=c2\n");
+		messages.load(p);
+		messages.load(q, MessagesLoadMode.REPLACE_EXISTS);
+		messages.watch(DEBOUNCE);
+
+		write("p.properties", "A-I=a3\n");
+		messages.reload(p);
+		assertEquals("a3", define("A"));
+		assertEquals("b2", define("B"));
+		assertEquals("c2", define("C"));
+
+		write("q.properties", "C-I=c4\n");
+		messages.reload(q);
+		assertEquals("a3", define("A"));
+		assertEquals("b2", define("B"));
+		assertEquals("c4", define("C"));
+	}
+
+	/**
+	 * 再読み込みに失敗した場合に現在の定義が維持されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void failedReloadKeepsCurrent() throws Exception {
+		messages.watch(DEBOUNCE);
+		String x = write("x.xml", "<messages><message code=\"X-I\" value=\"x1\"/></messages>");
+		messages.load(x);
+		write("x.xml", "<messages><message code=");
+		messages.reload(x);
+		assertEquals("x1", define("X"));
+
+		write("x.xml", "<messages><message code=\"X-I\" value=\"x2\"/></messages>");
+		messages.reload(x);
+		assertEquals("x2", define("X"));
+	}
+
+	/**
+	 * 監視していない場合に再読み込みが行われないことを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void reloadRequiresWatch() throws Exception {
+		String p = write("p.properties", "A-I=a1\n");
+		messages.load(p);
+		write("p.properties", "A-I=a2\n");
+		messages.reload(p);
+		assertEquals("a1", define("A"));
+
+		messages.watch(DEBOUNCE);
+		messages.unwatch();
+		messages.reload(p);
+		assertEquals("a1", define("A"));
+	}
+
+	/**
+	 * 操作履歴ごとの反映後メッセージ定義情報を取得します。<br>
+	 * @return 操作履歴ごとの反映後メッセージ定義情報
+	 * @throws Exception 取得に失敗した場合にスローされます
+	 */
+	@SuppressWarnings("unchecked")
+	private List<MessageTable> checkpoints() throws Exception {
+		Field field = Messages.class.getDeclaredField("checkpoints");
+		field.setAccessible(true);
+		return (List<MessageTable>) field.get(messages);
+	}
+
+	/**
+	 * 再読み込みで変更された操作履歴より前の反映後メッセージ定義情報が再構築されないことを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void replayStartsAtChangedRecord() throws Exception {
+		messages.watch(DEBOUNCE);
+		String p = write("p.properties", "A-I=a1\n");
+		String q = write("q.properties", "B-I=b1\n");
+		String r = write("r.properties", "C-I=c1\n");
+		messages.load(p, MessagesLoadMode.REPLACE_EXISTS);
+		messages.load(q, MessagesLoadMode.REPLACE_EXISTS);
+		messages.load(r, MessagesLoadMode.REPLACE_EXISTS);
+		List<MessageTable> before = Arrays.asList(checkpoints().toArray(new MessageTable[0]));
+		assertEquals(4, before.size());
+
+		write("q.properties", "B-I=b2\n");
+		messages.reload(q);
+		List<MessageTable> after = checkpoints();
+		assertSame(before.get(0), after.get(0));
+		assertSame(before.get(1), after.get(1));
+		assertNotSame(before.get(2), after.get(2));
+		assertNotSame(before.get(3), after.get(3));
+		assertEquals("b2", define("B"));
+		assertEquals("c1", define("C"));
+	}
+
+	/**
+	 * 複数のメッセージリソースが一括で再読み込みされ、失敗したリソースのみ現在の内容が維持されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void reloadsTogether() throws Exception {
+		messages.watch(DEBOUNCE);
+		String p = write("p.properties", "A-I=a1\n");
+		String x = write("x.xml", "<messages><message code=\"X-I\" value=\"x1\"/></messages>");
+		String q = write("q.properties", "B-I=b1\n");
+		messages.load(p, MessagesLoadMode.REPLACE_EXISTS);
+		messages.load(x, MessagesLoadMode.REPLACE_EXISTS);
+		messages.load(q, MessagesLoadMode.REPLACE_EXISTS);
+
+		write("p.properties", "A-I=a2\n");
+		write("x.xml", "<messages><message code=");
+		write("q.properties", "B-I=b2\n");
+		messages.reload(Arrays.asList(p, x, q));
+		assertEquals("a2", define("A"));
+		assertEquals("x1", define("X"));
+		assertEquals("b2", define("B"));
+	}
+
+	/**
+	 * 監視中のインスタンスが監視によって参照され続けないことを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void watchDoesNotRetainInstance() throws Exception {
+		Messages watched = Messages.create(false);
+		watched.load(write("p.properties", "A-I=a1\n"));
+		watched.watch(DEBOUNCE);
+		WeakReference<Messages> reference = new WeakReference<>(watched);
+		watched = null;
+		for (int i = 0; i <= 99 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertNull(reference.get());
+	}
+}
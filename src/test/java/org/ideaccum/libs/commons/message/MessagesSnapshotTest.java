@@ -0,0 +1,148 @@
+package org.ideaccum.libs.commons.message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * メッセージ定義情報の不変スナップショットによる更新を検証するテストクラスです。<br>
+ * <p>
+ * 更新がスナップショットの差し替えで公開され、参照処理が更新前後いずれかの完全な内容を参照することを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+public class MessagesSnapshotTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * ファイルを出力します。<br>
+	 * @param name ファイル名
+	 * @param content ファイル内容
+	 * @return ファイルパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String content) throws IOException {
+		File file = new File(folder.getRoot(), name);
+		OutputStream stream = new FileOutputStream(file);
+		try {
+			stream.write(content.getBytes(StandardCharsets.ISO_8859_1));
+		} finally {
+			stream.close();
+		}
+		return file.getAbsolutePath();
+	}
+
+	/**
+	 * 読み込み前に存在しなかったメッセージコードが読み込み後に取得できることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void loadPublishesMissingCode() throws Exception {
+		Messages messages = Messages.create(false);
+		messages.load(write("a.properties", "A-I=a\n"));
+		assertNull(messages.get("B"));
+		assertNull(messages.get("B-E"));
+		messages.load(write("b.properties", "B-E=b\n"), MessagesLoadMode.REPLACE_EXISTS);
+		assertEquals("b", messages.get("B").getDefine());
+		assertEquals("b", messages.get("B-E").getDefine());
+		assertEquals("a", messages.get("A").getDefine());
+	}
+
+	/**
+	 * 取得済みのキーセットが以降の更新の影響を受けず、変更できないことを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void keySetIsSnapshot() throws Exception {
+		Messages messages = Messages.create(false);
+		messages.load(write("a.properties", "A-I=a\n"));
+		Set<String> keys = messages.keySet();
+		messages.load(write("b.properties", "B-I=b\n"), MessagesLoadMode.REPLACE_EXISTS);
+		assertEquals(1, keys.size());
+		assertTrue(keys.contains("A"));
+		assertEquals(2, messages.keySet().size());
+		try {
+			keys.add("C");
+			fail();
+		} catch (UnsupportedOperationException e) {
+			assertFalse(keys.contains("C"));
+		}
+		messages.destroy();
+		assertEquals(1, keys.size());
+		assertTrue(messages.keySet().isEmpty());
+	}
+
+	/**
+	 * 読み込み中の参照処理が更新前後いずれかの完全な内容を参照することを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void readersSeeWholeSnapshots() throws Exception {
+		StringBuilder first = new StringBuilder();
+		StringBuilder second = new StringBuilder();
+		for (int i = 0; i <= 199; i++) {
+			first.append("M").append(i).append("-I=first\n");
+			second.append("M").append(i).append("-I=second\n");
+		}
+		final String[] paths = { write("first.properties", first.toString()), write("second.properties", second.toString()) };
+		final Messages messages = Messages.create(false);
+		messages.load(paths[0]);
+
+		final AtomicBoolean running = new AtomicBoolean(true);
+		final AtomicReference<String> failure = new AtomicReference<>();
+		Thread reader = new Thread() {
+			@Override
+			public void run() {
+				while (running.get()) {
+					Collection<Message> values = messages.values(MessageLevel.INFORMATION);
+					String define = null;
+					for (Message message : values) {
+						if (define == null) {
+							define = message.getDefine();
+						} else if (!define.equals(message.getDefine())) {
+							failure.compareAndSet(null, define + "/" + message.getDefine());
+						}
+					}
+					if (values.size() != 200) {
+						failure.compareAndSet(null, "size " + values.size());
+					}
+				}
+			}
+		};
+		reader.start();
+		try {
+			for (int i = 0; i <= 199; i++) {
+				messages.load(paths[i % 2]);
+			}
+		} finally {
+			running.set(false);
+			reader.join();
+		}
+		assertNull(failure.get());
+		assertNotNull(messages.get("M199"));
+	}
+}
@@ -0,0 +1,247 @@
+package org.ideaccum.libs.commons.message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLStreamException;
+
+import org.ideaccum.libs.commons.message.exception.MessageLoadException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * XMLリソースの解析を検証するテストクラスです。<br>
+ * <p>
+ * ストリーム解析(StAX)による読み込みが、以前のドキュメント展開(DOM)による読み込みと同一のメッセージを生成し、同一の定義内容を不正として扱うことを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  Kitagawa         新規作成
+ *-->
+ */
+public class MessagesXMLTest {
+
+	/** 正常に読み込まれるXML内容 */
+	private static final String[] VALID = { //
+			"<messages><message code=\"A-I\" value=\"a {0}\"/><message code=\"B-E\" value=\"b\"/></messages>", //
+			"<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<!-- comment -->\n<messages>\n  <message code=\"A-W\" value=\"a\"/>\n</messages>\n", //
+			"<messages><group><message code=\"A-I\" value=\"nested\"/></group><message code=\"B-I\" value=\"b\"/></messages>", //
+			"<messages><message code=\"A-I\"/></messages>", //
+			"<messages><message code=\"A-I\" value=\"\"/></messages>", //
+			"<messages><message code=\"A-I\" value=\"first\"/><message code=\"A-E\" value=\"second\"/></messages>", //
+			"<messages><message code=\"A-I\" value=\"&amp;&lt;&#x41;&quot;\"/></messages>", //
+			"<messages><message code=\"A-I\" value=\"text\">ignored content</message></messages>", //
+			"<messages><ns:message code=\"A-I\" value=\"prefixed\"/><message code=\"B-I\" value=\"b\"/></messages>", //
+			"<messages/>", //
+	};
+
+	/** 不正として扱われるXML内容 */
+	private static final String[] INVALID = { //
+			"", //
+			"<messages>", //
+			"<messages><message code=\"A-I\" value=\"a\"></messages>", //
+			"<root><message code=\"A-I\" value=\"a\"/></root>", //
+			"<messages><message value=\"a\"/></messages>", //
+			"<messages><message code=\"\" value=\"a\"/></messages>", //
+			"<messages><message code=\"A-I\" value=\"a\"/></messages><messages/>", //
+			"<messages><message code=\"A\" value=\"no level\"/></messages>", //
+			"<messages><message code=\"A-X\" value=\"unknown level\"/></messages>", //
+	};
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * 以前のドキュメント展開(DOM)による読み込みと同一の処理でXML内容を解析します。<br>
+	 * @param xml XML内容
+	 * @return 定義メッセージコードをキーとした定義メッセージ内容
+	 * @throws Exception 定義内容が不正な場合にスローされます
+	 */
+	private static Map<String, String> parseDOM(String xml) throws Exception {
+		Map<String, String> map = new TreeMap<>();
+		DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+		Document document = builder.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+		Element messagesElement = document.getDocumentElement();
+		if (!"messages".equals(messagesElement.getNodeName())) {
+			throw new SAXException();
+		}
+		NodeList messageElements = messagesElement.getElementsByTagName("message");
+		for (int i = 0; i <= messageElements.getLength() - 1; i++) {
+			Element messageElement = (Element) messageElements.item(i);
+			String code = messageElement.getAttribute("code");
+			String value = messageElement.getAttribute("value");
+			if (code == null || code.isEmpty()) {
+				throw new SAXException("message node is code attribute required");
+			}
+			Message message = new Message(code, value);
+			map.put(message.getCode(), message.getLevel() + "=" + message.getDefine());
+		}
+		return map;
+	}
+
+	/**
+	 * ストリーム解析(StAX)でXML内容を解析します。<br>
+	 * @param xml XML内容
+	 * @return 定義メッセージコードをキーとした定義メッセージ内容
+	 * @throws Exception 定義内容が不正な場合にスローされます
+	 */
+	private static Map<String, String> parseStAX(String xml) throws Exception {
+		Map<String, String> map = new TreeMap<>();
+		InputStream stream = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+		try {
+			for (Message message : Messages.parseXML(stream).values()) {
+				map.put(message.getCode(), message.getLevel() + "=" + message.getDefine());
+			}
+		} finally {
+			stream.close();
+		}
+		return map;
+	}
+
+	/**
+	 * XML内容をファイルに出力します。<br>
+	 * @param name ファイル名
+	 * @param xml XML内容
+	 * @return ファイルパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String xml) throws IOException {
+		File file = new File(folder.getRoot(), name);
+		OutputStream stream = new FileOutputStream(file);
+		try {
+			stream.write(xml.getBytes(StandardCharsets.UTF_8));
+		} finally {
+			stream.close();
+		}
+		return file.getAbsolutePath();
+	}
+
+	/**
+	 * 正常なXML内容から同一のメッセージが生成されることを検証します。<br>
+	 * @throws Exception 解析に失敗した場合にスローされます
+	 */
+	@Test
+	public void validMatchesDOM() throws Exception {
+		for (String xml : VALID) {
+			assertEquals(xml, parseDOM(xml), parseStAX(xml));
+		}
+	}
+
+	/**
+	 * 不正なXML内容が同様に不正として扱われることを検証します。<br>
+	 */
+	@Test
+	public void invalidMatchesDOM() {
+		for (String xml : INVALID) {
+			boolean dom;
+			try {
+				parseDOM(xml);
+				dom = false;
+			} catch (Exception e) {
+				dom = true;
+			}
+			boolean stax;
+			try {
+				parseStAX(xml);
+				stax = false;
+			} catch (Exception e) {
+				stax = true;
+			}
+			assertTrue(xml, dom);
+			assertTrue(xml, stax);
+		}
+	}
+
+	/**
+	 * 構文が不正なXML内容の解析で位置情報を持つ例外がスローされることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void malformedHasLocation() throws Exception {
+		try {
+			parseStAX("<messages>\n<message code=\"A-I\" value=\"a\">\n</messages>");
+			fail();
+		} catch (XMLStreamException e) {
+			assertTrue(e.getLocation() != null && e.getLocation().getLineNumber() >= 2);
+		}
+	}
+
+	/**
+	 * ルート要素又は、コード属性が不正な場合の例外を検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void structureErrors() throws Exception {
+		try {
+			parseStAX("<root/>");
+			fail();
+		} catch (XMLStreamException e) {
+			assertTrue(e.getMessage().contains("root element is not messages"));
+		}
+		try {
+			parseStAX("<messages><message value=\"a\"/></messages>");
+			fail();
+		} catch (XMLStreamException e) {
+			assertTrue(e.getMessage().contains("code attribute required"));
+		}
+	}
+
+	/**
+	 * 外部エンティティが解決されないことを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void externalEntitiesAreNotResolved() throws Exception {
+		String secret = write("secret.txt", "secret");
+		String xml = "<?xml version=\"1.0\"?>\n<!DOCTYPE messages [<!ENTITY secret SYSTEM \"" + new File(secret).toURI() + "\">]>\n<messages><message code=\"A-I\" value=\"a\"/><message code=\"B-I\" value=\"&secret;\"/></messages>";
+		Map<String, String> map;
+		try {
+			map = parseStAX(xml);
+		} catch (XMLStreamException e) {
+			return;
+		}
+		assertFalse(String.valueOf(map.get("B")).contains("secret"));
+	}
+
+	/**
+	 * XMLリソースの読み込みで不正な定義内容が読み込み例外としてスローされ、読み込み前の定義が維持されることを検証します。<br>
+	 * @throws Exception 想定外の例外が発生した場合にスローされます
+	 */
+	@Test
+	public void loadWrapsErrors() throws Exception {
+		Messages messages = Messages.create(false);
+		messages.load(write("valid.xml", VALID[0]));
+		assertEquals("a x", messages.get("A").getMessage("x"));
+		for (int i = 0; i <= INVALID.length - 1; i++) {
+			try {
+				messages.load(write("invalid" + i + ".xml", INVALID[i]));
+				fail(INVALID[i]);
+			} catch (MessageLoadException e) {
+				assertEquals("a x", messages.get("A").getMessage("x"));
+			}
+		}
+		assertNull(messages.get("C"));
+	}
+}